@@ -0,0 +1,106 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.ai.BoardFeatures;
+import com.comp2042.tetris.ai.PlacementGenerator;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.BitboardGameBoard;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.util.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring every placement of one brick: incremental BoardFeatures updates from a shared parent versus
+ * merging into a copy of the matrix, clearing rows and recomputing the features from scratch.
+ * Both variants return a checksum of the features so the work cannot be eliminated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    // Random pieces dropped before measuring, to build a stack
+    @Param({"0", "10", "20"})
+    public int warmupPieces;
+
+    private int[][] matrix;
+    private PieceTable piece;
+    private final PlacementGenerator generator = new PlacementGenerator(ROWS, COLUMNS);
+    private final BoardFeatures parent = new BoardFeatures(ROWS, COLUMNS);
+    private final BoardFeatures child = new BoardFeatures(ROWS, COLUMNS);
+    private final BoardFeatures scratch = new BoardFeatures(ROWS, COLUMNS);
+    private int placementCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameEngine engine = new GameEngine(new BitboardGameBoard(ROWS, COLUMNS, new RandomBrickGenerator(warmupPieces)));
+        engine.start();
+        SplittableRandom random = new SplittableRandom(warmupPieces);
+        for (int i = 0; i < warmupPieces && !engine.isGameOver(); i++) {
+            int shift = random.nextInt(-4, 6);
+            for (int move = 0; move < shift; move++) {
+                engine.moveRight();
+            }
+            for (int move = 0; move > shift; move--) {
+                engine.moveLeft();
+            }
+            engine.hardDrop();
+        }
+        matrix = MatrixOperations.copy(engine.getBoard().getBoardMatrix());
+        piece = engine.getBoard().getCurrentBrick().getPieceTable();
+        parent.recompute(matrix);
+        placementCount = generator.generate(engine.getBoard());
+    }
+
+    @Benchmark
+    public long incremental() {
+        long checksum = 0;
+        for (int i = 0; i < placementCount; i++) {
+            int placement = generator.getPlacement(i);
+            child.copyFrom(parent);
+            child.place(piece.getRotation(PlacementGenerator.getRotation(placement)),
+                    PlacementGenerator.getX(placement), PlacementGenerator.getY(placement));
+            checksum += checksum(child);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long fromScratch() {
+        long checksum = 0;
+        for (int i = 0; i < placementCount; i++) {
+            int placement = generator.getPlacement(i);
+            int[][] shape = piece.getRotation(PlacementGenerator.getRotation(placement)).toMatrix();
+            int[][] merged = MatrixOperations.merge(matrix, shape,
+                    PlacementGenerator.getX(placement), PlacementGenerator.getY(placement));
+            scratch.recompute(MatrixOperations.checkRemoving(merged).getNewMatrix());
+            checksum += checksum(scratch);
+        }
+        return checksum;
+    }
+
+    private static long checksum(BoardFeatures features) {
+        return features.getAggregateHeight() + features.getHoles() * 31L + features.getBumpiness() * 961L
+                + features.getRowTransitions() + features.getColumnTransitions() + features.getWellSums();
+    }
+}
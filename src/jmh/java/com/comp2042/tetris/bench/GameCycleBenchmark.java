@@ -0,0 +1,118 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.dto.ClearRow;
+import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.dto.MoveResultData;
+import com.comp2042.tetris.input.InputEventListener;
+import com.comp2042.tetris.model.Board;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.view.GameView;
+import javafx.beans.property.IntegerProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one gravity tick: the down event cycle GameController runs (move or lock, clear, spawn, dirty-row
+ * refresh of the view and the result with view data), and the bare step on the headless GameEngine.
+ * The cycle is driven on the engine directly rather than through GameController, whose Score reads and writes the
+ * high-score file on game over and new game, and whose replay recorder grows for as long as the benchmark runs;
+ * neither belongs in the measured loop.
+ * Games restart when they end, so the measurement mixes plain moves with locks in their natural ratio.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameCycleBenchmark {
+
+    private NullView view;
+    private GameEngine cycleEngine;
+    private GameEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        view = new NullView();
+        cycleEngine = new GameEngine(new GameBoard(25, 10, new RandomBrickGenerator(1)));
+        cycleEngine.start();
+        engine = new GameEngine(new GameBoard(25, 10, new RandomBrickGenerator(1)));
+        engine.start();
+    }
+
+    // GameController.onDownEvent for a gravity tick, without the recorder and high-score persistence
+    @Benchmark
+    public MoveResultData downEventCycle() {
+        Board board = cycleEngine.getBoard();
+        ClearRow clearRow = null;
+        if (!cycleEngine.moveDown(false)) {
+            clearRow = cycleEngine.getLastClearRow();
+            if (cycleEngine.isGameOver()) {
+                view.gameOver();
+                cycleEngine.newGame();
+            }
+            long dirtyRows = board.pollDirtyRows();
+            if (dirtyRows != 0) {
+                view.refreshGameBackground(board.getBoardMatrix(), dirtyRows);
+            }
+        }
+        return new MoveResultData(clearRow, board.getViewData());
+    }
+
+    @Benchmark
+    public GameStateView engineDown() {
+        engine.moveDown(false);
+        if (engine.isGameOver()) {
+            engine.newGame();
+        }
+        engine.getBoard().pollDirtyRows();
+        return engine.getBoard().getViewData();
+    }
+
+    // View that counts refreshed rows and game overs and otherwise does nothing
+    private static final class NullView implements GameView {
+        int gameOvers;
+        long refreshedRows;
+
+        @Override
+        public void initGameView(int[][] boardMatrix, GameStateView brick) {
+        }
+
+        @Override
+        public void setEventListener(InputEventListener eventListener) {
+        }
+
+        @Override
+        public void bindScore(IntegerProperty scoreProperty, IntegerProperty highScoreProperty,
+                              IntegerProperty levelProperty, IntegerProperty linesClearedProperty,
+                              IntegerProperty linesToNextLevelProperty) {
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] board, long dirtyRows) {
+            refreshedRows += Long.bitCount(dirtyRows);
+        }
+
+        @Override
+        public void gameOver() {
+            gameOvers++;
+        }
+
+        @Override
+        public void updateGameSpeed(int speedInMillis) {
+        }
+    }
+}
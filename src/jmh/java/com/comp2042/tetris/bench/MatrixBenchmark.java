@@ -0,0 +1,137 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.dto.ClearRow;
+import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.BrickGenerator;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.util.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costs of the board primitives for every brick type on boards filled to different stack heights.
+ * The brick is placed at its landing row above the stack, where collision checks do the most work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    // Minimum height of the stack built under the brick before measuring
+    @Param({"0", "8", "16"})
+    public int stackHeight;
+
+    @Param({"I", "J", "L", "O", "S", "T", "Z"})
+    public BrickFactory.BrickType type;
+
+    private GameBoard board;
+    private int[][] matrix;
+    private int[][] shape;
+    private PieceTable.Rotation rotation;
+    private int x;
+    private int y;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Build the stack by dropping random bricks at random columns, then switch to the measured type
+        BenchGenerator generator = new BenchGenerator(stackHeight);
+        board = new GameBoard(ROWS, COLUMNS, generator);
+        SplittableRandom random = new SplittableRandom(stackHeight);
+        while (maxColumnHeight() < stackHeight) {
+            board.createNewBrick();
+            int shift = random.nextInt(-4, 6);
+            for (int i = 0; i < shift && board.moveBrickRight(); i++);
+            for (int i = 0; i > shift && board.moveBrickLeft(); i--);
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+        }
+        generator.fixed = BrickFactory.createBrick(type);
+        board.createNewBrick();
+        matrix = board.getBoardMatrix();
+
+        shape = BrickFactory.createBrick(type).getShapeMatrix().get(0);
+        rotation = PieceTable.forType(type).getRotation(0);
+        x = 3;
+        y = 0;
+        while (!MatrixOperations.intersect(matrix, shape, x, y + 1)) {
+            y++;
+        }
+    }
+
+    private int maxColumnHeight() {
+        int max = 0;
+        for (int column = 0; column < COLUMNS; column++) {
+            max = Math.max(max, board.getColumnHeight(column));
+        }
+        return max;
+    }
+
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public boolean intersectRotation() {
+        return MatrixOperations.intersect(matrix, rotation, x, y);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public GameStateView getViewData() {
+        return board.getViewData();
+    }
+
+    // Deals seeded random bricks until a fixed brick is set, then only that brick
+    private static final class BenchGenerator implements BrickGenerator {
+        private final RandomBrickGenerator random;
+        private Brick fixed;
+
+        BenchGenerator(long seed) {
+            random = new RandomBrickGenerator(seed);
+        }
+
+        @Override
+        public Brick getBrick() {
+            return fixed != null ? fixed : random.getBrick();
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return fixed != null ? fixed : random.getNextBrick();
+        }
+    }
+}
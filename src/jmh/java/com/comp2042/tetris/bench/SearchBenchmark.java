@@ -0,0 +1,95 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.ai.ParallelSearch;
+import com.comp2042.tetris.model.BitboardGameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for one lookahead search over the falling brick, three previews and hold, with the same node budget at
+ * every parallelism. The speedup of n threads is the score at threads=1 divided by the score at threads=n;
+ * nodes is reported alongside so runs that finished below the budget are visible.
+ * threads=0 uses every available core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int PREVIEWS = 3;
+    private static final int BEAM_WIDTH = 12;
+    private static final int WARMUP_PIECES = 12;
+
+    @Param({"1", "2", "4", "8", "16", "0"})
+    public int threads;
+
+    @Param({"200000"})
+    public long nodeBudget;
+
+    private ParallelSearch search;
+    private GameEngine engine;
+    private PieceTable[] previews;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int parallelism = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        search = new ParallelSearch(ROWS, COLUMNS, BEAM_WIDTH, parallelism);
+        search.setNodeBudget(nodeBudget);
+
+        // Build a stack with a few random drops, tracking the brick sequence in a second generator
+        RandomBrickGenerator sequence = new RandomBrickGenerator(19);
+        engine = new GameEngine(new BitboardGameBoard(ROWS, COLUMNS, new RandomBrickGenerator(19)));
+        engine.start();
+        sequence.getBrick();
+        SplittableRandom random = new SplittableRandom(19);
+        for (int i = 0; i < WARMUP_PIECES && !engine.isGameOver(); i++) {
+            int shift = random.nextInt(-4, 6);
+            for (int move = 0; move < shift; move++) {
+                engine.moveRight();
+            }
+            for (int move = 0; move > shift; move--) {
+                engine.moveLeft();
+            }
+            engine.hardDrop();
+            sequence.getBrick();
+        }
+        previews = new PieceTable[PREVIEWS];
+        for (int i = 0; i < PREVIEWS; i++) {
+            previews[i] = sequence.getBrick().getPieceTable();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        search.close();
+    }
+
+    @Benchmark
+    public long search() {
+        search.load(engine.getBoard(), previews);
+        search.search();
+        return search.getNodeCount() + search.getPlacement();
+    }
+}
@@ -0,0 +1,148 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.sim.VectorEnv;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Env-steps per second of N games driven by one action array per step: N independent GameEngine/GameBoard
+ * objects stepped one after another, and the struct-of-arrays VectorEnv stepped on one thread and in parallel
+ * chunks on every core. The envSteps counter is the figure to compare; one invocation steps all N games once.
+ * Actions are random with a bias to moves, and finished games restart inside the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VectorEnvBenchmark {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int GRAVITY_INTERVAL = 4;
+    // Distinct action arrays cycled through, so the branch pattern does not repeat every step
+    private static final int ACTION_ROUNDS = 64;
+    private static final EventType[] ACTIONS = EventType.values();
+
+    @Param({"64", "1024", "16384"})
+    public int envs;
+
+    private int[][] actions;
+    private int round;
+    private GameEngine[] engines;
+    private int[] stepsUntilGravity;
+    private VectorEnv sequential;
+    private VectorEnv parallel;
+    private ForkJoinPool pool;
+
+    // Env-steps taken, reported by JMH as a rate
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long envSteps;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(21);
+        actions = new int[ACTION_ROUNDS][envs];
+        for (int[] step : actions) {
+            for (int env = 0; env < envs; env++) {
+                step[env] = random.nextInt(10) == 0 ? EventType.INSTANT_DROP.ordinal()
+                        : random.nextInt(VectorEnv.ACTION_COUNT);
+            }
+        }
+
+        engines = new GameEngine[envs];
+        stepsUntilGravity = new int[envs];
+        for (int env = 0; env < envs; env++) {
+            engines[env] = new GameEngine(new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(env)));
+            engines[env].start();
+            stepsUntilGravity[env] = GRAVITY_INTERVAL;
+        }
+        sequential = new VectorEnv(null, envs, ROWS, COLUMNS, GRAVITY_INTERVAL);
+        sequential.resetAll(0);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        parallel = new VectorEnv(pool, envs, ROWS, COLUMNS, GRAVITY_INTERVAL);
+        parallel.resetAll(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    // Steps every engine with the same rules as TetrisEnv.step
+    @Benchmark
+    public int gameBoards(Counters counters) {
+        int[] step = nextActions();
+        int locks = 0;
+        for (int env = 0; env < envs; env++) {
+            GameEngine engine = engines[env];
+            boolean locked = engine.apply(ACTIONS[step[env]], EventSource.USER);
+            if (--stepsUntilGravity[env] == 0) {
+                stepsUntilGravity[env] = GRAVITY_INTERVAL;
+                if (!locked && !engine.isGameOver()) {
+                    locked = engine.apply(EventType.DOWN, EventSource.THREAD);
+                }
+            }
+            if (engine.isGameOver()) {
+                engine.newGame();
+            }
+            locks += locked ? 1 : 0;
+        }
+        counters.envSteps += envs;
+        return locks;
+    }
+
+    @Benchmark
+    public int vectorSequential(Counters counters) {
+        return stepVector(sequential, counters);
+    }
+
+    @Benchmark
+    public int vectorParallel(Counters counters) {
+        return stepVector(parallel, counters);
+    }
+
+    // Steps every game of a VectorEnv and restarts the finished ones
+    private int stepVector(VectorEnv vector, Counters counters) {
+        vector.step(nextActions());
+        int finished = 0;
+        for (int env = 0; env < envs; env++) {
+            if (vector.isDone(env)) {
+                vector.reset(env, round + env);
+                finished++;
+            }
+        }
+        counters.envSteps += envs;
+        return finished;
+    }
+
+    private int[] nextActions() {
+        round = (round + 1) % ACTION_ROUNDS;
+        return actions[round];
+    }
+}
@@ -0,0 +1,200 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.Board;
+import com.comp2042.tetris.model.piece.PieceTable;
+
+/**
+ * Chooses where to place the falling brick with a two-ply beam search: every placement of the falling brick
+ * (or of the brick hold would bring in) is scored, and the best of them are expanded with every placement of
+ * the brick that follows, read from the preview or the hold slot. A root placement is worth its own score
+ * plus the best follow-up score.
+ * The search is anytime: the greedy choice is known as soon as the first ply is scored, and root placements
+ * are then expanded from the most promising down, so stopping at the deadline leaves the best choice among
+ * those expanded so far.
+ * Positions are scored by Evaluator on incrementally updated BoardFeatures.
+ * load reads the board and must run on the thread that owns it; search only touches this object's copies,
+ * so it can run on another thread afterwards. Not thread-safe otherwise.
+ */
+public class BeamSearch implements PlacementSearch {
+
+    public static final int DEFAULT_BEAM_WIDTH = 16;
+
+    private final int rows;
+    private final int beamWidth;
+    private final PlacementGenerator generator;
+    private final SearchRoot root;
+    private final BoardFeatures followUp;
+    private final CandidateList candidates;
+
+    // Per option: the brick placed first, where it starts, and the brick placed after it (null when unavailable)
+    private final PieceTable[] firstPieces = new PieceTable[2];
+    private final PieceTable[] secondPieces = new PieceTable[2];
+    private final int[] startX = new int[2];
+    private final int[] startY = new int[2];
+    private final int[] startRotation = new int[2];
+
+    private int best = -1;
+    private double bestValue;
+    private int expanded;
+
+    /**
+     * Creates a search for boards of one size.
+     *
+     * @param rows Number of rows in the board
+     * @param columns Number of columns in the board
+     * @param beamWidth Most first-ply placements to expand with the follow-up brick
+     */
+    public BeamSearch(int rows, int columns, int beamWidth) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be positive: " + beamWidth);
+        }
+        this.rows = rows;
+        this.beamWidth = beamWidth;
+        generator = new PlacementGenerator(rows, columns);
+        root = new SearchRoot(rows, columns);
+        followUp = new BoardFeatures(rows, columns);
+        candidates = new CandidateList(rows, columns);
+    }
+
+    /**
+     * Copies everything the search needs from a board: the background, the falling brick and its position,
+     * the hold slot and the preview brick. Clears the previous result.
+     *
+     * @param board The board to read, on the thread that owns it
+     */
+    @Override
+    public void load(Board board) {
+        root.load(board);
+        PieceTable current = root.getCurrent();
+        PieceTable held = root.getHeld();
+        PieceTable next = root.getNext();
+
+        firstPieces[CandidateList.PLACE] = current;
+        secondPieces[CandidateList.PLACE] = next;
+        startX[CandidateList.PLACE] = root.getX();
+        startY[CandidateList.PLACE] = root.getY();
+        startRotation[CandidateList.PLACE] = root.getRotation();
+
+        // Holding an identical brick changes nothing; with an empty slot the preview brick comes in and the
+        // falling one can be swapped back in for the follow-up
+        firstPieces[CandidateList.HOLD] = null;
+        if (root.canHold() && held != current) {
+            firstPieces[CandidateList.HOLD] = held != null ? held : next;
+            secondPieces[CandidateList.HOLD] = held != null ? next : current;
+            startX[CandidateList.HOLD] = CandidateList.SPAWN_X;
+            startY[CandidateList.HOLD] = CandidateList.SPAWN_Y;
+            startRotation[CandidateList.HOLD] = 0;
+        }
+        candidates.clear();
+        best = -1;
+        expanded = 0;
+    }
+
+    /**
+     * Checks whether a board still holds the position last loaded: same background, falling brick type and
+     * hold slot. The falling brick may have moved since, for example by gravity.
+     *
+     * @param board The board to compare, on the thread that owns it
+     * @return true if a result for the loaded position still applies to the board
+     */
+    @Override
+    public boolean isCurrent(Board board) {
+        return root.matches(board);
+    }
+
+    /**
+     * Searches the loaded position until every beam placement is expanded or the deadline passes.
+     * The first ply is always scored in full, so there is a result unless the falling brick cannot move.
+     *
+     * @param deadlineNanos System.nanoTime() value after which no more placements are expanded
+     * @return true if a placement was found
+     */
+    @Override
+    public boolean search(long deadlineNanos) {
+        candidates.clear();
+        best = -1;
+        expanded = 0;
+        for (byte option = CandidateList.PLACE; option <= CandidateList.HOLD; option++) {
+            if (firstPieces[option] != null) {
+                candidates.add(generator, root.getFeatures(), option, firstPieces[option],
+                        startX[option], startY[option], startRotation[option]);
+            }
+        }
+        if (candidates.size() == 0) {
+            return false;
+        }
+
+        // Greedy choice first, then expand the best-scored placements in order until time runs out
+        candidates.selectBest(0);
+        best = candidates.order(0);
+        bestValue = candidates.getScore(best);
+        int limit = Math.min(beamWidth, candidates.size());
+        for (int i = 0; i < limit && System.nanoTime() - deadlineNanos < 0; i++) {
+            if (i > 0) {
+                candidates.selectBest(i);
+            }
+            int candidate = candidates.order(i);
+            double value = candidates.getScore(candidate) + bestFollowUp(candidate);
+            if (expanded == 0 || value > bestValue) {
+                best = candidate;
+                bestValue = value;
+            }
+            expanded++;
+        }
+        return true;
+    }
+
+    // Gets the best score of the follow-up brick after a first-ply placement
+    private double bestFollowUp(int candidate) {
+        PieceTable piece = secondPieces[candidates.getOption(candidate)];
+        if (piece == null) {
+            return 0;
+        }
+        BoardFeatures child = candidates.getChild(candidate);
+        generator.loadSnapshot(child);
+        int count = generator.generate(piece, CandidateList.SPAWN_X, CandidateList.SPAWN_Y, 0);
+        double bestScore = Evaluator.TOP_OUT;
+        for (int i = 0; i < count; i++) {
+            int placement = generator.getPlacement(i);
+            followUp.copyFrom(child);
+            int lines = followUp.place(piece.getRotation(PlacementGenerator.getRotation(placement)),
+                    PlacementGenerator.getX(placement), PlacementGenerator.getY(placement));
+            bestScore = Math.max(bestScore, Evaluator.score(followUp, piece, placement, lines, rows));
+        }
+        return bestScore;
+    }
+
+    // Checks whether the last search found a placement
+    @Override
+    public boolean hasResult() {
+        return best >= 0;
+    }
+
+    // Gets whether the chosen move starts with a hold
+    @Override
+    public boolean isHold() {
+        return candidates.getOption(best) == CandidateList.HOLD;
+    }
+
+    // Gets the brick the chosen move places (the one brought in by hold when isHold is true)
+    @Override
+    public PieceTable getPiece() {
+        return firstPieces[candidates.getOption(best)];
+    }
+
+    // Gets the chosen placement, packed as by PlacementGenerator
+    @Override
+    public int getPlacement() {
+        return candidates.getPlacement(best);
+    }
+
+    // Gets the number of first-ply placements scored by the last search
+    public int getCandidateCount() {
+        return candidates.size();
+    }
+
+    // Gets the number of first-ply placements expanded before the last search finished or ran out of time
+    public int getExpandedCount() {
+        return expanded;
+    }
+}
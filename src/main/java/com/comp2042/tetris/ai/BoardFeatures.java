@@ -0,0 +1,346 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.piece.PieceTable;
+
+/**
+ * Board features used to score placements, kept up to date as bricks are placed instead of being recomputed
+ * from the board matrix for every candidate.
+ * The occupancy is held twice, as one bitmask per row and one per column (bit r set when row r is filled), so
+ * most features are a few bit operations per column. Placing a brick only re-derives the columns it touches
+ * (and their neighbours, for wells) and the rows it fills; a line clear shifts the column masks with two masks
+ * per cleared row and re-derives every column, still without reading the matrix.
+ * Features follow the usual definitions, with row 0 at the top:
+ * <ul>
+ *     <li>height: rows from the floor to a column's highest filled cell</li>
+ *     <li>holes: empty cells below the top of their column</li>
+ *     <li>bumpiness: sum of height differences between neighbouring columns</li>
+ *     <li>row transitions: filled/empty changes along each row, counting the walls as filled</li>
+ *     <li>column transitions: filled/empty changes down each column, counting the floor as filled</li>
+ *     <li>well sums: for each run of k empty cells with filled cells or walls on both sides, 1 + 2 + ... + k</li>
+ * </ul>
+ * recompute rebuilds everything from a matrix with plain loops; it is the reference the incremental updates
+ * are tested against. Not thread-safe; use copyFrom to branch a search.
+ */
+public final class BoardFeatures {
+
+    private static final int MAX_ROWS = Long.SIZE - 1;
+
+    private final int rows;
+    private final int columns;
+    private final long allRows;
+    private final int fullRow;
+    private final int[] rowMasks;
+    private final long[] columnMasks;
+    private final int[] heights;
+    private final int[] columnHoles;
+    private final int[] columnTransitions;
+    private final int[] columnWells;
+    private final int[] rowTransitions;
+    private int totalHeight;
+    private int maxHeight;
+    private int holes;
+    private int bumpiness;
+    private int totalRowTransitions;
+    private int totalColumnTransitions;
+    private int wellSums;
+    private int linesCleared;
+
+    /**
+     * Creates the features of an empty board.
+     *
+     * @param rows Number of rows in the board (at most 63)
+     * @param columns Number of columns in the board (at most 30)
+     */
+    public BoardFeatures(int rows, int columns) {
+        if (rows < 1 || rows > MAX_ROWS) {
+            throw new IllegalArgumentException("Row count must be between 1 and " + MAX_ROWS + ": " + rows);
+        }
+        if (columns < 1 || columns > Integer.SIZE - 2) {
+            throw new IllegalArgumentException("Column count must be between 1 and " + (Integer.SIZE - 2) + ": " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.allRows = (1L << rows) - 1;
+        this.fullRow = (1 << columns) - 1;
+        rowMasks = new int[rows];
+        columnMasks = new long[columns];
+        heights = new int[columns];
+        columnHoles = new int[columns];
+        columnTransitions = new int[columns];
+        columnWells = new int[columns];
+        rowTransitions = new int[rows];
+        recompute(new int[rows][columns]);
+    }
+
+    /**
+     * Rebuilds every feature from a board matrix, cell by cell.
+     *
+     * @param matrix Color codes, one array per row (0 for empty cells)
+     */
+    public void recompute(int[][] matrix) {
+        for (int row = 0; row < rows; row++) {
+            rowMasks[row] = 0;
+            for (int column = 0; column < columns; column++) {
+                if (matrix[row][column] != 0) {
+                    rowMasks[row] |= 1 << column;
+                }
+            }
+        }
+        totalHeight = 0;
+        holes = 0;
+        totalColumnTransitions = 0;
+        wellSums = 0;
+        for (int column = 0; column < columns; column++) {
+            long mask = 0;
+            int height = 0;
+            int empty = 0;
+            int transitions = 0;
+            int wells = 0;
+            int run = 0;
+            for (int row = 0; row < rows; row++) {
+                boolean filled = matrix[row][column] != 0;
+                if (filled) {
+                    mask |= 1L << row;
+                    if (height == 0) {
+                        height = rows - row;
+                    }
+                } else if (height > 0) {
+                    empty++;
+                }
+                boolean below = row == rows - 1 || matrix[row + 1][column] != 0;
+                if (filled != below) {
+                    transitions++;
+                }
+                boolean left = column == 0 || matrix[row][column - 1] != 0;
+                boolean right = column == columns - 1 || matrix[row][column + 1] != 0;
+                if (!filled && left && right) {
+                    run++;
+                } else {
+                    wells += run * (run + 1) / 2;
+                    run = 0;
+                }
+            }
+            wells += run * (run + 1) / 2;
+
+            columnMasks[column] = mask;
+            heights[column] = height;
+            columnHoles[column] = empty;
+            columnTransitions[column] = transitions;
+            columnWells[column] = wells;
+            totalHeight += height;
+            holes += empty;
+            totalColumnTransitions += transitions;
+            wellSums += wells;
+        }
+        totalRowTransitions = 0;
+        for (int row = 0; row < rows; row++) {
+            int transitions = 0;
+            boolean previous = true;
+            for (int column = 0; column <= columns; column++) {
+                boolean filled = column == columns || matrix[row][column] != 0;
+                if (filled != previous) {
+                    transitions++;
+                }
+                previous = filled;
+            }
+            rowTransitions[row] = transitions;
+            totalRowTransitions += transitions;
+        }
+        updateSurface();
+        linesCleared = 0;
+    }
+
+    // Copies every feature and the occupancy of another instance for the same board size
+    public void copyFrom(BoardFeatures other) {
+        System.arraycopy(other.rowMasks, 0, rowMasks, 0, rows);
+        System.arraycopy(other.columnMasks, 0, columnMasks, 0, columns);
+        System.arraycopy(other.heights, 0, heights, 0, columns);
+        System.arraycopy(other.columnHoles, 0, columnHoles, 0, columns);
+        System.arraycopy(other.columnTransitions, 0, columnTransitions, 0, columns);
+        System.arraycopy(other.columnWells, 0, columnWells, 0, columns);
+        System.arraycopy(other.rowTransitions, 0, rowTransitions, 0, rows);
+        totalHeight = other.totalHeight;
+        maxHeight = other.maxHeight;
+        holes = other.holes;
+        bumpiness = other.bumpiness;
+        totalRowTransitions = other.totalRowTransitions;
+        totalColumnTransitions = other.totalColumnTransitions;
+        wellSums = other.wellSums;
+        linesCleared = other.linesCleared;
+    }
+
+    /**
+     * Places a brick, clears any rows it completes and updates the features from the change.
+     * Cells outside the board are dropped, as in MatrixOperations.merge.
+     *
+     * @param rotation Rotation of the brick
+     * @param x Column of the brick's 4x4 shape
+     * @param y Row of the brick's 4x4 shape
+     * @return the number of rows cleared
+     */
+    public int place(PieceTable.Rotation rotation, int x, int y) {
+        int touchedColumns = 0;
+        long fullRows = 0;
+        for (int i = rotation.getMinRow(); i <= rotation.getMaxRow(); i++) {
+            int row = y + i;
+            if (row < 0 || row >= rows) {
+                continue;
+            }
+            int placed = (x >= 0 ? rotation.getRowMask(i) << x : rotation.getRowMask(i) >>> -x) & fullRow;
+            rowMasks[row] |= placed;
+            touchedColumns |= placed;
+            for (int bits = placed; bits != 0; bits &= bits - 1) {
+                columnMasks[Integer.numberOfTrailingZeros(bits)] |= 1L << row;
+            }
+            if (rowMasks[row] == fullRow) {
+                fullRows |= 1L << row;
+            } else {
+                setRowTransitions(row);
+            }
+        }
+
+        linesCleared = Long.bitCount(fullRows);
+        if (fullRows != 0) {
+            clearRows(fullRows);
+            for (int column = 0; column < columns; column++) {
+                updateColumn(column);
+            }
+        } else {
+            // Wells also depend on the neighbouring columns
+            int changed = (touchedColumns | (touchedColumns << 1) | (touchedColumns >>> 1)) & fullRow;
+            for (int bits = changed; bits != 0; bits &= bits - 1) {
+                updateColumn(Integer.numberOfTrailingZeros(bits));
+            }
+        }
+        updateSurface();
+        return linesCleared;
+    }
+
+    // Removes full rows: compacts the row data downwards and squeezes the row bits out of each column mask
+    private void clearRows(long fullRows) {
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if ((fullRows & (1L << read)) != 0) {
+                totalRowTransitions -= rowTransitions[read];
+                continue;
+            }
+            if (write != read) {
+                rowMasks[write] = rowMasks[read];
+                rowTransitions[write] = rowTransitions[read];
+            }
+            write--;
+        }
+        for (int row = write; row >= 0; row--) {
+            rowMasks[row] = 0;
+            // An empty row changes from wall to empty and back once each
+            rowTransitions[row] = 2;
+            totalRowTransitions += 2;
+        }
+
+        for (int column = 0; column < columns; column++) {
+            long mask = columnMasks[column];
+            // Remove the topmost cleared row first; rows above it shift down, the other cleared rows stay put
+            for (long bits = fullRows; bits != 0; bits &= bits - 1) {
+                int row = Long.numberOfTrailingZeros(bits);
+                long above = mask & ((1L << row) - 1);
+                long below = mask & ~((1L << (row + 1)) - 1);
+                mask = below | (above << 1);
+            }
+            columnMasks[column] = mask;
+        }
+    }
+
+    // Re-derives one column's features from its mask and its neighbours' masks
+    private void updateColumn(int column) {
+        long mask = columnMasks[column];
+        int height = mask == 0 ? 0 : rows - Long.numberOfTrailingZeros(mask);
+        int empty = height - Long.bitCount(mask);
+        long withFloor = mask | (1L << rows);
+        int transitions = Long.bitCount((withFloor ^ (withFloor >>> 1)) & allRows);
+
+        long left = column == 0 ? allRows : columnMasks[column - 1];
+        long right = column == columns - 1 ? allRows : columnMasks[column + 1];
+        int wells = 0;
+        for (long well = ~mask & left & right & allRows; well != 0; ) {
+            int start = Long.numberOfTrailingZeros(well);
+            int run = Long.numberOfTrailingZeros(~(well >>> start));
+            wells += run * (run + 1) / 2;
+            well &= ~(((1L << run) - 1) << start);
+        }
+
+        totalHeight += height - heights[column];
+        holes += empty - columnHoles[column];
+        totalColumnTransitions += transitions - columnTransitions[column];
+        wellSums += wells - columnWells[column];
+        heights[column] = height;
+        columnHoles[column] = empty;
+        columnTransitions[column] = transitions;
+        columnWells[column] = wells;
+    }
+
+    // Re-derives one row's transitions from its mask, with both walls counted as filled
+    private void setRowTransitions(int row) {
+        int withWalls = (rowMasks[row] << 1) | 1 | (1 << (columns + 1));
+        int transitions = Integer.bitCount((withWalls ^ (withWalls >>> 1)) & ((1 << (columns + 1)) - 1));
+        totalRowTransitions += transitions - rowTransitions[row];
+        rowTransitions[row] = transitions;
+    }
+
+    // Recomputes the features that span every column from the cached heights
+    private void updateSurface() {
+        maxHeight = heights[0];
+        bumpiness = 0;
+        for (int column = 1; column < columns; column++) {
+            maxHeight = Math.max(maxHeight, heights[column]);
+            bumpiness += Math.abs(heights[column] - heights[column - 1]);
+        }
+    }
+
+    // Checks whether a cell is filled
+    public boolean isFilled(int row, int column) {
+        return (rowMasks[row] & (1 << column)) != 0;
+    }
+
+    // Gets the occupancy of a row; bit c is set when column c is filled
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    public int getColumnHeight(int column) {
+        return heights[column];
+    }
+
+    // Gets the sum of all column heights
+    public int getAggregateHeight() {
+        return totalHeight;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    public int getHoles() {
+        return holes;
+    }
+
+    public int getBumpiness() {
+        return bumpiness;
+    }
+
+    public int getRowTransitions() {
+        return totalRowTransitions;
+    }
+
+    public int getColumnTransitions() {
+        return totalColumnTransitions;
+    }
+
+    public int getWellSums() {
+        return wellSums;
+    }
+
+    // Gets the number of rows the last place call cleared
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+}
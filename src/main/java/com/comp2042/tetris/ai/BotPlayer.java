@@ -0,0 +1,182 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.Board;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Plays the game by sending the same moves a player would.
+ * For each brick the board is read on the game thread, a search runs on a worker thread until a deadline
+ * derived from the current gravity interval, and the chosen placement is then played back on the game thread:
+ * an optional hold, the shortest path of rotations and sideways or down moves, and a hard drop. The path is
+ * found again from wherever the brick is at that point, since gravity keeps pulling it down during the search.
+ * If the board changed in the meantime (the brick locked, or a new game started) the brick is searched again.
+ * Moves go through a driver, normally the view's input handling, so they are recorded, rendered and ignored
+ * while paused exactly like key presses. When no move takes effect the bot waits one gravity interval before
+ * trying again instead of spinning.
+ * The search is a BeamSearch on the worker thread itself, or with a parallelism above 1 a ParallelSearch over the
+ * same two bricks that splits each search across that many pool threads.
+ * start, stop and everything touching the board run on the game thread.
+ */
+public class BotPlayer {
+
+    // Longest time spent on one brick at slow gravity, so the bot stays lively at low levels
+    private static final int MAX_THINK_MILLIS = 100;
+
+    private final Board board;
+    private final IntSupplier gravityMillis;
+    private final Executor gameThread;
+    private final Consumer<EventType> driver;
+    private final PlacementSearch search;
+    private final PlacementGenerator pathfinder;
+    private final EventType[] path;
+    private final ScheduledExecutorService worker;
+
+    private boolean running;
+    // Incremented on start and stop, so results from an earlier run are dropped
+    private int session;
+    // Whether a search or retry is pending; only one runs at a time, since they share the search buffers
+    private boolean pending;
+
+    // Creates a stopped bot that searches on its worker thread alone
+    public BotPlayer(Board board, IntSupplier gravityMillis, Executor gameThread, Consumer<EventType> driver) {
+        this(board, gravityMillis, gameThread, driver, 1);
+    }
+
+    /**
+     * Creates a stopped bot.
+     *
+     * @param board The board to play, read on the game thread only
+     * @param gravityMillis Current interval between gravity steps, in milliseconds
+     * @param gameThread Runs tasks on the thread that owns the board
+     * @param driver Applies one move on the game thread (ROTATE, LEFT, RIGHT, DOWN, HOLD or INSTANT_DROP)
+     * @param parallelism Number of threads each search runs on (1 for a BeamSearch on the worker thread)
+     */
+    public BotPlayer(Board board, IntSupplier gravityMillis, Executor gameThread, Consumer<EventType> driver,
+                     int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.board = board;
+        this.gravityMillis = gravityMillis;
+        this.gameThread = gameThread;
+        this.driver = driver;
+        int[][] matrix = board.getBoardMatrix();
+        search = parallelism == 1
+                ? new BeamSearch(matrix.length, matrix[0].length, BeamSearch.DEFAULT_BEAM_WIDTH)
+                : new ParallelSearch(matrix.length, matrix[0].length, BeamSearch.DEFAULT_BEAM_WIDTH, parallelism);
+        pathfinder = new PlacementGenerator(matrix.length, matrix[0].length);
+        path = new EventType[4 * (matrix.length + 3) * (matrix[0].length + 3)];
+        worker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "tetris-bot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Starts playing from the current brick
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        session++;
+        if (!pending) {
+            think(session);
+        }
+    }
+
+    // Stops playing; a search in progress finishes but its result is dropped
+    public void stop() {
+        running = false;
+        session++;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops playing and ends the worker thread and any search threads
+    public void shutdown() {
+        stop();
+        worker.shutdownNow();
+        search.close();
+    }
+
+    // Gets the time allowed for one search: half a gravity interval, so the move is played before the brick drops far
+    long getThinkMillis() {
+        return Math.max(1, Math.min(MAX_THINK_MILLIS, gravityMillis.getAsInt() / 2));
+    }
+
+    // Snapshots the board and hands the search to the worker
+    private void think(int run) {
+        pending = true;
+        search.load(board);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(getThinkMillis());
+        worker.execute(() -> {
+            search.search(deadline);
+            gameThread.execute(() -> play(run));
+        });
+    }
+
+    // Plays the search result, then moves on to the next brick
+    private void play(int run) {
+        pending = false;
+        if (!running) {
+            return;
+        }
+        if (run != session || !search.isCurrent(board)) {
+            think(session);
+            return;
+        }
+
+        long before = board.getHash();
+        if (search.hasResult()) {
+            if (search.isHold()) {
+                driver.accept(EventType.HOLD);
+            }
+            if (board.getCurrentBrick().getPieceTable() == search.getPiece()) {
+                int length = findPath(search.getPlacement());
+                if (length >= 0) {
+                    for (int i = 0; i < length; i++) {
+                        driver.accept(path[i]);
+                    }
+                    driver.accept(EventType.INSTANT_DROP);
+                }
+            }
+        }
+
+        if (board.getHash() != before) {
+            think(session);
+        } else {
+            // Nothing moved: paused, game over, or no placement left to reach
+            pending = true;
+            worker.schedule(() -> gameThread.execute(this::resume), gravityMillis.getAsInt(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Tries again after a wait, unless stopped in the meantime
+    private void resume() {
+        pending = false;
+        if (running) {
+            think(session);
+        }
+    }
+
+    // Finds the moves from the brick's current position to a placement, or -1 if it is no longer reachable
+    private int findPath(int placement) {
+        int count = pathfinder.generate(board);
+        for (int i = 0; i < count; i++) {
+            if (pathfinder.getPlacement(i) == placement) {
+                return pathfinder.getPath(placement, path);
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,135 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.piece.PieceTable;
+
+import java.util.Arrays;
+
+/**
+ * Candidates of one search node: a board snapshot after each placement, the option it came from and its
+ * Evaluator score, plus an expansion order. Buffers grow on demand and are reused between searches.
+ * Shared by BeamSearch and ParallelSearch, along with the spawn position and the options they both expand.
+ */
+final class CandidateList {
+
+    // Spawn position of new bricks, as on the boards
+    static final int SPAWN_X = 3;
+    static final int SPAWN_Y = 0;
+
+    // Options at a node: place the brick, or hold first and place the brick that comes in
+    static final byte PLACE = 0;
+    static final byte HOLD = 1;
+
+    private final int rows;
+    private final int columns;
+    private BoardFeatures[] children = new BoardFeatures[0];
+    private int[] placements = new int[0];
+    private byte[] options = new byte[0];
+    private double[] scores = new double[0];
+    private int[] order = new int[0];
+    private int count;
+
+    CandidateList(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    // Drops every candidate, keeping the buffers
+    void clear() {
+        count = 0;
+    }
+
+    /**
+     * Scores every placement of one brick reachable from a start position on a node, appending them in
+     * generation order.
+     *
+     * @param generator Generator to find the placements with, owned by the calling thread
+     * @param node Board features of the node
+     * @param option PLACE or HOLD
+     * @param piece Rotation table of the brick to place
+     * @param x Start column of the brick
+     * @param y Start row of the brick
+     * @param rotation Start rotation of the brick
+     */
+    void add(PlacementGenerator generator, BoardFeatures node, byte option, PieceTable piece,
+             int x, int y, int rotation) {
+        generator.loadSnapshot(node);
+        int generated = generator.generate(piece, x, y, rotation);
+        ensureCapacity(count + generated);
+        for (int i = 0; i < generated; i++) {
+            int placement = generator.getPlacement(i);
+            BoardFeatures child = children[count];
+            child.copyFrom(node);
+            int lines = child.place(piece.getRotation(PlacementGenerator.getRotation(placement)),
+                    PlacementGenerator.getX(placement), PlacementGenerator.getY(placement));
+            placements[count] = placement;
+            options[count] = option;
+            scores[count] = Evaluator.score(child, piece, placement, lines, rows);
+            order[count] = count;
+            count++;
+        }
+    }
+
+    // Moves the highest-scored remaining candidate to position i of the expansion order (selection sort step)
+    void selectBest(int i) {
+        int top = i;
+        for (int j = i + 1; j < count; j++) {
+            if (scores[order[j]] > scores[order[top]]) {
+                top = j;
+            }
+        }
+        int swap = order[i];
+        order[i] = order[top];
+        order[top] = swap;
+    }
+
+    // Moves the best width candidates to the front of the expansion order and returns how many there are
+    int selectTop(int width) {
+        int top = Math.min(width, count);
+        for (int i = 0; i < top; i++) {
+            selectBest(i);
+        }
+        return top;
+    }
+
+    // Grows the buffers; only happens in the first few searches
+    private void ensureCapacity(int capacity) {
+        if (capacity <= children.length) {
+            return;
+        }
+        int size = Math.max(capacity, 2 * children.length);
+        int old = children.length;
+        children = Arrays.copyOf(children, size);
+        for (int i = old; i < size; i++) {
+            children[i] = new BoardFeatures(rows, columns);
+        }
+        placements = Arrays.copyOf(placements, size);
+        options = Arrays.copyOf(options, size);
+        scores = Arrays.copyOf(scores, size);
+        order = Arrays.copyOf(order, size);
+    }
+
+    int size() {
+        return count;
+    }
+
+    // Gets the candidate at position i of the expansion order
+    int order(int i) {
+        return order[i];
+    }
+
+    BoardFeatures getChild(int candidate) {
+        return children[candidate];
+    }
+
+    int getPlacement(int candidate) {
+        return placements[candidate];
+    }
+
+    byte getOption(int candidate) {
+        return options[candidate];
+    }
+
+    double getScore(int candidate) {
+        return scores[candidate];
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.piece.PieceTable;
+
+/**
+ * Position scoring shared by the searches: Pierre Dellacherie's features (landing height, rows cleared, row and
+ * column transitions, holes and wells) with the weights tuned for El-Tetris. Higher scores are better.
+ */
+final class Evaluator {
+
+    private static final double LANDING_HEIGHT = -4.500158825082766;
+    private static final double ROWS_CLEARED = 3.4181268101392694;
+    private static final double ROW_TRANSITIONS = -3.2178882868487753;
+    private static final double COLUMN_TRANSITIONS = -9.348695305445199;
+    private static final double HOLES = -7.899265427351652;
+    private static final double WELL_SUMS = -3.3855972247263626;
+
+    // Score of a brick that cannot spawn
+    static final double TOP_OUT = -1e6;
+
+    private Evaluator() {
+    }
+
+    /**
+     * Scores the position after a placement.
+     *
+     * @param features Features of the board after the placement and any line clear
+     * @param piece Rotation table of the placed brick
+     * @param placement The placement, packed as by PlacementGenerator
+     * @param lines Number of rows the placement cleared
+     * @param rows Number of rows in the board
+     * @return the score of the position
+     */
+    static double score(BoardFeatures features, PieceTable piece, int placement, int lines, int rows) {
+        PieceTable.Rotation rotation = piece.getRotation(PlacementGenerator.getRotation(placement));
+        double landingHeight = rows - PlacementGenerator.getY(placement)
+                - (rotation.getMinRow() + rotation.getMaxRow()) / 2.0;
+        return LANDING_HEIGHT * landingHeight
+                + ROWS_CLEARED * lines
+                + ROW_TRANSITIONS * features.getRowTransitions()
+                + COLUMN_TRANSITIONS * features.getColumnTransitions()
+                + HOLES * features.getHoles()
+                + WELL_SUMS * features.getWellSums();
+    }
+}
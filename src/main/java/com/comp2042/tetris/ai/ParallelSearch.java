@@ -0,0 +1,484 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.Board;
+import com.comp2042.tetris.model.piece.PieceTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lookahead search over a known sequence of bricks (the falling brick and any number of previews) with hold,
+ * split across a ForkJoinPool.
+ * Each node scores every placement of its brick, and of the brick hold would bring in, then expands the best
+ * beamWidth of them; a placement is worth its own score plus the best value below it, and the last brick of the
+ * sequence ends the tree. Candidates are scored into CandidateLists as in BeamSearch.
+ * The first FORK_LEVELS levels run as fork/join tasks that idle workers steal. Every node at those levels has
+ * its own candidate list and child tasks, allocated once and reused by every search, so stolen work never shares
+ * mutable state; deeper levels run sequentially on per-thread scratch buffers. Values of positions reached by
+ * different move orders are shared through a lock-free TranspositionTable.
+ * A search stops early once an optional node budget (placements scored) is spent or its deadline passes. Each
+ * thread counts its placements and adds them to a shared total every NODE_BATCH, where both limits are checked;
+ * after a stop the remaining nodes are treated as leaves, and the root only compares placements whose subtrees
+ * finished, falling back to the best-scored one. The budget lets a sequential and a parallel search be timed on
+ * the same amount of work. With a parallelism of 1 no pool is created and the whole search runs on the calling
+ * thread.
+ * A search must not be started while another is running on the same instance.
+ */
+public class ParallelSearch implements PlacementSearch, AutoCloseable {
+
+    // Levels of the tree, from the root, whose children are forked as separate tasks
+    private static final int FORK_LEVELS = 2;
+    private static final int TABLE_BITS = 18;
+    // Placements a thread scores between adding them to the shared total and checking the limits
+    private static final int NODE_BATCH = 256;
+
+    private final int rows;
+    private final int beamWidth;
+    private final ForkJoinPool pool;
+    private final int forkLevels;
+    private final TranspositionTable table = new TranspositionTable(TABLE_BITS);
+    private final ThreadLocal<Worker> workers;
+    private final SearchRoot root;
+    // Candidates of each node at the forked levels and the task valuing each node down to the first sequential
+    // level, by tree position: the root is 0 and child i of position p is p * beamWidth + 1 + i
+    private final CandidateList[] forkedLevels;
+    private final NodeTask[] tasks;
+
+    private final AtomicLong nodes = new AtomicLong();
+    private volatile boolean stopped;
+    private long nodeBudget = Long.MAX_VALUE;
+    private boolean timed;
+    private long deadlineNanos;
+    // Mixed into every table key, so entries from earlier searches never match
+    private long generation;
+
+    private PieceTable[] pieces = new PieceTable[0];
+    private int pieceCount;
+
+    private int best = -1;
+    private double bestValue;
+
+    /**
+     * Creates a search for boards of one size.
+     *
+     * @param rows Number of rows in the board
+     * @param columns Number of columns in the board
+     * @param beamWidth Most placements expanded at each node
+     * @param parallelism Number of worker threads (1 searches on the calling thread)
+     */
+    public ParallelSearch(int rows, int columns, int beamWidth, int parallelism) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be positive: " + beamWidth);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.rows = rows;
+        this.beamWidth = beamWidth;
+        this.pool = parallelism == 1 ? null : new ForkJoinPool(parallelism);
+        this.forkLevels = pool == null ? 1 : FORK_LEVELS;
+        this.workers = ThreadLocal.withInitial(() -> new Worker(rows, columns));
+        this.root = new SearchRoot(rows, columns);
+
+        forkedLevels = new CandidateList[firstPosition(forkLevels)];
+        for (int position = 0; position < forkedLevels.length; position++) {
+            forkedLevels[position] = new CandidateList(rows, columns);
+        }
+        tasks = new NodeTask[pool == null ? 0 : firstPosition(forkLevels + 1)];
+        for (int depth = 0; depth <= forkLevels && pool != null; depth++) {
+            for (int position = firstPosition(depth); position < firstPosition(depth + 1); position++) {
+                tasks[position] = new NodeTask(position, depth);
+            }
+        }
+    }
+
+    // Gets the tree position of the first node at a depth
+    private int firstPosition(int depth) {
+        int position = 0;
+        int width = 1;
+        for (int i = 0; i < depth; i++) {
+            position = Math.addExact(position, width);
+            width = Math.multiplyExact(width, beamWidth);
+        }
+        return position;
+    }
+
+    // Sets the most placements a search may score before it stops expanding (Long.MAX_VALUE for no limit)
+    public void setNodeBudget(long nodeBudget) {
+        this.nodeBudget = nodeBudget;
+    }
+
+    /**
+     * Copies the position to search from a board: the background, the falling brick and its position and the
+     * hold slot, followed by the given preview bricks.
+     *
+     * @param board The board to read, on the thread that owns it
+     * @param previews The bricks after the falling one, in order
+     */
+    public void load(Board board, PieceTable... previews) {
+        root.load(board);
+        loadPieces(previews.length);
+        System.arraycopy(previews, 0, pieces, 1, previews.length);
+    }
+
+    /**
+     * Copies the position to search from a board, with the board's preview brick as the only one after the
+     * falling brick.
+     *
+     * @param board The board to read, on the thread that owns it
+     */
+    @Override
+    public void load(Board board) {
+        root.load(board);
+        PieceTable next = root.getNext();
+        loadPieces(next == null ? 0 : 1);
+        if (next != null) {
+            pieces[1] = next;
+        }
+    }
+
+    // Starts the brick sequence with the falling brick, leaving room for the previews, and clears the result
+    private void loadPieces(int previews) {
+        pieceCount = previews + 1;
+        if (pieces.length < pieceCount) {
+            pieces = new PieceTable[pieceCount];
+        }
+        pieces[0] = root.getCurrent();
+        best = -1;
+    }
+
+    // Checks whether a board still holds the position last loaded, ignoring moves of the falling brick
+    @Override
+    public boolean isCurrent(Board board) {
+        return root.matches(board);
+    }
+
+    /**
+     * Searches the loaded position to the end of the brick sequence, or until the node budget is spent.
+     *
+     * @return true if a placement was found
+     */
+    public boolean search() {
+        timed = false;
+        return run();
+    }
+
+    /**
+     * Searches the loaded position until done, the node budget is spent or the deadline passes. The root's
+     * placements are always scored, so there is a result unless the falling brick cannot move.
+     *
+     * @param deadlineNanos System.nanoTime() value after which no more nodes are expanded
+     * @return true if a placement was found
+     */
+    @Override
+    public boolean search(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+        timed = true;
+        return run();
+    }
+
+    // Runs a search with the limits already set
+    private boolean run() {
+        generation++;
+        nodes.set(0);
+        stopped = false;
+        best = -1;
+        if (pieceCount == 0 || pieces[0] == null) {
+            return false;
+        }
+        if (pool == null) {
+            Worker worker = workers.get();
+            expandForked(worker, 0, root.getFeatures(), 0, root.getHeld(), root.canHold(), 0);
+            flush(worker);
+        } else {
+            pool.invoke(tasks[0].prepare(root.getFeatures(), 0, root.getHeld(), root.canHold()));
+        }
+        return best >= 0;
+    }
+
+    /**
+     * Values a node at one of the forked levels: its candidates live in the list for its tree position (the
+     * root's is kept for the result), and each expanded child is valued by its own task, or inline when the
+     * children are leaves or there is no pool.
+     */
+    private double expandForked(Worker worker, int position, BoardFeatures node, int index, PieceTable nodeHeld,
+                                boolean nodeCanHold, int depth) {
+        boolean isRoot = depth == 0;
+        if (!isRoot && (index >= pieceCount || stopped)) {
+            return 0;
+        }
+        long key = isRoot ? 0 : key(node, index, nodeHeld);
+        if (!isRoot) {
+            double cached = table.get(key);
+            if (!Double.isNaN(cached)) {
+                return cached;
+            }
+        }
+
+        CandidateList level = forkedLevels[position];
+        int width = expand(worker, level, node, index, nodeHeld, nodeCanHold, isRoot);
+        // Children are compared in expansion order, so ties resolve the same way however the work was split
+        int bestChild = -1;
+        double bestScore = Evaluator.TOP_OUT;
+        if (pool == null || index + 1 >= pieceCount) {
+            for (int i = 0; i < width; i++) {
+                int child = level.order(i);
+                double score = level.getScore(child) + value(worker, level.getChild(child),
+                        nextIndex(level.getOption(child), index, nodeHeld),
+                        nextHeld(level.getOption(child), index, nodeHeld), depth + 1);
+                if (isRoot && stopped) {
+                    // This child's subtree may have been cut short, and so may every later one
+                    break;
+                }
+                if (bestChild < 0 || score > bestScore) {
+                    bestChild = child;
+                    bestScore = score;
+                }
+            }
+        } else {
+            int first = position * beamWidth + 1;
+            for (int i = width - 1; i >= 0; i--) {
+                int child = level.order(i);
+                NodeTask task = tasks[first + i].prepare(level.getChild(child),
+                        nextIndex(level.getOption(child), index, nodeHeld),
+                        nextHeld(level.getOption(child), index, nodeHeld), true);
+                if (i > 0) {
+                    task.fork();
+                } else {
+                    task.invoke();
+                }
+            }
+            for (int i = 1; i < width; i++) {
+                tasks[first + i].join();
+            }
+            for (int i = 0; i < width; i++) {
+                NodeTask task = tasks[first + i];
+                if (isRoot && !task.finished) {
+                    continue;
+                }
+                int child = level.order(i);
+                double score = level.getScore(child) + task.value;
+                if (bestChild < 0 || score > bestScore) {
+                    bestChild = child;
+                    bestScore = score;
+                }
+            }
+        }
+
+        if (isRoot) {
+            // Stopped before any placement was valued in full: take the best-scored one
+            if (bestChild < 0 && width > 0) {
+                bestChild = level.order(0);
+                bestScore = level.getScore(bestChild);
+            }
+            best = bestChild;
+            bestValue = bestScore;
+        } else if (!stopped) {
+            table.put(key, bestScore);
+        }
+        return bestScore;
+    }
+
+    // Values a node below the forked levels, reusing the calling thread's buffers for each depth
+    private double value(Worker worker, BoardFeatures node, int index, PieceTable nodeHeld, int depth) {
+        if (index >= pieceCount || stopped) {
+            return 0;
+        }
+        long key = key(node, index, nodeHeld);
+        double cached = table.get(key);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+
+        CandidateList level = worker.level(depth);
+        int width = expand(worker, level, node, index, nodeHeld, true, false);
+        double bestScore = Evaluator.TOP_OUT;
+        for (int i = 0; i < width; i++) {
+            int child = level.order(i);
+            double score = level.getScore(child) + value(worker, level.getChild(child),
+                    nextIndex(level.getOption(child), index, nodeHeld),
+                    nextHeld(level.getOption(child), index, nodeHeld), depth + 1);
+            if (i == 0 || score > bestScore) {
+                bestScore = score;
+            }
+        }
+        if (!stopped) {
+            table.put(key, bestScore);
+        }
+        return bestScore;
+    }
+
+    /**
+     * Scores every placement of a node's options into a candidate list and moves the best ones to the front of
+     * its expansion order.
+     *
+     * @return the number of candidates to expand
+     */
+    private int expand(Worker worker, CandidateList level, BoardFeatures node, int index, PieceTable nodeHeld,
+                       boolean nodeCanHold, boolean isRoot) {
+        level.clear();
+        PieceTable piece = pieces[index];
+        if (isRoot) {
+            level.add(worker.generator, node, CandidateList.PLACE, piece,
+                    root.getX(), root.getY(), root.getRotation());
+        } else {
+            level.add(worker.generator, node, CandidateList.PLACE, piece,
+                    CandidateList.SPAWN_X, CandidateList.SPAWN_Y, 0);
+        }
+        if (nodeCanHold && nodeHeld != piece) {
+            // With an empty slot the next brick comes in, so it must be known
+            PieceTable swapped = nodeHeld != null ? nodeHeld : index + 1 < pieceCount ? pieces[index + 1] : null;
+            if (swapped != null) {
+                level.add(worker.generator, node, CandidateList.HOLD, swapped,
+                        CandidateList.SPAWN_X, CandidateList.SPAWN_Y, 0);
+            }
+        }
+        worker.pending += level.size();
+        if (worker.pending >= NODE_BATCH) {
+            flush(worker);
+        }
+        return level.selectTop(beamWidth);
+    }
+
+    // Adds a thread's placements to the shared total and stops the search once the budget or deadline is reached
+    private void flush(Worker worker) {
+        long total = nodes.addAndGet(worker.pending);
+        worker.pending = 0;
+        if (total >= nodeBudget || timed && System.nanoTime() - deadlineNanos >= 0) {
+            stopped = true;
+        }
+    }
+
+    // Index of the brick to place after an option; holding into an empty slot uses up the next brick as well
+    private int nextIndex(byte option, int index, PieceTable nodeHeld) {
+        return option == CandidateList.HOLD && nodeHeld == null ? index + 2 : index + 1;
+    }
+
+    // Hold slot after an option
+    private PieceTable nextHeld(byte option, int index, PieceTable nodeHeld) {
+        return option == CandidateList.HOLD ? pieces[index] : nodeHeld;
+    }
+
+    // Table key of a position: its occupancy, the next brick's index in the sequence and the hold slot
+    private long key(BoardFeatures node, int index, PieceTable nodeHeld) {
+        long hash = generation * 0x9E3779B97F4A7C15L + index * 0xC2B2AE3D27D4EB4FL
+                + (nodeHeld == null ? 0 : nodeHeld.getType().ordinal() + 1);
+        for (int row = 0; row < rows; row++) {
+            hash = (hash ^ node.getRowMask(row)) * 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    // Checks whether the last search found a placement
+    @Override
+    public boolean hasResult() {
+        return best >= 0;
+    }
+
+    // Gets whether the chosen move starts with a hold
+    @Override
+    public boolean isHold() {
+        return forkedLevels[0].getOption(best) == CandidateList.HOLD;
+    }
+
+    // Gets the brick the chosen move places (the one brought in by hold when isHold is true)
+    @Override
+    public PieceTable getPiece() {
+        if (!isHold()) {
+            return pieces[0];
+        }
+        return root.getHeld() != null ? root.getHeld() : pieces[1];
+    }
+
+    // Gets the chosen placement, packed as by PlacementGenerator
+    @Override
+    public int getPlacement() {
+        return forkedLevels[0].getPlacement(best);
+    }
+
+    // Gets the value of the chosen placement: its score plus the best scores below it
+    public double getValue() {
+        return bestValue;
+    }
+
+    // Gets the number of placements scored by the last search
+    public long getNodeCount() {
+        return nodes.get();
+    }
+
+    // Stops the worker threads
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    // Values the node at one tree position, possibly on a thread that stole it; reused by every search
+    // Fork/join tasks are serializable by inheritance but never serialized
+    @SuppressWarnings("serial")
+    private final class NodeTask extends RecursiveAction {
+        private final int position;
+        private final int depth;
+        private BoardFeatures node;
+        private int index;
+        private PieceTable nodeHeld;
+        private boolean nodeCanHold;
+        private double value;
+        // Whether the search was still running when this node's value was complete
+        private boolean finished;
+
+        NodeTask(int position, int depth) {
+            this.position = position;
+            this.depth = depth;
+        }
+
+        // Sets the node for the next run, resetting the task after its previous one
+        NodeTask prepare(BoardFeatures node, int index, PieceTable nodeHeld, boolean nodeCanHold) {
+            reinitialize();
+            this.node = node;
+            this.index = index;
+            this.nodeHeld = nodeHeld;
+            this.nodeCanHold = nodeCanHold;
+            return this;
+        }
+
+        @Override
+        protected void compute() {
+            Worker worker = workers.get();
+            value = depth < forkLevels
+                    ? expandForked(worker, position, node, index, nodeHeld, nodeCanHold, depth)
+                    : value(worker, node, index, nodeHeld, depth);
+            finished = !stopped;
+            flush(worker);
+        }
+    }
+
+    // Scratch owned by one thread: a placement generator, candidate lists for each sequential depth and the
+    // placements scored since the last flush
+    private static final class Worker {
+        private final int rows;
+        private final int columns;
+        private final PlacementGenerator generator;
+        private final List<CandidateList> levels = new ArrayList<>();
+        private long pending;
+
+        Worker(int rows, int columns) {
+            this.rows = rows;
+            this.columns = columns;
+            this.generator = new PlacementGenerator(rows, columns);
+        }
+
+        CandidateList level(int depth) {
+            while (levels.size() <= depth) {
+                levels.add(new CandidateList(rows, columns));
+            }
+            return levels.get(depth);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.Board;
+import com.comp2042.tetris.model.piece.PieceTable;
+
+import java.util.Arrays;
+
+/**
+ * Enumerates every resting placement a brick can reach from its current position.
+ * Runs a breadth-first search over (x, y, rotation) states using the same rules as the boards: one-cell moves
+ * left, right and down, and left rotation with the rotation's wall kicks, so tucks and kicked spins are found
+ * as well as straight drops. A placement is a reachable state the brick cannot move down from.
+ * The search runs on a bitmask snapshot of the background, and all buffers (visited bitset, queue, parents and
+ * results) are allocated once, so generating placements does not allocate. Not thread-safe; use one per thread.
+ */
+public class PlacementGenerator {
+
+    // Wall bits kept on each side of a snapshot row, as in BitboardGameBoard
+    private static final int GUARD = 4;
+    private static final int MAX_COLUMNS = Integer.SIZE - 2 * GUARD;
+    // A 4x4 shape can sit up to 3 cells left of or above the board and still have cells on it
+    private static final int PAD = 3;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int NO_PARENT = -1;
+
+    // Packed placement layout: x + PAD in bits 0-7, y + PAD in bits 8-15, rotation in bits 16-17
+    private static final int FIELD_BITS = 8;
+    private static final int FIELD_MASK = 0xFF;
+
+    private static final EventType[] MOVES = {EventType.ROTATE, EventType.LEFT, EventType.RIGHT, EventType.DOWN};
+
+    private final int rows;
+    private final int columns;
+    private final int spanX;
+    private final int spanY;
+    private final int emptyRow;
+    private final int[] snapshot;
+    private final long[] visited;
+    private final int[] queue;
+    private final int[] parents;
+    private final byte[] parentMoves;
+    private final int[] placements;
+    private PieceTable piece;
+    private int placementCount;
+
+    /**
+     * Creates a generator for boards of one size.
+     *
+     * @param rows Number of rows in the board
+     * @param columns Number of columns in the board (at most 24)
+     */
+    public PlacementGenerator(int rows, int columns) {
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Column count must be between 1 and " + MAX_COLUMNS + ": " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.spanX = columns + PAD;
+        this.spanY = rows + PAD;
+        this.emptyRow = ~(((1 << columns) - 1) << GUARD);
+        this.snapshot = new int[rows];
+        int states = MAX_ROTATIONS * spanX * spanY;
+        this.visited = new long[(states + Long.SIZE - 1) / Long.SIZE];
+        this.queue = new int[states];
+        this.parents = new int[states];
+        this.parentMoves = new byte[states];
+        this.placements = new int[states];
+        Arrays.fill(snapshot, emptyRow);
+    }
+
+    /**
+     * Copies a board's background into the snapshot the search runs on.
+     *
+     * @param matrix Color codes, one array per row (0 for empty cells)
+     */
+    public void loadSnapshot(int[][] matrix) {
+        for (int row = 0; row < rows; row++) {
+            int mask = emptyRow;
+            int[] cells = matrix[row];
+            for (int column = 0; column < columns; column++) {
+                if (cells[column] != 0) {
+                    mask |= 1 << (column + GUARD);
+                }
+            }
+            snapshot[row] = mask;
+        }
+    }
+
+    // Copies the occupancy of a searched position into the snapshot, straight from its row masks
+    public void loadSnapshot(BoardFeatures features) {
+        for (int row = 0; row < rows; row++) {
+            snapshot[row] = emptyRow | (features.getRowMask(row) << GUARD);
+        }
+    }
+
+    /**
+     * Snapshots a board and enumerates the placements of its falling brick from where it is now.
+     *
+     * @param board The board to read
+     * @return the number of placements found
+     */
+    public int generate(Board board) {
+        loadSnapshot(board.getBoardMatrix());
+        return generate(board.getCurrentBrick().getPieceTable(), board.getBrickX(), board.getBrickY(),
+                board.getBrickRotation());
+    }
+
+    /**
+     * Enumerates the placements of a brick on the current snapshot.
+     *
+     * @param piece Rotation table of the brick
+     * @param x Starting column of the brick's 4x4 shape
+     * @param y Starting row of the brick's 4x4 shape
+     * @param rotation Starting rotation index
+     * @return the number of placements found (0 if the starting position is blocked)
+     */
+    public int generate(PieceTable piece, int x, int y, int rotation) {
+        this.piece = piece;
+        placementCount = 0;
+        Arrays.fill(visited, 0L);
+        if (collides(rotation, x, y)) {
+            return 0;
+        }
+
+        int start = state(x, y, rotation);
+        markVisited(start);
+        parents[start] = NO_PARENT;
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+        int rotationCount = piece.getRotationCount();
+        while (head < tail) {
+            int current = queue[head++];
+            int cx = stateX(current);
+            int cy = stateY(current);
+            int cr = stateRotation(current);
+
+            // Rotation, trying the plain turn first and then each kick, exactly as the boards do
+            int next = (cr + 1) % rotationCount;
+            if (next != cr) {
+                PieceTable.Rotation from = piece.getRotation(cr);
+                int kick = -1;
+                int rx = cx;
+                int ry = cy;
+                while (collides(next, rx, ry) && ++kick < from.getKickCount()) {
+                    rx = cx + from.getKickX(kick);
+                    ry = cy + from.getKickY(kick);
+                }
+                if (kick < from.getKickCount()) {
+                    tail = visit(current, 0, rx, ry, next, tail);
+                }
+            }
+            if (!collides(cr, cx - 1, cy)) {
+                tail = visit(current, 1, cx - 1, cy, cr, tail);
+            }
+            if (!collides(cr, cx + 1, cy)) {
+                tail = visit(current, 2, cx + 1, cy, cr, tail);
+            }
+            if (!collides(cr, cx, cy + 1)) {
+                tail = visit(current, 3, cx, cy + 1, cr, tail);
+            } else {
+                placements[placementCount++] = pack(cx, cy, cr);
+            }
+        }
+        return placementCount;
+    }
+
+    // Queues an unvisited state and records how it was reached
+    private int visit(int parent, int move, int x, int y, int rotation, int tail) {
+        int state = state(x, y, rotation);
+        if (isVisited(state)) {
+            return tail;
+        }
+        markVisited(state);
+        parents[state] = parent;
+        parentMoves[state] = (byte) move;
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    /**
+     * Checks whether a rotation of the current piece collides with the walls, floor or snapshot.
+     * Positions outside the search area always collide.
+     */
+    private boolean collides(int rotationIndex, int x, int y) {
+        if (x < -PAD || x >= columns || y < -PAD || y >= rows) {
+            return true;
+        }
+        PieceTable.Rotation rotation = piece.getRotation(rotationIndex);
+        int shift = x + GUARD;
+        for (int i = rotation.getMinRow(); i <= rotation.getMaxRow(); i++) {
+            int mask = rotation.getRowMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= rows || (snapshot[row] & (mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the shortest sequence of moves that takes the brick from its starting position to a placement
+     * found by the last generate call. The brick is then resting, so a hard drop or down move locks it there.
+     *
+     * @param placement A packed placement from getPlacement
+     * @param moves Receives the moves in order (ROTATE, LEFT, RIGHT or DOWN); must be large enough
+     * @return the number of moves written
+     */
+    public int getPath(int placement, EventType[] moves) {
+        int length = 0;
+        for (int state = state(placement); parents[state] != NO_PARENT; state = parents[state]) {
+            length++;
+        }
+        int index = length;
+        for (int state = state(placement); parents[state] != NO_PARENT; state = parents[state]) {
+            moves[--index] = MOVES[parentMoves[state]];
+        }
+        return length;
+    }
+
+    // Gets the number of placements found by the last generate call
+    public int getPlacementCount() {
+        return placementCount;
+    }
+
+    // Gets a packed placement found by the last generate call
+    public int getPlacement(int index) {
+        if (index < 0 || index >= placementCount) {
+            throw new IndexOutOfBoundsException("Placement " + index + " of " + placementCount);
+        }
+        return placements[index];
+    }
+
+    // Gets the column of a packed placement's 4x4 shape
+    public static int getX(int placement) {
+        return (placement & FIELD_MASK) - PAD;
+    }
+
+    // Gets the row of a packed placement's 4x4 shape
+    public static int getY(int placement) {
+        return ((placement >>> FIELD_BITS) & FIELD_MASK) - PAD;
+    }
+
+    // Gets the rotation index of a packed placement
+    public static int getRotation(int placement) {
+        return placement >>> (2 * FIELD_BITS);
+    }
+
+    private static int pack(int x, int y, int rotation) {
+        return (rotation << (2 * FIELD_BITS)) | ((y + PAD) << FIELD_BITS) | (x + PAD);
+    }
+
+    // State index of a position, used for the visited bitset and parent links
+    private int state(int x, int y, int rotation) {
+        return (rotation * spanY + y + PAD) * spanX + x + PAD;
+    }
+
+    private int state(int placement) {
+        return state(getX(placement), getY(placement), getRotation(placement));
+    }
+
+    private int stateX(int state) {
+        return state % spanX - PAD;
+    }
+
+    private int stateY(int state) {
+        return state / spanX % spanY - PAD;
+    }
+
+    private int stateRotation(int state) {
+        return state / (spanX * spanY);
+    }
+
+    private boolean isVisited(int state) {
+        return (visited[state >>> 6] & (1L << state)) != 0;
+    }
+
+    private void markVisited(int state) {
+        visited[state >>> 6] |= 1L << state;
+    }
+}
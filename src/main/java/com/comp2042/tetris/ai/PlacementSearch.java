@@ -0,0 +1,35 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.Board;
+import com.comp2042.tetris.model.piece.PieceTable;
+
+/**
+ * A deadline-bounded search for where to place the falling brick, as BotPlayer drives it: load on the thread
+ * that owns the board, search on a worker thread, then read the result back on the owning thread.
+ */
+interface PlacementSearch {
+
+    // Copies the position to search from a board, on the thread that owns it, and clears the previous result
+    void load(Board board);
+
+    // Checks whether a board still holds the position last loaded, ignoring moves of the falling brick
+    boolean isCurrent(Board board);
+
+    // Searches the loaded position until done or the deadline (a System.nanoTime() value) passes
+    boolean search(long deadlineNanos);
+
+    boolean hasResult();
+
+    // Gets whether the chosen move starts with a hold
+    boolean isHold();
+
+    // Gets the brick the chosen move places (the one brought in by hold when isHold is true)
+    PieceTable getPiece();
+
+    // Gets the chosen placement, packed as by PlacementGenerator
+    int getPlacement();
+
+    // Releases any threads the search owns
+    default void close() {
+    }
+}
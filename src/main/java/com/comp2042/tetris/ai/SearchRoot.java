@@ -0,0 +1,108 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.Board;
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.PieceTable;
+
+import java.util.Arrays;
+
+/**
+ * The position a search starts from, copied from a board: the background and its features, the falling brick
+ * and its position, the hold slot and the preview brick. Bricks are kept as rotation tables, with null for none.
+ * load and matches run on the thread that owns the board; the copy can then be read on any thread.
+ */
+final class SearchRoot {
+
+    private final int rows;
+    private final int columns;
+    private final int[][] cells;
+    private final BoardFeatures features;
+    private PieceTable current;
+    private PieceTable held;
+    private PieceTable next;
+    private boolean canHold;
+    private int x;
+    private int y;
+    private int rotation;
+
+    SearchRoot(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        cells = new int[rows][columns];
+        features = new BoardFeatures(rows, columns);
+    }
+
+    // Copies the position from a board
+    void load(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(matrix[row], 0, cells[row], 0, columns);
+        }
+        features.recompute(cells);
+        current = tableOf(board.getCurrentBrick());
+        held = tableOf(board.getHeldBrick());
+        next = tableOf(board.getNextBrick());
+        canHold = board.canHold();
+        x = board.getBrickX();
+        y = board.getBrickY();
+        rotation = board.getBrickRotation();
+    }
+
+    /**
+     * Checks whether a board still holds the loaded position: same background, falling brick type and hold
+     * slot. The falling brick may have moved since, for example by gravity.
+     *
+     * @param board The board to compare, on the thread that owns it
+     * @return true if a result for the loaded position still applies to the board
+     */
+    boolean matches(Board board) {
+        if (tableOf(board.getCurrentBrick()) != current || tableOf(board.getHeldBrick()) != held) {
+            return false;
+        }
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 0; row < rows; row++) {
+            if (!Arrays.equals(matrix[row], cells[row])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Gets a brick's rotation table, with null for no brick
+    private static PieceTable tableOf(Brick brick) {
+        PieceTable table = brick == null ? null : brick.getPieceTable();
+        return table == null || table.getType() == null ? null : table;
+    }
+
+    BoardFeatures getFeatures() {
+        return features;
+    }
+
+    PieceTable getCurrent() {
+        return current;
+    }
+
+    PieceTable getHeld() {
+        return held;
+    }
+
+    PieceTable getNext() {
+        return next;
+    }
+
+    boolean canHold() {
+        return canHold;
+    }
+
+    int getX() {
+        return x;
+    }
+
+    int getY() {
+        return y;
+    }
+
+    int getRotation() {
+        return rotation;
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.tetris.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size hash table of search values shared by all search threads without locks.
+ * Each slot is two longs: the key XORed with the data, then the data. A reader accepts a slot only if XORing
+ * the two gives back its key, so a slot torn by a concurrent writer reads as a miss rather than as a wrong
+ * value (the lockless scheme of Hyatt and Mann). New entries always replace old ones.
+ */
+final class TranspositionTable {
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param sizeBits Base-2 logarithm of the number of entries
+     */
+    TranspositionTable(int sizeBits) {
+        slots = new AtomicLongArray(2 << sizeBits);
+        mask = (1 << sizeBits) - 1;
+    }
+
+    // Gets the value stored for a key, or NaN if there is none
+    double get(long key) {
+        int slot = slot(key);
+        long data = slots.getOpaque(slot + 1);
+        long check = slots.getOpaque(slot);
+        return (check ^ data) == key ? Double.longBitsToDouble(data) : Double.NaN;
+    }
+
+    // Stores a value for a key, replacing whatever the slot held
+    void put(long key, double value) {
+        int slot = slot(key);
+        long data = Double.doubleToRawLongBits(value);
+        slots.setOpaque(slot, key ^ data);
+        slots.setOpaque(slot + 1, data);
+    }
+
+    private int slot(long key) {
+        return ((int) key & mask) << 1;
+    }
+}
@@ -1,5 +1,9 @@
 package com.comp2042.tetris.controller;
 
+import com.comp2042.tetris.ai.BotPlayer;
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.GameStatsListener;
 import com.comp2042.tetris.model.LevelManager;
 import com.comp2042.tetris.dto.MoveResultData;
 import com.comp2042.tetris.dto.MoveEvent;
@@ -7,49 +11,101 @@ import com.comp2042.tetris.input.EventSource;
 import com.comp2042.tetris.input.InputEventListener;
 import com.comp2042.tetris.dto.ClearRow;
 import com.comp2042.tetris.model.Board;
-import com.comp2042.tetris.view.GameViewController;
+import com.comp2042.tetris.model.Score;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.replay.Replay;
+import com.comp2042.tetris.replay.ReplayRecorder;
+import com.comp2042.tetris.view.GameView;
 import com.comp2042.tetris.model.GameBoard;
 import com.comp2042.tetris.dto.GameStateView;
 
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
 /**
  * Main controller for the Tetris game.
- * Handles game logic, user input, scoring, and level progression.
- * Acts as intermediary between the game model and view components.
+ * Forwards user input to a headless GameEngine, which applies the game rules, scoring and level progression,
+ * and passes the results on to the view. Score and LevelManager adapt the engine's counters for JavaFX binding.
  */
 public class GameController implements InputEventListener {
 
-    // Points awarded for soft and hard drops
-    private static final int SOFT_DROP_POINTS = 1;
-    private static final int HARD_DROP_POINTS = 5;
+    // System property giving the number of threads the bot searches on (default 1)
+    private static final String BOT_THREADS_PROPERTY = "tetris.bot.threads";
+
+    // Game rules and counters, free of JavaFX
+    private final GameEngine engine;
 
     // Game board managing pieces and grid state
-    private Board board = new GameBoard(25, 10);
+    private final Board board;
+
+    // View for updating the GUI
+    private final GameView viewGameViewController;
+
+    // JavaFX adapters over the engine's counters
+    private final Score score;
+    private final LevelManager levelManager;
 
-    // View controller for updating the GUI
-    private final GameViewController viewGameViewController;
+    // Records every event of the session for replay
+    private final ReplayRecorder recorder;
 
-    // Level manager for handling level progression and speed
-    private final LevelManager levelManager = new LevelManager();
+    // Built-in bot, created the first time autoplay is turned on
+    private BotPlayer bot;
 
     /**
-     * Initializes the game controller.
+     * Initializes the game controller with the standard 25x10 board and a random seed.
      * Sets up the game board, connects to the view, and binds score/level properties.
      */
-    public GameController(GameViewController c) {
+    public GameController(GameView c) {
+        this(c, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Initializes the game controller with the standard 25x10 board and a fixed brick sequence.
+     *
+     * @param c The view to update
+     * @param seed The seed of the brick generator, stored in replays
+     */
+    public GameController(GameView c, long seed) {
+        this(c, new GameBoard(25, 10, new RandomBrickGenerator(seed)), seed);
+    }
+
+    /**
+     * Initializes the game controller on the given board.
+     *
+     * @param c The view to update
+     * @param board The board to play on
+     * @param seed The seed of the board's brick generator, stored in replays
+     */
+    public GameController(GameView c, Board board, long seed) {
+        this.board = board;
+        int[][] matrix = board.getBoardMatrix();
+        this.recorder = new ReplayRecorder(seed, matrix.length, matrix[0].length);
+        this.engine = new GameEngine(board);
+        this.score = new Score(engine.getStats());
+        this.levelManager = new LevelManager(engine.getStats());
         viewGameViewController = c;
-        board.createNewBrick();
+        engine.start();
         viewGameViewController.setEventListener(this);
         viewGameViewController.initGameView(board.getBoardMatrix(), board.getViewData());
 
         // Pass level properties to GUI
         viewGameViewController.bindScore(
-                board.getScore().scoreProperty(),
-                board.getScore().highScoreProperty(),
+                score.scoreProperty(),
+                score.highScoreProperty(),
                 levelManager.currentLevelProperty(),
                 levelManager.totalLinesClearedProperty(),
                 levelManager.linesToNextLevelProperty()
         );
 
+        // Speed up as the level rises
+        engine.getStats().addListener(new GameStatsListener() {
+            @Override
+            public void onLevelChanged(int level) {
+                updateGameSpeed();
+            }
+        });
+
         // Set initial game speed
         updateGameSpeed();
     }
@@ -61,36 +117,30 @@ public class GameController implements InputEventListener {
      */
     @Override
     public MoveResultData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
+        recorder.record(event.getEventType(), event.getEventSource());
         ClearRow clearRow = null;
-        if (!canMove) {
-            // Merge the brick into the board
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-
-            // Award points for cleared rows
-            if (clearRow != null && clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
+        if (!engine.moveDown(event.getEventSource() == EventSource.USER)) {
+            clearRow = engine.getLastClearRow();
+            afterLock();
+        }
+        return new MoveResultData(clearRow, board.getViewData());
+    }
 
-                // Add cleared lines to level manager
-                levelManager.addLinesCleared(clearRow.getLinesRemoved());
+    // Ends the game if the next brick could not spawn, then repaints the changed rows
+    private void afterLock() {
+        if (engine.isGameOver()) {
+            score.saveIfHighScore();
+            viewGameViewController.gameOver();
+        }
+        refreshBackground();
+    }
 
-                // Update game speed based on new level
-                updateGameSpeed();
-            }
-            // Create a new brick; if unable, the game is over
-            if (board.createNewBrick()) {
-                board.getScore().saveIfHighScore();
-                viewGameViewController.gameOver();
-            }
-            viewGameViewController.refreshGameBackground(board.getBoardMatrix());
-        } else {
-            // Award soft drop points for user-initiated down moves
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(SOFT_DROP_POINTS);
-            }
+    // Repaints only the board rows changed since the last refresh (nothing, for example, after a hold)
+    private void refreshBackground() {
+        long dirtyRows = board.pollDirtyRows();
+        if (dirtyRows != 0) {
+            viewGameViewController.refreshGameBackground(board.getBoardMatrix(), dirtyRows);
         }
-        return new MoveResultData(clearRow, board.getViewData());
     }
 
     // Updates the game speed in the view based on the current level
@@ -102,76 +152,87 @@ public class GameController implements InputEventListener {
     // Move brick left
     @Override
     public GameStateView onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
+        recorder.record(event.getEventType(), event.getEventSource());
+        engine.moveLeft();
         return board.getViewData();
     }
 
     // Move brick right
     @Override
     public GameStateView onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
+        recorder.record(event.getEventType(), event.getEventSource());
+        engine.moveRight();
         return board.getViewData();
     }
 
     // Rotate brick clockwise
     @Override
     public GameStateView onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
+        recorder.record(event.getEventType(), event.getEventSource());
+        engine.rotate();
         return board.getViewData();
     }
 
     // Instant drop the brick to the bottom
     @Override
     public MoveResultData onInstantDropEvent(MoveEvent event) {
-        //Keep moving down until it can't move anymore
-        int dropDistance = 0;
-        while (board.moveBrickDown()) {
-            dropDistance++;
-        }
-
-        // Merge the brick and clear rows
-        board.mergeBrickToBackground();
-        ClearRow clearRow = board.clearRows();
-
-        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
-
-            // Add cleared lines to level manager
-            levelManager.addLinesCleared(clearRow.getLinesRemoved());
-
-            // Update game speed based on new level
-            updateGameSpeed();
-        }
-
-        // Add bonus points for hard drop (5 points per cell dropped)
-        board.getScore().add(dropDistance * HARD_DROP_POINTS);
-
-        // Create new brick
-        if (board.createNewBrick()) {
-            board.getScore().saveIfHighScore();
-            viewGameViewController.gameOver();
-        }
-
-        viewGameViewController.refreshGameBackground(board.getBoardMatrix());
-
-        return new MoveResultData(clearRow, board.getViewData());
+        recorder.record(event.getEventType(), event.getEventSource());
+        engine.hardDrop();
+        afterLock();
+        return new MoveResultData(engine.getLastClearRow(), board.getViewData());
     }
 
     // Start a new game
     @Override
     public void createNewGame() {
-        board.newGame();
-        board.getScore().reloadHighScoreFromFile(); // force reload after new game
-        levelManager.reset(); // reset level on new game
+        recorder.recordNewGame();
+        engine.newGame();
+        score.reloadHighScoreFromFile(); // force reload after new game
         updateGameSpeed(); // set initial game speed
-        viewGameViewController.refreshGameBackground(board.getBoardMatrix());
+        refreshBackground();
     }
 
     // Hold the current brick
     @Override
     public GameStateView onHoldEvent(MoveEvent event) {
-        board.holdBrick();
-        viewGameViewController.refreshGameBackground(board.getBoardMatrix());
+        recorder.record(event.getEventType(), event.getEventSource());
+        engine.hold();
+        refreshBackground();
         return board.getViewData();
     }
-}
\ No newline at end of file
+
+    /**
+     * Turns the bot on or off. Its thinking time follows the current gravity interval, so it keeps up as the
+     * level rises. The tetris.bot.threads system property splits each of its searches across more threads.
+     *
+     * @param enabled Whether the bot should play
+     * @param driver Applies one move like a key press, on the game thread
+     * @param gameThread Runs tasks on the game thread
+     */
+    @Override
+    public void setAutoplay(boolean enabled, Consumer<EventType> driver, Executor gameThread) {
+        if (enabled) {
+            if (bot == null) {
+                int threads = Math.max(1, Integer.getInteger(BOT_THREADS_PROPERTY, 1));
+                bot = new BotPlayer(board, levelManager::getCurrentSpeed, gameThread, driver, threads);
+            }
+            bot.start();
+        } else if (bot != null) {
+            bot.stop();
+        }
+    }
+
+    // Stops the bot and ends its worker thread; turning autoplay on again creates a new bot
+    @Override
+    public void dispose() {
+        if (bot != null) {
+            bot.shutdown();
+            bot = null;
+        }
+    }
+
+    // Gets the session recorded so far (seed and every event since the controller was created)
+    public Replay getReplay() {
+        return recorder.toReplay();
+    }
+}
@@ -1,19 +1,27 @@
 package com.comp2042.tetris.dto;
 
+import com.comp2042.tetris.model.piece.PieceTable;
 import com.comp2042.tetris.util.MatrixOperations;
 
 /**
  * Data Transfer Object (DTO) that encapsulates the complete visual state of the game.
  * Contains all information needed by the view layer to render the current game state, including the active brick, preview brick, held brick, and ghost piece positions.
  * This class is immutable (final) to ensure thread-safe data transfer between the game model and view components.
+ * Views built by the boards carry the bricks' shared, read-only PieceTable rotations, so building one copies no
+ * shapes; renderers read cells and colors from those. The int[][] getters are kept for callers that want matrices
+ * and build a fresh copy on each call.
  */
 public final class GameStateView {
 
+    private final PieceTable.Rotation brick;
+    private final PieceTable.Rotation nextBrick;
+    private final PieceTable.Rotation heldBrick;
+    // Matrices of a view built from matrices; null when the view carries rotations
     private final int[][] brickData;
-    private final int xPosition;
-    private final int yPosition;
     private final int[][] nextBrickData;
     private final int[][] heldBrickData;
+    private final int xPosition;
+    private final int yPosition;
     private final int ghostXPosition;
     private final int ghostYPosition;
 
@@ -29,18 +37,61 @@ public final class GameStateView {
      * @param ghostYPosition Y coordinate of the ghost piece
      */
     public GameStateView(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int[][] heldBrickData, int ghostXPosition, int ghostYPosition) {
+        this.brick = null;
+        this.nextBrick = null;
+        this.heldBrick = null;
         this.brickData = brickData;
-        this.xPosition = xPosition;
-        this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
         this.heldBrickData = heldBrickData;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
         this.ghostXPosition = ghostXPosition;
         this.ghostYPosition = ghostYPosition;
     }
 
+    /**
+     * Constructor: A game state view that shares the bricks' rotation data instead of copying shape matrices.
+     *
+     * @param brick Rotation state of the current active brick
+     * @param xPosition X coordinate of the current brick
+     * @param yPosition Y coordinate of the current brick
+     * @param nextBrick Rotation state shown for the next brick
+     * @param heldBrick Rotation state shown for the held brick (the empty table's rotation when nothing is held)
+     * @param ghostXPosition X coordinate of the ghost piece
+     * @param ghostYPosition Y coordinate of the ghost piece
+     */
+    public GameStateView(PieceTable.Rotation brick, int xPosition, int yPosition, PieceTable.Rotation nextBrick,
+                         PieceTable.Rotation heldBrick, int ghostXPosition, int ghostYPosition) {
+        this.brick = brick;
+        this.nextBrick = nextBrick;
+        this.heldBrick = heldBrick;
+        this.brickData = null;
+        this.nextBrickData = null;
+        this.heldBrickData = null;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.ghostXPosition = ghostXPosition;
+        this.ghostYPosition = ghostYPosition;
+    }
+
+    // Getters: gets the shared rotation of the current brick (null for a view built from matrices)
+    public PieceTable.Rotation getBrickRotation() {
+        return brick;
+    }
+
+    // Getters: gets the shared rotation of the next brick (null for a view built from matrices)
+    public PieceTable.Rotation getNextBrickRotation() {
+        return nextBrick;
+    }
+
+    // Getters: gets the shared rotation of the held brick (null for a view built from matrices)
+    public PieceTable.Rotation getHeldBrickRotation() {
+        return heldBrick;
+    }
+
     // Getters: gets a copy of the current brick matrix
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return copyOf(brick, brickData);
     }
 
     // Getters: gets the X position of the current brick
@@ -55,12 +106,12 @@ public final class GameStateView {
 
     // Getters: gets a copy of the next brick matrix
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return copyOf(nextBrick, nextBrickData);
     }
 
     // Getters: gets a copy of the held brick matrix
     public int[][] getHeldBrickData() {
-        return MatrixOperations.copy(heldBrickData);
+        return copyOf(heldBrick, heldBrickData);
     }
 
     // Getters: gets the X position of the ghost piece
@@ -72,4 +123,9 @@ public final class GameStateView {
     public int getGhostYPosition() {
         return ghostYPosition;
     }
+
+    // Copies whichever form of a brick this view holds
+    private static int[][] copyOf(PieceTable.Rotation rotation, int[][] matrix) {
+        return rotation != null ? rotation.toMatrix() : MatrixOperations.copy(matrix);
+    }
 }
@@ -10,4 +10,8 @@ public interface GameInputCallback {
     void onHold(MoveEvent event);
     void onNewGame();
     void onPause();
+
+    // Autoplay toggle key; ignored unless the view supports the bot
+    default void onToggleAutoplay() {
+    }
 }
@@ -60,49 +60,61 @@ public class GameInputHandler {
     /**
      * Handles game-specific controls for piece movement and actions.
      * Supports both arrow keys and WASD for better accessibility.
-     * All events are marked as USER source to distinguish from automatic movement.
      *
      * @param code The key code pressed
      * @param keyEvent The key event to consume after processing
      */
     private void handleGameControls(KeyCode code, KeyEvent keyEvent) {
-        switch (code) {
+        EventType type = switch (code) {
             // Left movement: Left Arrow or 'A'
-            case LEFT, A -> {
-                callback.onMove(eventListener.onLeftEvent(
-                        new MoveEvent(EventType.LEFT, EventSource.USER)
-                ));
-                keyEvent.consume();
-            }
+            case LEFT, A -> EventType.LEFT;
             // Right movement: Right Arrow or 'D'
-            case RIGHT, D -> {
-                callback.onMove(eventListener.onRightEvent(
-                        new MoveEvent(EventType.RIGHT, EventSource.USER)
-                ));
-                keyEvent.consume();
-            }
+            case RIGHT, D -> EventType.RIGHT;
             // Rotation: Up Arrow or 'W'
-            case UP, W -> {
-                callback.onMove(eventListener.onRotateEvent(
-                        new MoveEvent(EventType.ROTATE, EventSource.USER)
-                ));
-                keyEvent.consume();
-            }
+            case UP, W -> EventType.ROTATE;
             // Down movement: Down Arrow or 'S'
-            case DOWN, S -> {
-                callback.onMoveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
-                keyEvent.consume();
-            }
+            case DOWN, S -> EventType.DOWN;
             // Instant drop: Spacebar
-            case SPACE -> {
-                callback.onInstantDrop(new MoveEvent(EventType.INSTANT_DROP, EventSource.USER));
-                keyEvent.consume();
-            }
+            case SPACE -> EventType.INSTANT_DROP;
             // Hold piece: 'C' or Shift
-            case C, SHIFT -> {
-                callback.onHold(new MoveEvent(EventType.HOLD, EventSource.USER));
-                keyEvent.consume();
-            }
+            case C, SHIFT -> EventType.HOLD;
+            default -> null;
+        };
+        if (type != null) {
+            dispatch(type);
+            keyEvent.consume();
+        } else if (code == KeyCode.B) {
+            // 'B' toggles the bot
+            callback.onToggleAutoplay();
+            keyEvent.consume();
+        }
+    }
+
+    /**
+     * Applies one move exactly as its key would, for moves that do not come from the keyboard (the bot).
+     *
+     * @param type The move to apply
+     * @param canMove Whether the game is in a state that allows piece movement
+     */
+    public void handleMove(EventType type, boolean canMove) {
+        if (canMove) {
+            dispatch(type);
+        }
+    }
+
+    /**
+     * Sends a move to the listener and the callback.
+     * All events are marked as USER source to distinguish from automatic movement.
+     */
+    private void dispatch(EventType type) {
+        MoveEvent event = new MoveEvent(type, EventSource.USER);
+        switch (type) {
+            case LEFT -> callback.onMove(eventListener.onLeftEvent(event));
+            case RIGHT -> callback.onMove(eventListener.onRightEvent(event));
+            case ROTATE -> callback.onMove(eventListener.onRotateEvent(event));
+            case DOWN -> callback.onMoveDown(event);
+            case INSTANT_DROP -> callback.onInstantDrop(event);
+            case HOLD -> callback.onHold(event);
         }
     }
 }
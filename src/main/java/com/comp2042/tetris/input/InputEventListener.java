@@ -4,6 +4,9 @@ import com.comp2042.tetris.dto.MoveResultData;
 import com.comp2042.tetris.dto.MoveEvent;
 import com.comp2042.tetris.dto.GameStateView;
 
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
 public interface InputEventListener {
 
     MoveResultData onDownEvent(MoveEvent event);
@@ -19,4 +22,13 @@ public interface InputEventListener {
     GameStateView onHoldEvent(MoveEvent event); //piece storage
 
     void createNewGame();
+
+    // Turns the built-in bot on or off; it plays through the driver, which runs moves like key presses on the
+    // game thread (tasks for that thread go to gameThread). Listeners without a bot ignore this.
+    default void setAutoplay(boolean enabled, Consumer<EventType> driver, Executor gameThread) {
+    }
+
+    // Releases background resources such as the bot's worker thread when the game view is left
+    default void dispose() {
+    }
 }
@@ -0,0 +1,423 @@
+package com.comp2042.tetris.model;
+
+import com.comp2042.tetris.dto.ClearRow;
+import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickGenerator;
+import com.comp2042.tetris.model.piece.BrickRotator;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.model.piece.types.NullBrick;
+import com.comp2042.tetris.util.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard implementation of the Tetris game board, intended for headless simulations.
+ * Occupancy is stored as one int bitmask per row, with the playfield columns placed between solid "wall" bits,
+ * so collision, merging and full-row detection are a handful of shift/AND operations per piece row.
+ * Row masks of each brick rotation come precomputed from the shared PieceTable. Brick colors are kept in a separate matrix that is only
+ * used for rendering (getBoardMatrix), so callers must treat that matrix as read-only.
+ */
+public class BitboardGameBoard implements Board {
+
+    // Number of wall bits kept on each side of the playfield; a 4x4 shape can never shift past them
+    private static final int GUARD = 4;
+    private static final int MAX_COLUMNS = Integer.SIZE - 2 * GUARD;
+    private static final int FULL_ROW = -1;
+    private static final int SPAWN_X = 3;
+    private static final int SPAWN_Y = 0;
+    private static final long ALL_ROWS = -1L;
+
+    private final int rows;
+    private final int emptyRow;
+    private final int[] occupancy;
+    private final int[][] colorMatrix;
+    // Clear results by line count; they are immutable and share the matrix, so clearing never allocates
+    private final ClearRow[] clearResults;
+    private final ZobristHash zobrist;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private long dirtyRows = ALL_ROWS;
+    private int currentX;
+    private int currentY;
+    private Brick heldBrick = NullBrick.getInstance();
+    private boolean canHold = true;
+
+    /**
+     * Initializes a new bitboard with specified dimensions.
+     *
+     * @param rows Number of rows in the board (typically 25, including hidden rows)
+     * @param columns Number of columns in the board (typically 10, at most 24)
+     */
+    public BitboardGameBoard(int rows, int columns) {
+        this(rows, columns, new RandomBrickGenerator());
+    }
+
+    /**
+     * Initializes a new bitboard that draws its pieces from the given generator.
+     *
+     * @param rows Number of rows in the board (typically 25, including hidden rows)
+     * @param columns Number of columns in the board (typically 10, at most 24)
+     * @param brickGenerator Source of the falling bricks
+     */
+    public BitboardGameBoard(int rows, int columns, BrickGenerator brickGenerator) {
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Column count must be between 1 and " + MAX_COLUMNS + ": " + columns);
+        }
+        this.rows = rows;
+        this.emptyRow = ~(((1 << columns) - 1) << GUARD);
+        this.occupancy = new int[rows];
+        this.colorMatrix = new int[rows][columns];
+        this.zobrist = new ZobristHash(rows, columns);
+        this.clearResults = new ClearRow[rows + 1];
+        for (int lines = 0; lines <= rows; lines++) {
+            clearResults[lines] = new ClearRow(lines, colorMatrix, MatrixOperations.getScoreBonus(lines));
+        }
+        this.brickGenerator = brickGenerator;
+        this.brickRotator = new BrickRotator();
+        Arrays.fill(occupancy, emptyRow);
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(currentX, currentY + 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(currentX - 1, currentY);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(currentX + 1, currentY);
+    }
+
+    // Moves the current brick to the target position if it does not collide
+    private boolean tryMove(int x, int y) {
+        if (collides(brickRotator.getCurrentRotation(), x, y)) {
+            return false;
+        }
+        currentX = x;
+        currentY = y;
+        return true;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int landingY = calculateGhostY();
+        int distance = landingY - currentY;
+        currentY = landingY;
+        return distance;
+    }
+
+    /**
+     * Rotates the current brick using the same wall kick order as GameBoard.
+     *
+     * @return true if the rotation was successful, false if blocked
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = brickRotator.getNextShapeIndex();
+        PieceTable.Rotation nextMasks = brickRotator.getRotation(nextRotation);
+
+        if (!collides(nextMasks, currentX, currentY)) {
+            brickRotator.setCurrentShape(nextRotation);
+            return true;
+        }
+        PieceTable.Rotation current = brickRotator.getCurrentRotation();
+        for (int kick = 0; kick < current.getKickCount(); kick++) {
+            int x = currentX + current.getKickX(kick);
+            int y = currentY + current.getKickY(kick);
+            if (!collides(nextMasks, x, y)) {
+                brickRotator.setCurrentShape(nextRotation);
+                currentX = x;
+                currentY = y;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a rotation's row masks collide with the walls, floor or settled blocks.
+     *
+     * @param rotation Rotation whose row masks are tested (bit j set when shape column j is filled)
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge
+     * @return true if the piece would overlap something or leave the board
+     */
+    private boolean collides(PieceTable.Rotation rotation, int x, int y) {
+        int shift = x + GUARD;
+        for (int i = rotation.getMinRow(); i <= rotation.getMaxRow(); i++) {
+            int mask = rotation.getRowMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= rows || shift < 0 || shift > Integer.SIZE - GUARD) {
+                return true;
+            }
+            if ((occupancy[row] & (mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        spawn(brickGenerator.getBrick());
+        canHold = true;
+        return collides(brickRotator.getCurrentRotation(), currentX, currentY);
+    }
+
+    // Places a brick at the spawn point with its first rotation
+    private void spawn(Brick brick) {
+        brickRotator.setBrick(brick);
+        currentX = SPAWN_X;
+        currentY = SPAWN_Y;
+    }
+
+    /**
+     * Gets the color plane of the board.
+     * The bitmasks are the source of truth, so the returned matrix must not be modified.
+     *
+     * @return 2D array of brick colors (0 for empty cells)
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorMatrix;
+    }
+
+    @Override
+    public GameStateView getViewData() {
+        PieceTable.Rotation heldRotation = heldBrick.getPieceTable().getRotation(0);
+        PieceTable.Rotation nextRotation = brickGenerator.getNextBrick().getPieceTable().getRotation(0);
+        return new GameStateView(
+                brickRotator.getCurrentRotation(),
+                currentX,
+                currentY,
+                nextRotation,
+                heldRotation,
+                currentX,
+                calculateGhostY()
+        );
+    }
+
+    // Finds the lowest row the current brick can fall to from its present position
+    private int calculateGhostY() {
+        PieceTable.Rotation masks = brickRotator.getCurrentRotation();
+        if (collides(masks, currentX, currentY)) {
+            return currentY;
+        }
+        int y = currentY;
+        while (!collides(masks, currentX, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        PieceTable.Rotation rotation = brickRotator.getCurrentRotation();
+        int color = rotation.getColor();
+        int shift = currentX + GUARD;
+        for (int i = rotation.getMinRow(); i <= rotation.getMaxRow(); i++) {
+            int row = currentY + i;
+            if (row < 0 || row >= rows) {
+                continue;
+            }
+            // Out-of-bounds cells are dropped, matching MatrixOperations.merge
+            int placed = (rotation.getRowMask(i) << shift) & ~emptyRow;
+            int added = placed & ~occupancy[row];
+            occupancy[row] |= placed;
+            dirtyRows |= row < Long.SIZE ? 1L << row : ALL_ROWS;
+            while (placed != 0) {
+                colorMatrix[row][Integer.numberOfTrailingZeros(placed) - GUARD] = color;
+                placed &= placed - 1;
+            }
+            while (added != 0) {
+                zobrist.toggle(row, Integer.numberOfTrailingZeros(added) - GUARD);
+                added &= added - 1;
+            }
+        }
+    }
+
+    /**
+     * Removes full rows by compacting the surviving row masks (and color rows) toward the bottom.
+     *
+     * @return ClearRow containing information about cleared lines and score bonus
+     */
+    @Override
+    public ClearRow clearRows() {
+        int write = rows - 1;
+        int cleared = 0;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (occupancy[read] == FULL_ROW) {
+                // Every row from the top down to this one shifts
+                dirtyRows |= read >= Long.SIZE - 1 ? ALL_ROWS : (1L << (read + 1)) - 1;
+                zobrist.removeRow(read);
+                cleared++;
+                continue;
+            }
+            if (write != read) {
+                zobrist.moveRow(read, write);
+                occupancy[write] = occupancy[read];
+                int[] colors = colorMatrix[write];
+                colorMatrix[write] = colorMatrix[read];
+                colorMatrix[read] = colors;
+            }
+            write--;
+        }
+        for (int row = write; row >= 0; row--) {
+            occupancy[row] = emptyRow;
+            Arrays.fill(colorMatrix[row], 0);
+        }
+        return clearResults[cleared];
+    }
+
+    @Override
+    public long pollDirtyRows() {
+        long rows = dirtyRows;
+        dirtyRows = 0;
+        return rows;
+    }
+
+    @Override
+    public Brick holdBrick() {
+        if (!canHold) {
+            return NullBrick.getInstance();
+        }
+        Brick temp = heldBrick;
+        heldBrick = brickRotator.getBrick();
+        canHold = false;
+        spawn(temp instanceof NullBrick ? brickGenerator.getBrick() : temp);
+        return heldBrick;
+    }
+
+    // Returns the brick in the hold slot (NullBrick when empty)
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return brickGenerator.getNextBrick();
+    }
+
+    @Override
+    public boolean canHold() {
+        return canHold;
+    }
+
+    @Override
+    public int getBrickRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    @Override
+    public int getBrickX() {
+        return currentX;
+    }
+
+    @Override
+    public int getBrickY() {
+        return currentY;
+    }
+
+    // Gets the same state hash as GameBoard, maintained on merges and clears
+    @Override
+    public long getHash() {
+        return zobrist.getPlayfield()
+                ^ zobrist.pieceKey(brickRotator.getPieceTable(), brickRotator.getCurrentShapeIndex(), currentX, currentY)
+                ^ zobrist.holdKey(heldBrick, canHold);
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(occupancy, emptyRow);
+        for (int[] row : colorMatrix) {
+            Arrays.fill(row, 0);
+        }
+        zobrist.reset();
+        dirtyRows = ALL_ROWS;
+        heldBrick = NullBrick.getInstance();
+        canHold = true;
+        createNewBrick();
+    }
+
+    @Override
+    public void loadBackground(int[][] cells, Brick heldBrick) {
+        for (int row = 0; row < rows; row++) {
+            int mask = emptyRow;
+            int[] colors = colorMatrix[row];
+            for (int column = 0; column < colors.length; column++) {
+                int color = cells[row][column];
+                colors[column] = color;
+                if (color != 0) {
+                    mask |= 1 << (column + GUARD);
+                }
+            }
+            occupancy[row] = mask;
+        }
+        zobrist.load(colorMatrix);
+        dirtyRows = ALL_ROWS;
+        this.heldBrick = heldBrick;
+        canHold = true;
+    }
+
+    @Override
+    public int getStateSize() {
+        return rows * colorMatrix[0].length + BoardState.FIELDS + brickGenerator.getStateSize();
+    }
+
+    // Writes the same state layout as GameBoard, so states can move between the two boards
+    @Override
+    public int saveState(int[] buffer, int offset) {
+        for (int[] row : colorMatrix) {
+            System.arraycopy(row, 0, buffer, offset, row.length);
+            offset += row.length;
+        }
+        buffer[offset + BoardState.BRICK] = BoardState.encode(brickRotator.getBrick());
+        buffer[offset + BoardState.ROTATION] = brickRotator.getCurrentShapeIndex();
+        buffer[offset + BoardState.X] = currentX;
+        buffer[offset + BoardState.Y] = currentY;
+        buffer[offset + BoardState.HELD] = BoardState.encode(heldBrick);
+        buffer[offset + BoardState.CAN_HOLD] = canHold ? 1 : 0;
+        return brickGenerator.saveState(buffer, offset + BoardState.FIELDS);
+    }
+
+    // Restores a state written by saveState, rebuilding the occupancy masks and hash
+    @Override
+    public int restoreState(int[] buffer, int offset) {
+        for (int row = 0; row < rows; row++) {
+            int[] colors = colorMatrix[row];
+            int mask = emptyRow;
+            for (int column = 0; column < colors.length; column++) {
+                int color = buffer[offset++];
+                colors[column] = color;
+                if (color != 0) {
+                    mask |= 1 << (column + GUARD);
+                }
+            }
+            occupancy[row] = mask;
+        }
+        zobrist.load(colorMatrix);
+        dirtyRows = ALL_ROWS;
+        brickRotator.setBrick(BoardState.decode(buffer[offset + BoardState.BRICK]));
+        brickRotator.setCurrentShape(buffer[offset + BoardState.ROTATION]);
+        currentX = buffer[offset + BoardState.X];
+        currentY = buffer[offset + BoardState.Y];
+        heldBrick = BoardState.decode(buffer[offset + BoardState.HELD]);
+        canHold = buffer[offset + BoardState.CAN_HOLD] != 0;
+        return brickGenerator.restoreState(buffer, offset + BoardState.FIELDS);
+    }
+}
@@ -14,6 +14,9 @@ public interface Board {
 
     boolean rotateLeftBrick();
 
+    // Drops the current brick straight to its landing row and returns the number of rows it fell
+    int hardDropBrick();
+
     boolean createNewBrick();
 
     int[][] getBoardMatrix();
@@ -22,11 +25,51 @@ public interface Board {
 
     void mergeBrickToBackground();
 
-    ClearRow clearRows();
+    // Returns a bitmask of the rows changed since the last call (bit i = row i, all bits for boards over 64 rows) and resets it
+    long pollDirtyRows();
 
-    Score getScore();
+    ClearRow clearRows();
 
     void newGame();
 
     Brick holdBrick();
+
+    // Returns the brick in the hold slot (NullBrick when empty)
+    Brick getHeldBrick();
+
+    // Returns the falling brick
+    Brick getCurrentBrick();
+
+    // Returns the brick that spawns after the falling one
+    Brick getNextBrick();
+
+    // Returns whether the falling brick may still be swapped into the hold slot
+    boolean canHold();
+
+    // Returns the rotation index of the falling brick
+    int getBrickRotation();
+
+    // Returns the column of the falling brick's 4x4 shape
+    int getBrickX();
+
+    // Returns the row of the falling brick's 4x4 shape
+    int getBrickY();
+
+    // Returns a 64-bit hash of the playfield, the falling brick (type, rotation, position) and the hold state;
+    // boards of the same size give equal states equal hashes
+    long getHash();
+
+    // Returns the number of ints saveState writes
+    int getStateSize();
+
+    // Writes the full board state (cells, falling brick, hold slot and generator) into the buffer at offset
+    // and returns the offset after it
+    int saveState(int[] buffer, int offset);
+
+    // Restores a state written by saveState on a board of the same size and returns the offset after it
+    int restoreState(int[] buffer, int offset);
+
+    // Replaces the background with a copy of the given cells and sets the held brick (hold is re-enabled);
+    // the current brick is not touched, so callers normally follow with createNewBrick
+    void loadBackground(int[][] cells, Brick heldBrick);
 }
@@ -0,0 +1,40 @@
+package com.comp2042.tetris.model;
+
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.types.NullBrick;
+
+/**
+ * Layout of the flat int buffer the boards save their state into.
+ * A state is the rows * columns cell colors row by row, followed by the fields below, followed by the
+ * brick generator's own state.
+ */
+final class BoardState {
+
+    // Fields after the cells
+    static final int BRICK = 0;
+    static final int ROTATION = 1;
+    static final int X = 2;
+    static final int Y = 3;
+    static final int HELD = 4;
+    static final int CAN_HOLD = 5;
+    static final int FIELDS = 6;
+
+    private static final BrickFactory.BrickType[] TYPES = BrickFactory.BrickType.values();
+
+    private BoardState() {
+    }
+
+    // Encodes a brick as its type ordinal, or -1 for no brick
+    static int encode(Brick brick) {
+        if (brick == null || brick.getPieceTable().getType() == null) {
+            return -1;
+        }
+        return brick.getPieceTable().getType().ordinal();
+    }
+
+    // Decodes a brick written by encode, using the shared instance of its type
+    static Brick decode(int code) {
+        return code < 0 ? NullBrick.getInstance() : BrickFactory.getBrick(TYPES[code]);
+    }
+}
@@ -4,29 +4,43 @@ import com.comp2042.tetris.model.piece.BrickRotator;
 import com.comp2042.tetris.dto.ClearRow;
 import com.comp2042.tetris.model.piece.types.NullBrick;
 import com.comp2042.tetris.util.MatrixOperations;
-import com.comp2042.tetris.dto.NextBrickInfo;
+import com.comp2042.tetris.util.RowClearEngine;
 import com.comp2042.tetris.model.piece.Brick;
 import com.comp2042.tetris.model.piece.BrickGenerator;
+import com.comp2042.tetris.model.piece.PieceTable;
 import com.comp2042.tetris.model.piece.RandomBrickGenerator;
 import com.comp2042.tetris.dto.GameStateView;
 
-import java.awt.*;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Core game board implementation for Tetris.
  * Manages the playing field, brick movement, collision detection, rotation with wall kicks, the hold mechanic, and ghost piece calculation.
+ * A per-column surface height index is kept up to date on merges and row clears, so the landing row used by the ghost piece and hard drop is usually found without stepping the brick down.
  * The board uses a matrix representation where 0 represents empty space and positive integers (1-7) represent different brick colors/types.
  */
 public class GameBoard implements Board {
 
+    private static final int SPAWN_X = 3;
+    private static final int SPAWN_Y = 0;
+    private static final long ALL_ROWS = -1L;
+    // Returned by findLandingRowFromHeights when the heights cannot answer; wall kicks can lift a brick above row 0,
+    // so no negative row is safe to use
+    private static final int NO_LANDING_ROW = Integer.MIN_VALUE;
+
     private final int width;
     private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
-    private final Score score;
+    private final int[][] currentGameMatrix;
+    private final RowClearEngine rowClearEngine;
+    private final int[] columnHeights;
+    private final ZobristHash zobrist;
+    // Clear results by line count; they are immutable and share the matrix, so clearing never allocates
+    private final ClearRow[] clearResults;
+    private long dirtyRows = ALL_ROWS;
+    private int currentX;
+    private int currentY;
     private Brick heldBrick = NullBrick.getInstance();
     private boolean canHold = true;
 
@@ -37,12 +51,29 @@ public class GameBoard implements Board {
      * @param height Number of columns in the board (typically 10)
      */
     public GameBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Initializes a new game board that draws its pieces from the given generator.
+     *
+     * @param width Number of rows in the board (typically 25, including hidden rows)
+     * @param height Number of columns in the board (typically 10)
+     * @param brickGenerator Source of the falling bricks
+     */
+    public GameBoard(int width, int height, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
         currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        rowClearEngine = new RowClearEngine(width, height);
+        columnHeights = new int[height];
+        zobrist = new ZobristHash(width, height);
+        clearResults = new ClearRow[width + 1];
+        for (int lines = 0; lines <= width; lines++) {
+            clearResults[lines] = new ClearRow(lines, currentGameMatrix, MatrixOperations.getScoreBonus(lines));
+        }
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
-        score = new Score();
     }
 
     /**
@@ -52,16 +83,7 @@ public class GameBoard implements Board {
      */
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(currentX, currentY + 1);
     }
 
     /**
@@ -71,16 +93,7 @@ public class GameBoard implements Board {
      */
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(currentX - 1, currentY);
     }
 
     /**
@@ -90,16 +103,37 @@ public class GameBoard implements Board {
      */
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        return tryMove(currentX + 1, currentY);
+    }
+
+    /**
+     * Moves the current brick to the target position if it fits there.
+     * Collision is checked directly against the live board, so no matrices or points are allocated.
+     *
+     * @param x Target column of the brick's shape matrix
+     * @param y Target row of the brick's shape matrix
+     * @return true if the brick moved, false if blocked
+     */
+    private boolean tryMove(int x, int y) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentRotation(), x, y)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        currentX = x;
+        currentY = y;
+        return true;
+    }
+
+    /**
+     * Drops the current brick straight down to its landing row in a single jump.
+     *
+     * @return the number of rows the brick fell
+     */
+    @Override
+    public int hardDropBrick() {
+        int landingY = calculateGhostY();
+        int distance = landingY - currentY;
+        currentY = landingY;
+        return distance;
     }
 
     /**
@@ -109,50 +143,25 @@ public class GameBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextBrickInfo nextShape = brickRotator.peekNextShape();
+        int nextIndex = brickRotator.getNextShapeIndex();
+        PieceTable.Rotation nextShape = brickRotator.getRotation(nextIndex);
 
         // First try normal rotation
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(),
-                (int) currentOffset.getX(), (int) currentOffset.getY());
-
-        if (!conflict) {
-            brickRotator.setCurrentShape(nextShape.getPosition());
+        if (!MatrixOperations.intersect(currentGameMatrix, nextShape, currentX, currentY)) {
+            brickRotator.setCurrentShape(nextIndex);
             return true;
         }
 
-        // More extensive wall kicks for I-brick
-        Point[] wallKicks;
-
-        if (isIBrick()) {
-            // I-brick wall kick data (extended)
-            wallKicks = new Point[]{
-                    new Point(1, 0), new Point(-1, 0), new Point(2, 0), new Point(-2, 0),
-                    new Point(0, -1), new Point(1, -1), new Point(-1, -1),
-                    new Point(0, -2), new Point(1, -2), new Point(-1, -2),
-                    new Point(0, 1), new Point(1, 1), new Point(-1, 1),
-                    new Point(2, -1), new Point(-2, -1), new Point(2, 1), new Point(-2, 1)
-            };
-        } else {
-            // Standard wall kick data for other bricks
-            wallKicks = new Point[]{
-                    new Point(1, 0), new Point(-1, 0), new Point(0, -1),
-                    new Point(1, -1), new Point(-1, -1)
-            };
-        }
-
-        // Try each wall kick
-        for (Point kick : wallKicks) {
-            Point testOffset = new Point(currentOffset);
-            testOffset.translate(kick.x, kick.y);
-
-            boolean kickConflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(),
-                    (int) testOffset.getX(), (int) testOffset.getY());
-
-            if (!kickConflict) {
+        // Try each wall kick of this brick type and rotation transition
+        PieceTable.Rotation currentShape = brickRotator.getCurrentRotation();
+        for (int kick = 0; kick < currentShape.getKickCount(); kick++) {
+            int testX = currentX + currentShape.getKickX(kick);
+            int testY = currentY + currentShape.getKickY(kick);
+            if (!MatrixOperations.intersect(currentGameMatrix, nextShape, testX, testY)) {
                 // Successful wall kick
-                brickRotator.setCurrentShape(nextShape.getPosition());
-                currentOffset = testOffset;
+                brickRotator.setCurrentShape(nextIndex);
+                currentX = testX;
+                currentY = testY;
                 return true;
             }
         }
@@ -161,28 +170,6 @@ public class GameBoard implements Board {
         return false;
     }
 
-    /**
-     * Checks if the current brick is an I-brick.
-     * I-bricks need special wall kick handling due to its length.
-     *
-     * @return true if current brick is an I-brick, false otherwise
-     */
-    private boolean isIBrick() {
-        int[][] shape = brickRotator.getCurrentShape();
-        int nonZeroCount = 0;
-
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
-                if (shape[i][j] != 0) {
-                    nonZeroCount++;
-                }
-            }
-        }
-
-        // I-brick has exactly 4 blocks
-        return nonZeroCount == 4;
-    }
-
     /**
      * Creates and spawns a new brick at the top of the board.
      * Resets hold ability for the new piece.
@@ -193,13 +180,15 @@ public class GameBoard implements Board {
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(3, 0); // Spawn point (top center)
+        currentX = SPAWN_X; // Spawn point (top center)
+        currentY = SPAWN_Y;
         canHold = true; // Reset hold ability for new brick
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentRotation(), currentX, currentY);
     }
 
     /**
      * Gets the current game board matrix.
+     * The matrix is live and updated in place; writing to it directly bypasses the row fill counters.
      *
      * @return 2D array representing the board state
      */
@@ -216,87 +205,160 @@ public class GameBoard implements Board {
      */
     @Override
     public GameStateView getViewData() {
-        // Get the first rotation (index 0) from each brick's shape matrix
-        List<int[][]> heldShapes = heldBrick.getShapeMatrix();
-        List<int[][]> nextShapes = brickGenerator.getNextBrick().getShapeMatrix();
-
-        int[][] heldBrickData = heldShapes.get(0);
-        int[][] nextBrickData = nextShapes.get(0);
+        // Previews show the first rotation (index 0) of each brick's table; rotations are shared, not copied
+        PieceTable.Rotation heldRotation = heldBrick.getPieceTable().getRotation(0);
+        PieceTable.Rotation nextRotation = brickGenerator.getNextBrick().getPieceTable().getRotation(0);
 
-        Point ghostPosition = calculateGhostPosition();
         return new GameStateView(
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY(),
-                nextBrickData,
-                heldBrickData,
-                (int) ghostPosition.getX(),
-                (int) ghostPosition.getY()
+                brickRotator.getCurrentRotation(),
+                currentX,
+                currentY,
+                nextRotation,
+                heldRotation,
+                currentX,
+                calculateGhostY()
         );
     }
 
     /**
-     * Calculates where the current brick would land if dropped straight down.
+     * Calculates the row where the current brick would land if dropped straight down.
      * Used to render the ghost piece preview showing landing position.
      *
-     * @return Point representing the ghost piece position
+     * @return Row of the ghost piece (the current row if the brick is already blocked)
      */
-    private Point calculateGhostPosition() {
-        if (brickRotator.getCurrentShape() == null) {
-            return new Point(currentOffset);
-        }
-
-        Point ghostPos = new Point(currentOffset);
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] currentBrick = brickRotator.getCurrentShape();
+    private int calculateGhostY() {
+        PieceTable.Rotation currentBrick = brickRotator.getCurrentRotation();
 
         // Validate current position first
-        if (MatrixOperations.intersect(currentMatrix, currentBrick,
-                (int) ghostPos.getX(), (int) ghostPos.getY())) {
-            return new Point(currentOffset); // Fallback to current position
+        if (MatrixOperations.intersect(currentGameMatrix, currentBrick, currentX, currentY)) {
+            return currentY; // Fallback to current position
         }
 
-        // Move down until collision is detected
-        while (true) {
-            Point nextPos = new Point(ghostPos);
-            nextPos.translate(0, 1);
+        // The surface height index answers directly when the brick is above the stack in every column it covers
+        int landingY = findLandingRowFromHeights(currentBrick);
+        if (landingY != NO_LANDING_ROW) {
+            return landingY;
+        }
 
-            boolean willCollide = MatrixOperations.intersect(currentMatrix, currentBrick,
-                    (int) nextPos.getX(), (int) nextPos.getY());
+        // Tucked under an overhang: move down until collision is detected
+        int ghostY = currentY;
+        while (!MatrixOperations.intersect(currentGameMatrix, currentBrick, currentX, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
 
-            if (willCollide) {
-                break; // Found the landing position
+    /**
+     * Finds the landing row of the current brick from the column heights and the rotation's bottom profile.
+     * Only valid when every filled column of the brick is above the stack surface, since the cells between
+     * the brick and the surface are then known to be empty.
+     *
+     * @param rotation the rotation of the current brick
+     * @return the landing row, or NO_LANDING_ROW if the brick reaches below the surface in some column
+     */
+    private int findLandingRowFromHeights(PieceTable.Rotation rotation) {
+        int landingY = Integer.MAX_VALUE;
+        for (int column = rotation.getMinColumn(); column <= rotation.getMaxColumn(); column++) {
+            int bottom = rotation.getColumnBottom(column);
+            if (bottom < 0) {
+                continue;
             }
-
-            ghostPos = nextPos; // Move to next position
+            int surfaceRow = width - columnHeights[currentX + column];
+            if (currentY + bottom >= surfaceRow) {
+                return NO_LANDING_ROW;
+            }
+            landingY = Math.min(landingY, surfaceRow - 1 - bottom);
         }
+        return landingY == Integer.MAX_VALUE ? NO_LANDING_ROW : landingY;
+    }
 
-        return ghostPos;
+    /**
+     * Gets the height of the stack in a column, measured from the floor to its highest filled cell.
+     *
+     * @param column the column index
+     * @return 0 for an empty column, up to the number of rows
+     */
+    public int getColumnHeight(int column) {
+        return columnHeights[column];
     }
 
-    // Permanently merges the current brick into the background matrix
+    // Permanently merges the current brick into the background matrix (in place)
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        PieceTable.Rotation rotation = brickRotator.getCurrentRotation();
+        for (int cell = 0; cell < rotation.getCellCount(); cell++) {
+            int column = currentX + rotation.getCellColumn(cell);
+            int row = currentY + rotation.getCellRow(cell);
+            if (column >= 0 && column < height && row >= 0 && row < width) {
+                if (currentGameMatrix[row][column] == 0) {
+                    zobrist.toggle(row, column);
+                }
+                columnHeights[column] = Math.max(columnHeights[column], width - row);
+                markRowsDirty(row, row);
+            }
+        }
+        rowClearEngine.merge(currentGameMatrix, rotation, currentX, currentY);
     }
 
     /**
      * Checks for and removes any complete horizontal rows.
+     * Rows are compacted in place; when no row is complete this does no work beyond a counter check.
      *
      * @return ClearRow containing information about cleared lines and score bonus
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int linesCleared = rowClearEngine.clearFullRows(currentGameMatrix);
+        if (linesCleared > 0) {
+            zobrist.clearRows(rowClearEngine.getClearedRows(), linesCleared);
+            updateColumnHeightsAfterClear();
+            // Every row above the lowest cleared one has shifted
+            markRowsDirty(0, rowClearEngine.getClearedRows()[linesCleared - 1]);
+        }
+        return clearResults[linesCleared];
+    }
 
+    // Marks an inclusive range of rows as changed since the last poll
+    private void markRowsDirty(int fromRow, int toRow) {
+        if (toRow >= Long.SIZE - 1) {
+            dirtyRows = ALL_ROWS;
+            return;
+        }
+        dirtyRows |= ((1L << (toRow + 1)) - 1) & (ALL_ROWS << fromRow);
     }
 
-    // Returns the current game score
+    /**
+     * Returns the rows changed by merges, clears or a new game since the last call, then resets the set.
+     * Bit i stands for row i; boards taller than 64 rows report every row as changed after a clear.
+     *
+     * @return bitmask of changed rows (0 if nothing changed, e.g. after a hold)
+     */
     @Override
-    public Score getScore() {
-        return score;
+    public long pollDirtyRows() {
+        long rows = dirtyRows;
+        dirtyRows = 0;
+        return rows;
+    }
+
+    // Cells only move down when rows clear, so each column's new top is found by scanning down from its old top
+    private void updateColumnHeightsAfterClear() {
+        for (int column = 0; column < height; column++) {
+            int row = width - columnHeights[column];
+            while (row < width && currentGameMatrix[row][column] == 0) {
+                row++;
+            }
+            columnHeights[column] = width - row;
+        }
+    }
+
+    /**
+     * Gets the indices of the rows removed by the last clearRows call, in ascending order.
+     * The array is reused; only the first getLinesRemoved() entries of that ClearRow are valid.
+     *
+     * @return shared buffer of cleared row indices
+     */
+    public int[] getClearedRowIndices() {
+        return rowClearEngine.getClearedRows();
     }
 
     /**
@@ -324,17 +386,158 @@ public class GameBoard implements Board {
             Brick newBrick = brickGenerator.getBrick();
             brickRotator.setBrick(newBrick);
         }
-        currentOffset = new Point(3, 0); // Reset position to spawn point
+        currentX = SPAWN_X; // Reset position to spawn point
+        currentY = SPAWN_Y;
         return heldBrick;
     }
 
-    // Resets game to initial state. Clears board,  resets score, clears held brick, and spawns new first brick.
+    // Returns the brick in the hold slot (NullBrick when empty)
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return brickGenerator.getNextBrick();
+    }
+
+    @Override
+    public boolean canHold() {
+        return canHold;
+    }
+
+    @Override
+    public int getBrickRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    @Override
+    public int getBrickX() {
+        return currentX;
+    }
+
+    @Override
+    public int getBrickY() {
+        return currentY;
+    }
+
+    /**
+     * Gets the 64-bit hash of the playfield, the falling brick's type, rotation and position, and the hold state.
+     * The playfield part is maintained as cells are merged and rows cleared; the brick and hold keys are
+     * table lookups, so this never scans the board.
+     *
+     * @return the state hash, suitable as a transposition table key
+     */
+    @Override
+    public long getHash() {
+        return zobrist.getPlayfield()
+                ^ zobrist.pieceKey(brickRotator.getPieceTable(), brickRotator.getCurrentShapeIndex(), currentX, currentY)
+                ^ zobrist.holdKey(heldBrick, canHold);
+    }
+
+    // Resets game to initial state. Clears board, clears held brick, and spawns new first brick.
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
-        score.reset();
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        rowClearEngine.reset();
+        Arrays.fill(columnHeights, 0);
+        zobrist.reset();
+        dirtyRows = ALL_ROWS;
         heldBrick = NullBrick.getInstance();
         canHold = true;
         createNewBrick();
     }
+
+    /**
+     * Replaces the background with a copy of the given cells and sets the held brick.
+     * Rebuilds the row fill counters and column heights and marks every row dirty.
+     *
+     * @param cells Color codes, one array per row, matching the board dimensions
+     * @param heldBrick The brick in the hold slot (NullBrick for an empty slot)
+     */
+    @Override
+    public void loadBackground(int[][] cells, Brick heldBrick) {
+        for (int row = 0; row < width; row++) {
+            System.arraycopy(cells[row], 0, currentGameMatrix[row], 0, height);
+        }
+        rebuildBackgroundIndexes();
+        this.heldBrick = heldBrick;
+        canHold = true;
+    }
+
+    // Recomputes the row fill counters, column heights and hash after the background was replaced
+    private void rebuildBackgroundIndexes() {
+        rowClearEngine.recount(currentGameMatrix);
+        zobrist.load(currentGameMatrix);
+        for (int column = 0; column < height; column++) {
+            int row = 0;
+            while (row < width && currentGameMatrix[row][column] == 0) {
+                row++;
+            }
+            columnHeights[column] = width - row;
+        }
+        dirtyRows = ALL_ROWS;
+    }
+
+    // Cells, the BoardState fields and the generator state
+    @Override
+    public int getStateSize() {
+        return width * height + BoardState.FIELDS + brickGenerator.getStateSize();
+    }
+
+    /**
+     * Writes the full board state into a flat buffer: the cells row by row, the falling brick's type,
+     * rotation and position, the hold slot and flag, then the brick generator's bag and queue.
+     * Nothing is allocated, so lookahead search can save thousands of states into one preallocated buffer.
+     *
+     * @param buffer Destination, with at least getStateSize() ints from offset
+     * @param offset Where the state starts
+     * @return the offset just after the state
+     */
+    @Override
+    public int saveState(int[] buffer, int offset) {
+        for (int[] row : currentGameMatrix) {
+            System.arraycopy(row, 0, buffer, offset, height);
+            offset += height;
+        }
+        buffer[offset + BoardState.BRICK] = BoardState.encode(brickRotator.getBrick());
+        buffer[offset + BoardState.ROTATION] = brickRotator.getCurrentShapeIndex();
+        buffer[offset + BoardState.X] = currentX;
+        buffer[offset + BoardState.Y] = currentY;
+        buffer[offset + BoardState.HELD] = BoardState.encode(heldBrick);
+        buffer[offset + BoardState.CAN_HOLD] = canHold ? 1 : 0;
+        return brickGenerator.saveState(buffer, offset + BoardState.FIELDS);
+    }
+
+    /**
+     * Restores a state written by saveState, rebuilding the row counters, column heights and hash.
+     * Every row is marked dirty.
+     *
+     * @param buffer Source written by saveState on a board of the same size
+     * @param offset Where the state starts
+     * @return the offset just after the state
+     */
+    @Override
+    public int restoreState(int[] buffer, int offset) {
+        for (int[] row : currentGameMatrix) {
+            System.arraycopy(buffer, offset, row, 0, height);
+            offset += height;
+        }
+        rebuildBackgroundIndexes();
+        brickRotator.setBrick(BoardState.decode(buffer[offset + BoardState.BRICK]));
+        brickRotator.setCurrentShape(buffer[offset + BoardState.ROTATION]);
+        currentX = buffer[offset + BoardState.X];
+        currentY = buffer[offset + BoardState.Y];
+        heldBrick = BoardState.decode(buffer[offset + BoardState.HELD]);
+        canHold = buffer[offset + BoardState.CAN_HOLD] != 0;
+        return brickGenerator.restoreState(buffer, offset + BoardState.FIELDS);
+    }
 }
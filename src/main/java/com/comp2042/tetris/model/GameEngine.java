@@ -0,0 +1,209 @@
+package com.comp2042.tetris.model;
+
+import com.comp2042.tetris.dto.ClearRow;
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+
+/**
+ * Headless Tetris game loop: a Board plus the score, level and line counters driven by it.
+ * Applies the game rules (locking, line clears, drop points, spawning and game over) without any JavaFX
+ * dependency, so games can be simulated on any thread; GameController drives one of these for the GUI.
+ * Not thread-safe; use one engine per thread.
+ */
+public class GameEngine {
+
+    // Points awarded for soft and hard drops
+    public static final int SOFT_DROP_POINTS = 1;
+    public static final int HARD_DROP_POINTS = 5;
+
+    private final Board board;
+    private final GameStats stats;
+    private ClearRow lastClearRow;
+    private boolean gameOver;
+
+    /**
+     * Creates an engine around a board.
+     *
+     * @param board The board to play on
+     */
+    public GameEngine(Board board) {
+        this(board, new GameStats());
+    }
+
+    /**
+     * Creates an engine around a board and existing counters.
+     *
+     * @param board The board to play on
+     * @param stats The counters to update
+     */
+    public GameEngine(Board board, GameStats stats) {
+        this.board = board;
+        this.stats = stats;
+    }
+
+    /**
+     * Spawns the first brick of a game.
+     *
+     * @return true if the brick could not be placed (game over)
+     */
+    public boolean start() {
+        gameOver = board.createNewBrick();
+        return gameOver;
+    }
+
+    // Resets the board and counters and spawns the first brick
+    public void newGame() {
+        board.newGame();
+        stats.reset();
+        lastClearRow = null;
+        gameOver = false;
+    }
+
+    public boolean moveLeft() {
+        return board.moveBrickLeft();
+    }
+
+    public boolean moveRight() {
+        return board.moveBrickRight();
+    }
+
+    public boolean rotate() {
+        return board.rotateLeftBrick();
+    }
+
+    /**
+     * Moves the current brick down one row, locking it if it cannot move.
+     *
+     * @param softDrop true to award soft drop points for a successful move (user-initiated drops)
+     * @return true if the brick moved; false if it was locked and the next brick spawned
+     */
+    public boolean moveDown(boolean softDrop) {
+        if (board.moveBrickDown()) {
+            lastClearRow = null;
+            if (softDrop) {
+                stats.addScore(SOFT_DROP_POINTS);
+            }
+            return true;
+        }
+        lockBrick();
+        return false;
+    }
+
+    /**
+     * Drops the current brick to its landing row and locks it.
+     *
+     * @return the number of rows the brick fell
+     */
+    public int hardDrop() {
+        int distance = board.hardDropBrick();
+        lockBrick();
+
+        // Bonus points for hard drop (5 points per cell dropped)
+        stats.addScore(distance * HARD_DROP_POINTS);
+        return distance;
+    }
+
+    // Swaps the current brick with the held one
+    public void hold() {
+        board.holdBrick();
+    }
+
+    /**
+     * Applies one input event with the same rules GameController uses for it.
+     *
+     * @param type The movement type
+     * @param source The event source (user down moves earn soft drop points)
+     * @return true if the event locked the current brick
+     */
+    public boolean apply(EventType type, EventSource source) {
+        return switch (type) {
+            case DOWN -> !moveDown(source == EventSource.USER);
+            case LEFT -> {
+                moveLeft();
+                yield false;
+            }
+            case RIGHT -> {
+                moveRight();
+                yield false;
+            }
+            case ROTATE -> {
+                rotate();
+                yield false;
+            }
+            case INSTANT_DROP -> {
+                hardDrop();
+                yield true;
+            }
+            case HOLD -> {
+                hold();
+                yield false;
+            }
+        };
+    }
+
+    // Gets the number of ints snapshot writes: the counters and game over flag, then the board state
+    public int getSnapshotSize() {
+        return 3 + board.getStateSize();
+    }
+
+    /**
+     * Saves the whole game (board, falling and held bricks, generator bag, score and line total) into a flat
+     * buffer without allocating. Lookahead search can keep one preallocated buffer per depth and roll back with
+     * restore as often as it likes.
+     *
+     * @param buffer Destination, with at least getSnapshotSize() ints from offset
+     * @param offset Where the snapshot starts
+     * @return the offset just after the snapshot
+     */
+    public int snapshot(int[] buffer, int offset) {
+        buffer[offset] = stats.getScore();
+        buffer[offset + 1] = stats.getTotalLinesCleared();
+        buffer[offset + 2] = gameOver ? 1 : 0;
+        return board.saveState(buffer, offset + 3);
+    }
+
+    /**
+     * Restores a game saved by snapshot. The level follows from the restored line total.
+     * Stats listeners are not notified (see GameStats.restore), so rolling back never reaches an attached GUI.
+     *
+     * @param buffer Source written by snapshot on an engine with a board of the same size
+     * @param offset Where the snapshot starts
+     * @return the offset just after the snapshot
+     */
+    public int restore(int[] buffer, int offset) {
+        stats.restore(buffer[offset], buffer[offset + 1]);
+        gameOver = buffer[offset + 2] != 0;
+        lastClearRow = null;
+        return board.restoreState(buffer, offset + 3);
+    }
+
+    // Merges the brick, clears and scores rows, and spawns the next brick
+    private void lockBrick() {
+        board.mergeBrickToBackground();
+        lastClearRow = board.clearRows();
+        int lines = lastClearRow.getLinesRemoved();
+        if (lines > 0) {
+            stats.addScore(lastClearRow.getScoreBonus());
+            stats.addLinesCleared(lines);
+        }
+        gameOver = board.createNewBrick();
+    }
+
+    // Gets the result of the last lock, or null if the last down move did not lock
+    public ClearRow getLastClearRow() {
+        return lastClearRow;
+    }
+
+    // Checks whether the last spawned brick could not be placed
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public GameStats getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,197 @@
+package com.comp2042.tetris.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain score, level and line counters for one game.
+ * Has no JavaFX or file dependencies, so it can be used from any thread (one thread per instance).
+ * Level progression: Every 4 lines cleared advances one level (up to level 10).
+ * Observers register a GameStatsListener; Score and LevelManager adapt these callbacks to JavaFX properties.
+ */
+public final class GameStats {
+
+    public static final int MAX_LEVEL = 10;
+    public static final int LINES_PER_LEVEL = 4;
+    public static final int STARTING_LEVEL = 1;
+
+    // Game speeds in milliseconds (faster as level increases)
+    private static final int[] LEVEL_SPEEDS = {
+            500, 400, 300, 250, 200, 150, 100, 80, 60, 50
+    };
+
+    private final List<GameStatsListener> listeners = new ArrayList<>();
+    private int score;
+    private int level = STARTING_LEVEL;
+    private int totalLinesCleared;
+    private int linesToNextLevel = LINES_PER_LEVEL;
+
+    // Registers a listener for counter changes
+    public void addListener(GameStatsListener listener) {
+        listeners.add(listener);
+    }
+
+    // Unregisters a listener
+    public void removeListener(GameStatsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Adds points to the score.
+     *
+     * @param points Points to add (must not be negative)
+     */
+    public void addScore(int points) {
+        if (points < 0) {
+            throw new IllegalArgumentException("Points cannot be negative: " + points);
+        }
+        if (points == 0) {
+            return;
+        }
+        score += points;
+        fireScoreChanged();
+    }
+
+    /**
+     * Adds cleared lines to the total and checks for level advancement.
+     *
+     * @param lines Number of lines cleared (1-4 for single/double/triple/tetris)
+     */
+    public void addLinesCleared(int lines) {
+        if (lines <= 0) {
+            return;
+        }
+        totalLinesCleared += lines;
+
+        int newLevel = levelFor(totalLinesCleared);
+        if (newLevel != level) {
+            level = newLevel;
+            fireLevelChanged();
+        }
+        updateLinesToNextLevel();
+        fireLinesChanged();
+    }
+
+    // Gets the level reached with a cleared line total; the loop handles multiple level-ups (e.g. 8 lines at level 1)
+    private static int levelFor(int totalLines) {
+        int level = STARTING_LEVEL;
+        while (level < MAX_LEVEL && totalLines >= calculateRequiredLines(level + 1)) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Calculates total lines required to reach a specific level.
+     * Formula: (level - 1) * 4 lines per level
+     *
+     * @param level The target level
+     * @return Total lines needed from start to reach that level
+     */
+    private static int calculateRequiredLines(int level) {
+        if (level <= STARTING_LEVEL) {
+            return 0;
+        }
+        return (level - STARTING_LEVEL) * LINES_PER_LEVEL;
+    }
+
+    // Updates the lines needed to reach the next level
+    private void updateLinesToNextLevel() {
+        int linesNeeded = calculateRequiredLines(level + 1) - totalLinesCleared;
+        linesToNextLevel = level >= MAX_LEVEL || linesNeeded <= 0 ? 0 : linesNeeded;
+    }
+
+    /**
+     * Gets the game speed (drop interval) for the current level.
+     *
+     * @return Milliseconds between automatic brick drops (500ms at level 1, 50ms at level 10)
+     */
+    public int getCurrentSpeed() {
+        return LEVEL_SPEEDS[Math.min(level - 1, LEVEL_SPEEDS.length - 1)];
+    }
+
+    // Resets the score to zero
+    public void resetScore() {
+        if (score != 0) {
+            score = 0;
+            fireScoreChanged();
+        }
+    }
+
+    // Resets level and line progress to the starting state
+    public void resetProgress() {
+        if (level != STARTING_LEVEL) {
+            level = STARTING_LEVEL;
+            fireLevelChanged();
+        }
+        totalLinesCleared = 0;
+        updateLinesToNextLevel();
+        fireLinesChanged();
+    }
+
+    // Resets every counter for a new game
+    public void reset() {
+        resetScore();
+        resetProgress();
+    }
+
+    /**
+     * Sets the counters to a saved position, deriving the level from the line total.
+     * Listeners are not notified, so lookahead search can roll back as often as it likes without moving an
+     * attached display, game speed or high score; call notifyListeners afterwards if observers should resync.
+     *
+     * @param score The score to restore (must not be negative)
+     * @param totalLines The cleared line total to restore (must not be negative)
+     */
+    public void restore(int score, int totalLines) {
+        if (score < 0 || totalLines < 0) {
+            throw new IllegalArgumentException("Counters cannot be negative: " + score + ", " + totalLines);
+        }
+        this.score = score;
+        this.totalLinesCleared = totalLines;
+        this.level = levelFor(totalLines);
+        updateLinesToNextLevel();
+    }
+
+    // Sends the current score, level and line counters to every listener once, for example after restore
+    public void notifyListeners() {
+        fireScoreChanged();
+        fireLevelChanged();
+        fireLinesChanged();
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getTotalLinesCleared() {
+        return totalLinesCleared;
+    }
+
+    public int getLinesToNextLevel() {
+        return linesToNextLevel;
+    }
+
+    // Listeners are walked by index so that firing does not allocate an iterator
+    private void fireScoreChanged() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onScoreChanged(score);
+        }
+    }
+
+    private void fireLevelChanged() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onLevelChanged(level);
+        }
+    }
+
+    private void fireLinesChanged() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onLinesChanged(totalLinesCleared, linesToNextLevel);
+        }
+    }
+}
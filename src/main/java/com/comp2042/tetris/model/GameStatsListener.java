@@ -0,0 +1,20 @@
+package com.comp2042.tetris.model;
+
+/**
+ * Receives changes to the counters held by GameStats.
+ * Callbacks run synchronously on the thread that changed the counters; every method defaults to a no-op.
+ */
+public interface GameStatsListener {
+
+    // Called after the score changes
+    default void onScoreChanged(int score) {
+    }
+
+    // Called after the level changes
+    default void onLevelChanged(int level) {
+    }
+
+    // Called after the cleared line total or the lines needed for the next level change
+    default void onLinesChanged(int totalLinesCleared, int linesToNextLevel) {
+    }
+}
@@ -4,15 +4,34 @@ import com.comp2042.tetris.util.HighScoreManager;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 
+/**
+ * JavaFX view of a game's score with a persisted high score.
+ * The score itself is counted by GameStats; this adapter mirrors it into a property and saves new high scores to file.
+ */
 public final class Score {
 
+    private final GameStats stats;
     private final IntegerProperty score = new SimpleIntegerProperty(0);
     private final IntegerProperty highScore = new SimpleIntegerProperty(0);
 
     public Score() {
+        this(new GameStats());
+    }
+
+    public Score(GameStats stats) {
+        this.stats = stats;
+        score.setValue(stats.getScore());
+
         //Load high score from file when Score object is created
         int loadedHighScore = HighScoreManager.loadHighScore();
         highScore.setValue(loadedHighScore);
+
+        stats.addListener(new GameStatsListener() {
+            @Override
+            public void onScoreChanged(int newScore) {
+                updateScore(newScore);
+            }
+        });
     }
 
     public IntegerProperty scoreProperty() {
@@ -31,26 +50,27 @@ public final class Score {
         return highScore.getValue();
     }
 
-    // Add points to the current score and update high score if necessary
+    // Add points to the current score; the high score is updated through the stats listener
     public void add(int points) {
-        if (points < 0) {
-            throw new IllegalArgumentException("Points cannot be negative: " + points);
-        }
+        stats.addScore(points);
+    }
 
-        score.setValue(score.getValue() + points);
+    // Mirror a new score and update high score if necessary
+    private void updateScore(int newScore) {
+        score.setValue(newScore);
 
         // Update high score if current score exceeds it
-        if (score.getValue() > highScore.getValue()) {
-            highScore.setValue(score.getValue());
+        if (newScore > highScore.getValue()) {
+            highScore.setValue(newScore);
 
             // Save immediately to file when new high score is achieved
-            HighScoreManager.saveHighScore(score.getValue());
+            HighScoreManager.saveHighScore(newScore);
         }
     }
 
     // Reset current score to zero and reload high score from file
     public void reset() {
-        score.setValue(0);
+        stats.resetScore();
         reloadHighScoreFromFile();
     }
 
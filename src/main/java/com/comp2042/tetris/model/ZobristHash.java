@@ -0,0 +1,161 @@
+package com.comp2042.tetris.model;
+
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.PieceTable;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Incrementally maintained 64-bit hash of a board's playfield, plus keys for the falling and held bricks.
+ * Each row's contents are hashed Zobrist-style as the XOR of random per-column keys of its filled cells, and the
+ * playfield hash is the XOR of every non-empty row's contents mixed with a per-row key. Filling a cell therefore
+ * updates one row, and a line clear only re-mixes the rows that moved, without reading the board matrix.
+ * Cell colors are ignored, since they do not affect play.
+ * Keys come from a fixed seed, so boards of the same size produce comparable hashes.
+ */
+final class ZobristHash {
+
+    private static final long SEED = 0x5A0B_7157_C0DE_2042L;
+    // A 4x4 shape can sit up to 3 cells left of or above the board
+    private static final int PAD = 3;
+    private static final int TYPES = BrickFactory.BrickType.values().length + 1;
+    private static final int MAX_ROTATIONS = 4;
+
+    private final long[] columnKeys;
+    private final long[] rowKeys;
+    private final long[] pieceKeys;
+    private final long[] xKeys;
+    private final long[] yKeys;
+    private final long[] heldKeys;
+    private final long holdUsedKey;
+    private final long[] rowContents;
+    private long playfield;
+
+    /**
+     * Creates the keys for a board size, with an empty playfield.
+     *
+     * @param rows Number of rows in the board
+     * @param columns Number of columns in the board
+     */
+    ZobristHash(int rows, int columns) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        columnKeys = keys(random, columns);
+        rowKeys = keys(random, rows);
+        pieceKeys = keys(random, TYPES * MAX_ROTATIONS);
+        xKeys = keys(random, columns + PAD);
+        yKeys = keys(random, rows + PAD);
+        heldKeys = keys(random, TYPES);
+        holdUsedKey = random.nextLong();
+        rowContents = new long[rows];
+    }
+
+    private static long[] keys(SplittableRandom random, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextLong();
+        }
+        return keys;
+    }
+
+    // Gets the hash of the playfield alone
+    long getPlayfield() {
+        return playfield;
+    }
+
+    // Fills an empty cell or empties a filled one
+    void toggle(int row, int column) {
+        long contents = rowContents[row];
+        playfield ^= rowHash(row, contents) ^ rowHash(row, contents ^ columnKeys[column]);
+        rowContents[row] = contents ^ columnKeys[column];
+    }
+
+    // Removes a cleared row from the playfield
+    void removeRow(int row) {
+        playfield ^= rowHash(row, rowContents[row]);
+        rowContents[row] = 0;
+    }
+
+    // Moves a row's contents down into a row that has already been removed or moved
+    void moveRow(int from, int to) {
+        long contents = rowContents[from];
+        playfield ^= rowHash(from, contents) ^ rowHash(to, contents);
+        rowContents[to] = contents;
+        rowContents[from] = 0;
+    }
+
+    /**
+     * Applies a line clear: removes the cleared rows and shifts every row above them down.
+     *
+     * @param clearedRows Indices of the removed rows, in ascending order
+     * @param count Number of valid entries in clearedRows
+     */
+    void clearRows(int[] clearedRows, int count) {
+        int next = count - 1;
+        int write = rowContents.length - 1;
+        for (int read = rowContents.length - 1; read >= 0; read--) {
+            if (next >= 0 && clearedRows[next] == read) {
+                removeRow(read);
+                next--;
+                continue;
+            }
+            if (write != read) {
+                moveRow(read, write);
+            }
+            write--;
+        }
+    }
+
+    // Empties the playfield
+    void reset() {
+        Arrays.fill(rowContents, 0);
+        playfield = 0;
+    }
+
+    // Rehashes a whole playfield of color codes (0 for empty cells)
+    void load(int[][] cells) {
+        reset();
+        for (int row = 0; row < rowContents.length; row++) {
+            for (int column = 0; column < columnKeys.length; column++) {
+                if (cells[row][column] != 0) {
+                    toggle(row, column);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the key of a falling brick's type, rotation and position.
+     *
+     * @param table Rotation table of the brick (null before the first spawn)
+     * @param rotation Rotation index
+     * @param x Column of the brick's 4x4 shape
+     * @param y Row of the brick's 4x4 shape
+     * @return the key to XOR into the playfield hash
+     */
+    long pieceKey(PieceTable table, int rotation, int x, int y) {
+        return pieceKeys[typeIndex(table) * MAX_ROTATIONS + rotation] ^ xKeys[x + PAD] ^ yKeys[y + PAD];
+    }
+
+    // Gets the key of the hold slot and whether hold has been used for the current brick
+    long holdKey(Brick heldBrick, boolean canHold) {
+        return heldKeys[typeIndex(heldBrick.getPieceTable())] ^ (canHold ? 0 : holdUsedKey);
+    }
+
+    // Index of a brick type, with 0 for no brick
+    private static int typeIndex(PieceTable table) {
+        return table == null || table.getType() == null ? 0 : table.getType().ordinal() + 1;
+    }
+
+    // Mixes a row's contents with its position (SplitMix64 finalizer); empty rows contribute nothing
+    private long rowHash(int row, long contents) {
+        if (contents == 0) {
+            return 0;
+        }
+        long z = contents ^ rowKeys[row];
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
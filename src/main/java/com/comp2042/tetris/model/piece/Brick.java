@@ -6,4 +6,7 @@ public interface Brick {
 
     // Return all rotation states of the brick as a list of matrices
     List<int[][]> getShapeMatrix();
+
+    // Return the shared, read-only rotation table of the brick (no copying)
+    PieceTable getPieceTable();
 }
@@ -8,6 +8,16 @@ public class BrickFactory {
         I, J, L, O, S, T, Z
     }
 
+    // Bricks are immutable, so one instance per type can be shared wherever identity does not matter
+    private static final Brick[] SHARED = java.util.Arrays.stream(BrickType.values())
+            .map(BrickFactory::createBrick)
+            .toArray(Brick[]::new);
+
+    // Get the shared instance of a brick type
+    public static Brick getBrick(BrickType type) {
+        return SHARED[type.ordinal()];
+    }
+
     // Create a brick of specific type
     public static Brick createBrick(BrickType type) {
         return switch (type) {
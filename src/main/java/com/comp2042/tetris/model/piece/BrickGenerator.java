@@ -7,4 +7,19 @@ public interface BrickGenerator {
 
     // Return the next brick
     Brick getNextBrick();
+
+    // Return the number of ints saveState writes (0 for generators without state to save)
+    default int getStateSize() {
+        return 0;
+    }
+
+    // Write the generator state into the buffer at offset and return the offset after it
+    default int saveState(int[] buffer, int offset) {
+        return offset;
+    }
+
+    // Read a state written by saveState from the buffer at offset and return the offset after it
+    default int restoreState(int[] buffer, int offset) {
+        return offset;
+    }
 }
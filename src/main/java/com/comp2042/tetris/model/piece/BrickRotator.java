@@ -6,15 +6,48 @@ import com.comp2042.tetris.dto.NextBrickInfo;
  * Manages brick rotation state for the current falling piece.
  * Each brick type has multiple rotation states (shapes) stored in a list.
  * This class tracks which rotation is currently active and provides methods to cycle through rotations.
+ * Rotation states are read from the brick's shared PieceTable, so moves and rotations never copy shapes;
+ * getCurrentShape() still returns a fresh matrix for callers that want one.
  */
 public class BrickRotator {
 
     private Brick brick;
+    private PieceTable pieceTable;
     private int currentShape = 0;
 
-    // Gets the matrix representation of the current rotation state
+    // Gets a copy of the matrix representation of the current rotation state
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return pieceTable.getRotation(currentShape).toMatrix();
+    }
+
+    // Gets the shared read-only data of the current rotation state
+    public PieceTable.Rotation getCurrentRotation() {
+        return pieceTable.getRotation(currentShape);
+    }
+
+    // Gets the shared read-only data of a specific rotation state
+    public PieceTable.Rotation getRotation(int index) {
+        return pieceTable.getRotation(index);
+    }
+
+    // Gets the rotation table of the current brick
+    public PieceTable getPieceTable() {
+        return pieceTable;
+    }
+
+    // Gets the number of rotation states of the current brick
+    public int getShapeCount() {
+        return pieceTable.getRotationCount();
+    }
+
+    // Gets the index of the current rotation state
+    public int getCurrentShapeIndex() {
+        return currentShape;
+    }
+
+    // Gets the index of the rotation state that follows the current one
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % pieceTable.getRotationCount();
     }
 
     // Sets the current rotation state by a specific index
@@ -22,7 +55,7 @@ public class BrickRotator {
         if (currentShape < 0) {
             throw new IllegalArgumentException("Shape index cannot be negative");
         }
-        if (brick != null && currentShape >= brick.getShapeMatrix().size()) {
+        if (pieceTable != null && currentShape >= pieceTable.getRotationCount()) {
             throw new IllegalArgumentException("Shape index out of bounds: " + currentShape);
         }
         this.currentShape = currentShape;
@@ -34,6 +67,7 @@ public class BrickRotator {
             throw new IllegalArgumentException("Brick cannot be null");
         }
         this.brick = brick;
+        this.pieceTable = brick.getPieceTable();
         this.currentShape = 0;
     }
 
@@ -44,7 +78,7 @@ public class BrickRotator {
 
     // Previews the next rotation state without changing the current state
     public NextBrickInfo peekNextShape() {
-        int nextShape = (currentShape + 1) % brick.getShapeMatrix().size();
-        return new NextBrickInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextShapeIndex();
+        return new NextBrickInfo(pieceTable.getRotation(nextShape).toMatrix(), nextShape);
     }
 }
@@ -0,0 +1,249 @@
+package com.comp2042.tetris.model.piece;
+
+import com.comp2042.tetris.model.piece.types.NullBrick;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputed, immutable rotation data shared by every brick of one type.
+ * Each rotation is stored as compact read-only data (cell offsets, a 16-bit 4x4 mask, per-row masks, a bounding box
+ * and the wall kicks for rotating out of it), so hot paths such as collision checks, merging and rotation can read it
+ * without copying shape matrices or allocating.
+ * Tables are built once per BrickFactory.BrickType from the brick's shape matrices; Brick.getShapeMatrix()
+ * remains available for callers that need their own mutable copies.
+ */
+public final class PieceTable {
+
+    private static final int SHAPE_SIZE = 4;
+
+    // Wall kick offsets as flattened {dx, dy} pairs, tried in order when a plain rotation is blocked.
+    // The long I brick gets wider and higher kicks; the O brick never changes shape, so it needs none.
+    private static final int[] I_KICKS = {
+            1, 0, -1, 0, 2, 0, -2, 0,
+            0, -1, 1, -1, -1, -1,
+            0, -2, 1, -2, -1, -2,
+            0, 1, 1, 1, -1, 1,
+            2, -1, -2, -1, 2, 1, -2, 1
+    };
+    private static final int[] STANDARD_KICKS = {
+            1, 0, -1, 0, 0, -1, 1, -1, -1, -1
+    };
+    private static final int[] NO_KICKS = {};
+    private static final PieceTable[] TABLES = buildTables();
+
+    // Table of the empty NullBrick, used for an empty hold slot
+    public static final PieceTable EMPTY = new PieceTable(null, NullBrick.getInstance().getShapeMatrix());
+
+    private final BrickFactory.BrickType type;
+    private final Rotation[] rotations;
+
+    private PieceTable(BrickFactory.BrickType type, List<int[][]> shapes) {
+        this.type = type;
+        this.rotations = new Rotation[shapes.size()];
+        for (int i = 0; i < rotations.length; i++) {
+            rotations[i] = new Rotation(shapes.get(i), kicksFor(type));
+        }
+    }
+
+    /**
+     * Selects the wall kicks of a brick type; every rotation of a type shares one table.
+     *
+     * @param type The brick type (null for the empty table)
+     * @return flattened {dx, dy} pairs (shared, never modified)
+     */
+    private static int[] kicksFor(BrickFactory.BrickType type) {
+        if (type == null) {
+            return NO_KICKS;
+        }
+        return switch (type) {
+            case I -> I_KICKS;
+            case O -> NO_KICKS;
+            default -> STANDARD_KICKS;
+        };
+    }
+
+    // Builds one table per brick type, indexed by ordinal
+    private static PieceTable[] buildTables() {
+        BrickFactory.BrickType[] types = BrickFactory.BrickType.values();
+        PieceTable[] tables = new PieceTable[types.length];
+        for (BrickFactory.BrickType type : types) {
+            tables[type.ordinal()] = new PieceTable(type, BrickFactory.createBrick(type).getShapeMatrix());
+        }
+        return tables;
+    }
+
+    /**
+     * Gets the shared table for a brick type.
+     *
+     * @param type The brick type
+     * @return The precomputed table for that type
+     */
+    public static PieceTable forType(BrickFactory.BrickType type) {
+        return TABLES[type.ordinal()];
+    }
+
+    // Gets the brick type of this table (null for the empty table)
+    public BrickFactory.BrickType getType() {
+        return type;
+    }
+
+    // Gets the number of rotation states
+    public int getRotationCount() {
+        return rotations.length;
+    }
+
+    // Gets a rotation state by index
+    public Rotation getRotation(int index) {
+        return rotations[index];
+    }
+
+    /**
+     * One rotation state of a brick.
+     * Shape coordinates are relative to the top-left corner of the 4x4 shape matrix.
+     */
+    public static final class Rotation {
+        private final int[][] shape;
+        private final int mask;
+        private final int[] rowMasks = new int[SHAPE_SIZE];
+        private final int[] columnBottoms = new int[SHAPE_SIZE];
+        private final int[] cellRows;
+        private final int[] cellColumns;
+        private final int color;
+        private final int minRow;
+        private final int maxRow;
+        private final int minColumn;
+        private final int maxColumn;
+        private final int[] kicks;
+
+        private Rotation(int[][] source, int[] kicks) {
+            this.kicks = kicks;
+            shape = new int[SHAPE_SIZE][SHAPE_SIZE];
+            int cells = 0;
+            int packed = 0;
+            int rowMin = SHAPE_SIZE;
+            int rowMax = -1;
+            int columnMin = SHAPE_SIZE;
+            int columnMax = -1;
+            int cellColor = 0;
+            Arrays.fill(columnBottoms, -1);
+            for (int i = 0; i < source.length; i++) {
+                for (int j = 0; j < source[i].length; j++) {
+                    shape[i][j] = source[i][j];
+                    if (source[i][j] != 0) {
+                        cells++;
+                        packed |= 1 << (i * SHAPE_SIZE + j);
+                        rowMasks[i] |= 1 << j;
+                        columnBottoms[j] = i;
+                        rowMin = Math.min(rowMin, i);
+                        rowMax = Math.max(rowMax, i);
+                        columnMin = Math.min(columnMin, j);
+                        columnMax = Math.max(columnMax, j);
+                        cellColor = source[i][j];
+                    }
+                }
+            }
+            mask = packed;
+            color = cellColor;
+            minRow = rowMin;
+            maxRow = rowMax;
+            minColumn = columnMin;
+            maxColumn = columnMax;
+            cellRows = new int[cells];
+            cellColumns = new int[cells];
+            int cell = 0;
+            for (int bit = 0; bit < SHAPE_SIZE * SHAPE_SIZE; bit++) {
+                if ((packed & (1 << bit)) != 0) {
+                    cellRows[cell] = bit / SHAPE_SIZE;
+                    cellColumns[cell] = bit % SHAPE_SIZE;
+                    cell++;
+                }
+            }
+        }
+
+        // Gets the 16-bit occupancy mask; bit (row * 4 + column) is set for filled cells
+        public int getMask() {
+            return mask;
+        }
+
+        // Gets the occupancy of one shape row; bit j is set when column j is filled
+        public int getRowMask(int row) {
+            return rowMasks[row];
+        }
+
+        // Gets the lowest filled shape row in a column (its bottom profile), or -1 if the column is empty
+        public int getColumnBottom(int column) {
+            return columnBottoms[column];
+        }
+
+        // Gets the number of filled cells
+        public int getCellCount() {
+            return cellRows.length;
+        }
+
+        // Gets the shape row of a filled cell
+        public int getCellRow(int cell) {
+            return cellRows[cell];
+        }
+
+        // Gets the shape column of a filled cell
+        public int getCellColumn(int cell) {
+            return cellColumns[cell];
+        }
+
+        // Gets the color code written to the board for this brick
+        public int getColor() {
+            return color;
+        }
+
+        // Bounding box of the filled cells (min > max when the rotation is empty)
+        public int getMinRow() {
+            return minRow;
+        }
+
+        public int getMaxRow() {
+            return maxRow;
+        }
+
+        public int getMinColumn() {
+            return minColumn;
+        }
+
+        public int getMaxColumn() {
+            return maxColumn;
+        }
+
+        // Gets the number of wall kicks tried when rotating out of this state
+        public int getKickCount() {
+            return kicks.length / 2;
+        }
+
+        // Gets the column offset of a wall kick
+        public int getKickX(int kick) {
+            return kicks[kick * 2];
+        }
+
+        // Gets the row offset of a wall kick (negative moves the brick up)
+        public int getKickY(int kick) {
+            return kicks[kick * 2 + 1];
+        }
+
+        // Checks whether a shape cell is filled
+        public boolean isFilled(int row, int column) {
+            return (mask & (1 << (row * SHAPE_SIZE + column))) != 0;
+        }
+
+        /**
+         * Creates a mutable copy of this rotation as a 4x4 shape matrix.
+         *
+         * @return a new matrix in the same format as Brick.getShapeMatrix()
+         */
+        public int[][] toMatrix() {
+            int[][] copy = new int[SHAPE_SIZE][];
+            for (int i = 0; i < SHAPE_SIZE; i++) {
+                copy[i] = shape[i].clone();
+            }
+            return copy;
+        }
+    }
+}
@@ -1,47 +1,108 @@
 package com.comp2042.tetris.model.piece;
 
-import com.comp2042.tetris.model.piece.types.*;
-
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Generates bricks using the "bag" randomization system from modern Tetris.
  * This ensures fair distribution by shuffling all 7 brick types into a "bag",
  * dealing them out sequentially, then creating a new shuffled bag.
+ * Each generator owns its random stream, so a seeded generator always deals the same sequence and
+ * generators on different threads never contend. fork() derives independent child generators for parallel workers.
+ * The stream is SplitMix64 kept in plain fields (the algorithm behind SplittableRandom, giving the same
+ * sequence for the same seed), so the whole generator state can be saved to and restored from an int buffer.
+ * Draws go through the static nextInt, which VectorEnv shares, so the stream is defined in one place.
  */
 public class RandomBrickGenerator implements BrickGenerator {
 
-    private final List<Brick> brickList;
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
-    private List<Brick> currentBag;
+    // Gamma of a stream started from a plain seed
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Brick[] bricksByType;
+    private final Brick[] bag;
+    // Ring buffer of upcoming bricks; holds between one and two bags
+    private final Brick[] queue;
+    private int queueHead;
+    private int queueSize;
+    // Stream state in a one-element slot, so it can be advanced by the shared nextInt
+    private final long[] seed = new long[1];
+    private long gamma;
 
-    // Initialize the generator
+    // Initialize the generator with an unpredictable seed
     public RandomBrickGenerator() {
-        // Create the list of all brick types
-        brickList = BrickFactory.createAllBricks();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Initialize a generator whose brick sequence is fully determined by a seed.
+     *
+     * @param seed The seed for shuffling bags
+     */
+    public RandomBrickGenerator(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
 
-        // Create and shuffle the first bag
-        currentBag = new ArrayList<>(brickList);
-        Collections.shuffle(currentBag);
+    /**
+     * Initialize a generator seeded from the given random stream.
+     * The stream must not be shared with other users if the sequence should be reproducible.
+     *
+     * @param random The random stream to draw the seed from
+     */
+    public RandomBrickGenerator(SplittableRandom random) {
+        this(random.nextLong());
+    }
+
+    private RandomBrickGenerator(long seed, long gamma) {
+        this.seed[0] = seed;
+        this.gamma = gamma;
 
-        // Pre-fill the queue with the first bag
-        nextBricks.addAll(currentBag);
+        // Create one brick of every type
+        BrickFactory.BrickType[] types = BrickFactory.BrickType.values();
+        bricksByType = new Brick[types.length];
+        for (int i = 0; i < types.length; i++) {
+            bricksByType[i] = BrickFactory.createBrick(types[i]);
+        }
+        bag = bricksByType.clone();
+        queue = new Brick[2 * bag.length];
+
+        // Pre-fill the queue with the first bag, then prepare the next bag
+        refillBag();
+        refillBag();
+    }
 
-        // Prepare next bag
+    /**
+     * Restarts the generator as if it had just been created with the given seed, without allocating.
+     *
+     * @param seed The seed for shuffling bags
+     */
+    public void reset(long seed) {
+        this.seed[0] = seed;
+        this.gamma = GOLDEN_GAMMA;
+        System.arraycopy(bricksByType, 0, bag, 0, bag.length);
+        queueHead = 0;
+        queueSize = 0;
+        refillBag();
         refillBag();
     }
 
+    /**
+     * Creates a generator with an independent random stream split off this one.
+     * Forking is deterministic: the same sequence of forks from the same seed gives the same children.
+     *
+     * @return a new generator that shares no state with this one
+     */
+    public RandomBrickGenerator fork() {
+        return new RandomBrickGenerator(mix64(nextSeed()), mixGamma(nextSeed()));
+    }
+
     // Return the current brick and prepare the next one
     @Override
     public Brick getBrick() {
-        Brick brick = nextBricks.poll();
+        Brick brick = queue[queueHead];
+        queueHead = (queueHead + 1) % queue.length;
+        queueSize--;
 
         // Refill the bag if queue drops below a complete bag
-        if (nextBricks.size() < 7) {
+        if (queueSize < bag.length) {
             refillBag();
         }
 
@@ -51,16 +112,103 @@ public class RandomBrickGenerator implements BrickGenerator {
     // Preview the next brick without removing it from the queue
     @Override
     public Brick getNextBrick() {
-        return nextBricks.peek();
+        return queue[queueHead];
     }
 
-    // Creates a new shuffled bag and adds it to the queue
+    // Shuffles the bag in place (Fisher-Yates) and adds it to the queue
     private void refillBag() {
-        // Create and shuffle a new bag
-        currentBag = new ArrayList<>(brickList);
-        Collections.shuffle(currentBag);
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = nextInt(seed, 0, gamma, i + 1);
+            Brick swap = bag[i];
+            bag[i] = bag[j];
+            bag[j] = swap;
+        }
+        for (Brick brick : bag) {
+            queue[(queueHead + queueSize++) % queue.length] = brick;
+        }
+    }
+
+    // Seed, gamma, the bag order and the queue (length-prefixed, padded to two bags)
+    @Override
+    public int getStateSize() {
+        return 4 + bag.length + 1 + queue.length;
+    }
+
+    @Override
+    public int saveState(int[] buffer, int offset) {
+        buffer[offset++] = (int) (seed[0] >>> 32);
+        buffer[offset++] = (int) seed[0];
+        buffer[offset++] = (int) (gamma >>> 32);
+        buffer[offset++] = (int) gamma;
+        for (Brick brick : bag) {
+            buffer[offset++] = brick.getPieceTable().getType().ordinal();
+        }
+        buffer[offset++] = queueSize;
+        for (int i = 0; i < queue.length; i++) {
+            buffer[offset++] = i < queueSize ? queue[(queueHead + i) % queue.length].getPieceTable().getType().ordinal() : -1;
+        }
+        return offset;
+    }
+
+    @Override
+    public int restoreState(int[] buffer, int offset) {
+        seed[0] = ((long) buffer[offset] << 32) | (buffer[offset + 1] & 0xFFFFFFFFL);
+        gamma = ((long) buffer[offset + 2] << 32) | (buffer[offset + 3] & 0xFFFFFFFFL);
+        offset += 4;
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = bricksByType[buffer[offset++]];
+        }
+        queueSize = buffer[offset++];
+        queueHead = 0;
+        for (int i = 0; i < queue.length; i++) {
+            int type = buffer[offset++];
+            queue[i] = i < queueSize ? bricksByType[type] : null;
+        }
+        return offset;
+    }
+
+    private long nextSeed() {
+        return seed[0] += gamma;
+    }
+
+    /**
+     * Draws a uniform int in [0, bound) from a SplitMix64 stream whose state is kept in an array slot,
+     * the same way as SplittableRandom.nextInt(bound). The slot is advanced by gamma once per 32-bit draw.
+     * Allocates nothing.
+     *
+     * @param seeds Array holding stream states
+     * @param slot Index of the stream's state in seeds
+     * @param gamma Odd increment of the stream (GOLDEN_GAMMA for a stream started from a seed)
+     * @param bound Exclusive upper bound; must be positive
+     * @return the drawn value
+     */
+    public static int nextInt(long[] seeds, int slot, long gamma, int bound) {
+        int r = mix32(seeds[slot] += gamma);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(seeds[slot] += gamma) >>> 1);
+        return r;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
 
-        // Add the new bag to the queue
-        nextBricks.addAll(currentBag);
+    // Derives an odd gamma with enough bit transitions for a split stream
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package com.comp2042.tetris.model.piece.types;
 
 import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.PieceTable;
 import com.comp2042.tetris.util.MatrixOperations;
 
 import java.util.ArrayList;
@@ -41,4 +43,9 @@ public final class JBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    @Override
+    public PieceTable getPieceTable() {
+        return PieceTable.forType(BrickFactory.BrickType.J);
+    }
 }
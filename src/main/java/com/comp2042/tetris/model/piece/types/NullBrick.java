@@ -1,6 +1,7 @@
 package com.comp2042.tetris.model.piece.types;
 
 import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.PieceTable;
 import com.comp2042.tetris.util.MatrixOperations;
 
 import java.util.ArrayList;
@@ -40,4 +41,10 @@ public final class NullBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
-}
\ No newline at end of file
+
+    // Returns the shared table holding the single empty rotation
+    @Override
+    public PieceTable getPieceTable() {
+        return PieceTable.EMPTY;
+    }
+}
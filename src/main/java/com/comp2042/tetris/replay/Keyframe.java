@@ -0,0 +1,92 @@
+package com.comp2042.tetris.replay;
+
+/**
+ * Snapshot of a replayed session taken just after a brick spawned, used to seek without re-simulating
+ * from the start.
+ * The current brick is not stored: it is the last brick drawn, which the player recovers by re-seeding the
+ * generator and drawing the same number of bricks again.
+ */
+public final class Keyframe {
+
+    private final int pieceIndex;
+    private final int eventIndex;
+    private final int byteOffset;
+    private final long tick;
+    private final int brickDraws;
+    private final int score;
+    private final int totalLines;
+    private final int heldType;
+    private final byte[] cells;
+
+    /**
+     * Creates a keyframe.
+     *
+     * @param pieceIndex Bricks locked since the session started
+     * @param eventIndex Index of the last event applied
+     * @param byteOffset Offset of the next event in the encoded stream
+     * @param tick Tick of the last event applied
+     * @param brickDraws Bricks drawn from the generator since the session started
+     * @param score Score of the current game
+     * @param totalLines Lines cleared in the current game
+     * @param heldType BrickType ordinal of the held brick, or -1 for an empty hold slot
+     * @param cells Background color codes, row by row
+     */
+    Keyframe(int pieceIndex, int eventIndex, int byteOffset, long tick, int brickDraws,
+             int score, int totalLines, int heldType, byte[] cells) {
+        this.pieceIndex = pieceIndex;
+        this.eventIndex = eventIndex;
+        this.byteOffset = byteOffset;
+        this.tick = tick;
+        this.brickDraws = brickDraws;
+        this.score = score;
+        this.totalLines = totalLines;
+        this.heldType = heldType;
+        this.cells = cells;
+    }
+
+    public int getPieceIndex() {
+        return pieceIndex;
+    }
+
+    int getEventIndex() {
+        return eventIndex;
+    }
+
+    int getByteOffset() {
+        return byteOffset;
+    }
+
+    long getTick() {
+        return tick;
+    }
+
+    int getBrickDraws() {
+        return brickDraws;
+    }
+
+    int getScore() {
+        return score;
+    }
+
+    int getTotalLines() {
+        return totalLines;
+    }
+
+    int getHeldType() {
+        return heldType;
+    }
+
+    // Copies the cells into a board matrix of matching size
+    void copyCellsTo(int[][] matrix) {
+        int columns = matrix[0].length;
+        for (int row = 0; row < matrix.length; row++) {
+            for (int column = 0; column < columns; column++) {
+                matrix[row][column] = cells[row * columns + column];
+            }
+        }
+    }
+
+    byte[] getCells() {
+        return cells;
+    }
+}
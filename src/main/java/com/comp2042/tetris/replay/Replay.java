@@ -0,0 +1,164 @@
+package com.comp2042.tetris.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable recorded game session: the brick generator seed, the board size and the encoded event stream
+ * produced by ReplayRecorder, plus an optional seek index of keyframes added by ReplayPlayer.index.
+ * File layout (big-endian): magic, format version, seed, rows, columns, event count, byte length, event bytes,
+ * then (from version 2) the keyframe count and each keyframe's fields followed by its rows * columns cells.
+ * Version 1 files, without keyframes, are still read.
+ */
+public final class Replay {
+
+    private static final int MAGIC = 0x54525059; // "TRPY"
+    private static final int VERSION = 2;
+
+    private final long seed;
+    private final int rows;
+    private final int columns;
+    private final byte[] events;
+    private final int eventCount;
+    private final List<Keyframe> keyframes;
+
+    Replay(long seed, int rows, int columns, byte[] events, int eventCount) {
+        this(seed, rows, columns, events, eventCount, Collections.emptyList());
+    }
+
+    private Replay(long seed, int rows, int columns, byte[] events, int eventCount, List<Keyframe> keyframes) {
+        this.seed = seed;
+        this.rows = rows;
+        this.columns = columns;
+        this.events = events;
+        this.eventCount = eventCount;
+        this.keyframes = keyframes;
+    }
+
+    // Creates a copy of this replay with the given keyframes, in ascending piece order
+    Replay withKeyframes(List<Keyframe> keyframes) {
+        List<Keyframe> copy = Collections.unmodifiableList(new ArrayList<>(keyframes));
+        return new Replay(seed, rows, columns, events, eventCount, copy);
+    }
+
+    // Gets the seed of the session's brick generator
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    // Gets the encoded size of the events in bytes
+    public int getEncodedLength() {
+        return events.length;
+    }
+
+    // Gets the seek index, in ascending piece order (empty if the replay has not been indexed)
+    public List<Keyframe> getKeyframes() {
+        return keyframes;
+    }
+
+    // Creates a cursor positioned before the first event
+    public ReplayReader reader() {
+        return new ReplayReader(events, eventCount);
+    }
+
+    // Creates a cursor positioned on the last event applied before a keyframe
+    ReplayReader readerAt(Keyframe keyframe) {
+        return new ReplayReader(events, eventCount,
+                keyframe.getEventIndex(), keyframe.getByteOffset(), keyframe.getTick());
+    }
+
+    /**
+     * Writes the replay in its binary file format.
+     *
+     * @param out The stream to write to (not closed)
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(seed);
+        data.writeInt(rows);
+        data.writeInt(columns);
+        data.writeInt(eventCount);
+        data.writeInt(events.length);
+        data.write(events);
+        data.writeInt(keyframes.size());
+        for (Keyframe keyframe : keyframes) {
+            data.writeInt(keyframe.getPieceIndex());
+            data.writeInt(keyframe.getEventIndex());
+            data.writeInt(keyframe.getByteOffset());
+            data.writeLong(keyframe.getTick());
+            data.writeInt(keyframe.getBrickDraws());
+            data.writeInt(keyframe.getScore());
+            data.writeInt(keyframe.getTotalLines());
+            data.writeByte(keyframe.getHeldType());
+            data.write(keyframe.getCells());
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by writeTo.
+     *
+     * @param in The stream to read from (not closed)
+     * @return the replay
+     * @throws IOException if reading fails or the data is not a replay of a supported version
+     */
+    public static Replay readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        long seed = data.readLong();
+        int rows = data.readInt();
+        int columns = data.readInt();
+        int eventCount = data.readInt();
+        byte[] events = new byte[data.readInt()];
+        data.readFully(events);
+        Replay replay = new Replay(seed, rows, columns, events, eventCount);
+        if (version == 1) {
+            return replay;
+        }
+
+        int keyframeCount = data.readInt();
+        List<Keyframe> keyframes = new ArrayList<>(keyframeCount);
+        for (int i = 0; i < keyframeCount; i++) {
+            int pieceIndex = data.readInt();
+            int eventIndex = data.readInt();
+            int byteOffset = data.readInt();
+            long tick = data.readLong();
+            int brickDraws = data.readInt();
+            int score = data.readInt();
+            int totalLines = data.readInt();
+            int heldType = data.readByte();
+            byte[] cells = new byte[rows * columns];
+            data.readFully(cells);
+            keyframes.add(new Keyframe(pieceIndex, eventIndex, byteOffset, tick, brickDraws, score, totalLines,
+                    heldType, cells));
+        }
+        return replay.withKeyframes(keyframes);
+    }
+}
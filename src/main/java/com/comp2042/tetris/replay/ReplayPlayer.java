@@ -0,0 +1,240 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.model.Board;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.GameStats;
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.BrickGenerator;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.model.piece.types.NullBrick;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replays a recorded session headlessly, as fast as the engine runs, through the Board interface.
+ * Events are applied with GameEngine.apply, the same rules GameController uses, with no Timeline or rendering.
+ * Piece numbers count bricks locked since the session started; seekToPiece restores the nearest keyframe at or
+ * before the target (see index) and simulates only the events after it.
+ */
+public final class ReplayPlayer {
+
+    // Default number of locked pieces between keyframes
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 100;
+
+    /**
+     * Creates the board a replay is played on; GameBoard::new and BitboardGameBoard::new both fit.
+     */
+    @FunctionalInterface
+    public interface BoardFactory {
+        Board create(int rows, int columns, BrickGenerator generator);
+    }
+
+    private static final BrickFactory.BrickType[] TYPES = BrickFactory.BrickType.values();
+
+    private final Replay replay;
+    private final BoardFactory boardFactory;
+    private CountingGenerator generator;
+    private Board board;
+    private GameEngine engine;
+    private ReplayReader reader;
+    private int pieceIndex;
+    private boolean atLock;
+
+    // Creates a player on a GameBoard, positioned at the start of the session
+    public ReplayPlayer(Replay replay) {
+        this(replay, GameBoard::new);
+    }
+
+    /**
+     * Creates a player positioned at the start of the session.
+     *
+     * @param replay The session to play
+     * @param boardFactory Creates the board implementation to play on
+     */
+    public ReplayPlayer(Replay replay, BoardFactory boardFactory) {
+        this.replay = replay;
+        this.boardFactory = boardFactory;
+        rewind();
+    }
+
+    /**
+     * Simulates a replay once and returns a copy of it with a keyframe every interval locked pieces.
+     * Keyframes are not taken while a game is over.
+     *
+     * @param replay The replay to index
+     * @param interval Locked pieces between keyframes
+     * @return the indexed replay, ready to be saved
+     */
+    public static Replay index(Replay replay, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + interval);
+        }
+        ReplayPlayer player = new ReplayPlayer(replay);
+        List<Keyframe> keyframes = new ArrayList<>();
+        while (player.step()) {
+            if (player.atLock && player.pieceIndex % interval == 0 && !player.engine.isGameOver()) {
+                keyframes.add(player.capture());
+            }
+        }
+        return replay.withKeyframes(keyframes);
+    }
+
+    // Returns to the start of the session
+    public void rewind() {
+        generator = new CountingGenerator(replay.getSeed(), 0);
+        board = boardFactory.create(replay.getRows(), replay.getColumns(), generator);
+        engine = new GameEngine(board);
+        engine.start();
+        reader = replay.reader();
+        pieceIndex = 0;
+        atLock = true;
+    }
+
+    /**
+     * Applies the next recorded event.
+     *
+     * @return false if the session has no more events
+     */
+    public boolean step() {
+        if (!reader.next()) {
+            return false;
+        }
+        if (reader.isNewGame()) {
+            engine.newGame();
+            atLock = false;
+        } else {
+            atLock = engine.apply(reader.getType(), reader.getSource());
+            if (atLock) {
+                pieceIndex++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies every remaining event.
+     *
+     * @return the number of events applied
+     */
+    public int playToEnd() {
+        int events = 0;
+        while (step()) {
+            events++;
+        }
+        return events;
+    }
+
+    /**
+     * Moves to the moment the given piece locked (and the next one spawned), forwards or backwards.
+     *
+     * @param target Number of locked pieces to seek to (0 for the start of the session)
+     * @return the piece number reached, which is lower than the target if the session ends first
+     */
+    public int seekToPiece(int target) {
+        Keyframe nearest = null;
+        for (Keyframe keyframe : replay.getKeyframes()) {
+            if (keyframe.getPieceIndex() > target) {
+                break;
+            }
+            nearest = keyframe;
+        }
+
+        // Continue from the current position unless it is past the target or a keyframe is closer
+        boolean reachable = target > pieceIndex || (target == pieceIndex && atLock);
+        if (!reachable || (nearest != null && nearest.getPieceIndex() > pieceIndex)) {
+            if (nearest != null) {
+                restore(nearest);
+            } else {
+                rewind();
+            }
+        }
+        while (pieceIndex < target && step());
+        return pieceIndex;
+    }
+
+    // Rebuilds the full game state at a keyframe
+    private void restore(Keyframe keyframe) {
+        // The current brick is the last one drawn, so replay every draw before it and let the board draw it
+        generator = new CountingGenerator(replay.getSeed(), keyframe.getBrickDraws() - 1);
+        board = boardFactory.create(replay.getRows(), replay.getColumns(), generator);
+        int[][] cells = new int[replay.getRows()][replay.getColumns()];
+        keyframe.copyCellsTo(cells);
+        int heldType = keyframe.getHeldType();
+        board.loadBackground(cells, heldType < 0 ? NullBrick.getInstance() : BrickFactory.createBrick(TYPES[heldType]));
+        board.createNewBrick();
+
+        GameStats stats = new GameStats();
+        stats.restore(keyframe.getScore(), keyframe.getTotalLines());
+        engine = new GameEngine(board, stats);
+        reader = replay.readerAt(keyframe);
+        pieceIndex = keyframe.getPieceIndex();
+        atLock = true;
+    }
+
+    // Captures the current state, which must be just after a spawn
+    private Keyframe capture() {
+        int[][] matrix = board.getBoardMatrix();
+        int columns = replay.getColumns();
+        byte[] cells = new byte[replay.getRows() * columns];
+        for (int row = 0; row < matrix.length; row++) {
+            for (int column = 0; column < columns; column++) {
+                cells[row * columns + column] = (byte) matrix[row][column];
+            }
+        }
+        BrickFactory.BrickType heldType = board.getHeldBrick().getPieceTable().getType();
+        GameStats stats = engine.getStats();
+        return new Keyframe(pieceIndex, reader.getIndex(), reader.getPosition(), reader.getTick(), generator.draws,
+                stats.getScore(), stats.getTotalLinesCleared(), heldType == null ? -1 : heldType.ordinal(), cells);
+    }
+
+    // Gets the number of bricks locked so far
+    public int getPieceIndex() {
+        return pieceIndex;
+    }
+
+    // Gets the index of the last event applied (-1 at the start)
+    public int getEventIndex() {
+        return reader.getIndex();
+    }
+
+    // Gets the recorded tick of the last event applied
+    public long getTick() {
+        return reader.getTick();
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public GameStats getStats() {
+        return engine.getStats();
+    }
+
+    // Replays the session's brick sequence and counts the draws, so keyframes can record the sequence position
+    private static final class CountingGenerator implements BrickGenerator {
+        private final RandomBrickGenerator delegate;
+        private int draws;
+
+        CountingGenerator(long seed, int skip) {
+            delegate = new RandomBrickGenerator(seed);
+            for (int i = 0; i < skip; i++) {
+                delegate.getBrick();
+            }
+            draws = skip;
+        }
+
+        @Override
+        public Brick getBrick() {
+            draws++;
+            return delegate.getBrick();
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return delegate.getNextBrick();
+        }
+    }
+}
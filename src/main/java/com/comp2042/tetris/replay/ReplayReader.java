@@ -0,0 +1,90 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+
+/**
+ * Forward cursor over the events of a Replay.
+ * Decodes one event per next() call into plain fields, so iterating a replay allocates nothing.
+ */
+public final class ReplayReader {
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    private final byte[] events;
+    private final int eventCount;
+    private int position;
+    private int index = -1;
+    private int code;
+    private int source;
+    private long tick;
+
+    ReplayReader(byte[] events, int eventCount) {
+        this.events = events;
+        this.eventCount = eventCount;
+    }
+
+    // Creates a cursor positioned on an already decoded event, continuing at the given byte offset
+    ReplayReader(byte[] events, int eventCount, int index, int position, long tick) {
+        this(events, eventCount);
+        this.index = index;
+        this.position = position;
+        this.tick = tick;
+    }
+
+    /**
+     * Advances to the next event.
+     *
+     * @return false when there are no more events
+     */
+    public boolean next() {
+        if (index + 1 >= eventCount) {
+            return false;
+        }
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = events[position++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+
+        index++;
+        code = (int) value & ((1 << ReplayRecorder.CODE_BITS) - 1);
+        source = (int) (value >>> ReplayRecorder.SOURCE_SHIFT) & 1;
+        tick += value >>> ReplayRecorder.DELTA_SHIFT;
+        return true;
+    }
+
+    // Checks whether the current event starts a new game rather than moving a brick
+    public boolean isNewGame() {
+        return code == ReplayRecorder.NEW_GAME_CODE;
+    }
+
+    // Gets the movement type of the current event, or null for a new game event
+    public EventType getType() {
+        return code < TYPES.length ? TYPES[code] : null;
+    }
+
+    // Gets the source of the current event
+    public EventSource getSource() {
+        return SOURCES[source];
+    }
+
+    // Gets the tick of the current event in milliseconds since the start of the recording
+    public long getTick() {
+        return tick;
+    }
+
+    // Gets the byte offset of the next event
+    int getPosition() {
+        return position;
+    }
+
+    // Gets the index of the current event (-1 before the first call to next)
+    public int getIndex() {
+        return index;
+    }
+}
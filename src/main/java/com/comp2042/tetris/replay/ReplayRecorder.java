@@ -0,0 +1,120 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+
+import java.util.Arrays;
+
+/**
+ * Records the input stream of a game session as a compact byte array.
+ * Each event is stored as one unsigned LEB128 varint of (tickDelta << 4 | source << 3 | code), where code is the
+ * EventType ordinal (or NEW_GAME_CODE) and tickDelta is the number of milliseconds since the previous event,
+ * so typical events take one or two bytes. Together with the brick generator seed this reproduces the session.
+ * Recording writes into a growable buffer and allocates nothing per event apart from occasional doubling.
+ * Not thread-safe; record from the thread that handles game events.
+ */
+public final class ReplayRecorder {
+
+    // Event code marking the start of a new game on the same generator
+    static final int NEW_GAME_CODE = 7;
+    static final int CODE_BITS = 3;
+    static final int SOURCE_SHIFT = 3;
+    static final int DELTA_SHIFT = 4;
+
+    private static final int INITIAL_CAPACITY = 4096;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final long seed;
+    private final int rows;
+    private final int columns;
+    private final long startNanos = System.nanoTime();
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int eventCount;
+    private long lastTick;
+
+    /**
+     * Creates a recorder for a session on a board of the given size.
+     *
+     * @param seed The seed of the session's brick generator
+     * @param rows Board rows
+     * @param columns Board columns
+     */
+    public ReplayRecorder(long seed, int rows, int columns) {
+        this.seed = seed;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Records an event stamped with the time since recording started.
+     *
+     * @param type The movement type
+     * @param source Whether the user or the gravity timer produced the event
+     */
+    public void record(EventType type, EventSource source) {
+        record(type, source, currentTick());
+    }
+
+    /**
+     * Records an event at an explicit tick.
+     *
+     * @param type The movement type
+     * @param source Whether the user or the gravity timer produced the event
+     * @param tick Milliseconds since the start of the recording (never earlier than the previous event)
+     */
+    public void record(EventType type, EventSource source, long tick) {
+        append(type.ordinal() | source.ordinal() << SOURCE_SHIFT, tick);
+    }
+
+    // Records the start of a new game, stamped with the time since recording started
+    public void recordNewGame() {
+        recordNewGame(currentTick());
+    }
+
+    // Records the start of a new game at an explicit tick
+    public void recordNewGame(long tick) {
+        append(NEW_GAME_CODE, tick);
+    }
+
+    // Gets the milliseconds elapsed since the recorder was created
+    public long currentTick() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private void append(int code, long tick) {
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("Tick " + tick + " is before the previous event at " + lastTick);
+        }
+        long value = (tick - lastTick) << DELTA_SHIFT | code;
+        lastTick = tick;
+        if (length + MAX_VARINT_BYTES > buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+        eventCount++;
+    }
+
+    // Gets the number of events recorded so far
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    // Gets the encoded size of the recorded events in bytes
+    public int getEncodedLength() {
+        return length;
+    }
+
+    /**
+     * Copies the recording so far into an immutable Replay; recording may continue afterwards.
+     *
+     * @return the recorded session
+     */
+    public Replay toReplay() {
+        return new Replay(seed, rows, columns, Arrays.copyOf(buffer, length), eventCount);
+    }
+}
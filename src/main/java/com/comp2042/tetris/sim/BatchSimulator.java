@@ -0,0 +1,141 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.GameStats;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Plays large batches of headless games in parallel on a ForkJoinPool.
+ * Game i of a batch is derived from seed (firstSeed + i): its brick sequence and its policy get independent
+ * streams split from that seed, so a batch is reproducible regardless of how the work is split.
+ * The seed range is divided recursively; every leaf task plays its games into a private SimulationResult and
+ * results are merged as tasks join, so worker threads share no mutable state.
+ */
+public class BatchSimulator {
+
+    // Below this many games a task plays them itself instead of splitting further
+    private static final int GAMES_PER_TASK = 16;
+
+    private final ForkJoinPool pool;
+    private final int rows;
+    private final int columns;
+    private final int maxPieces;
+
+    /**
+     * Creates a simulator for the standard 25x10 board on the common pool.
+     *
+     * @param maxPieces Bricks after which an unfinished game is stopped (so strong policies still terminate)
+     */
+    public BatchSimulator(int maxPieces) {
+        this(ForkJoinPool.commonPool(), 25, 10, maxPieces);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param pool The pool to run games on
+     * @param rows Board rows
+     * @param columns Board columns
+     * @param maxPieces Bricks after which an unfinished game is stopped
+     */
+    public BatchSimulator(ForkJoinPool pool, int rows, int columns, int maxPieces) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("maxPieces must be positive: " + maxPieces);
+        }
+        this.pool = pool;
+        this.rows = rows;
+        this.columns = columns;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays a range of seeds and aggregates the results.
+     *
+     * @param firstSeed Seed of the first game
+     * @param games Number of games (seeds firstSeed .. firstSeed + games - 1)
+     * @param policyFactory Creates the policy for one game from its seed
+     * @return the merged statistics, including wall-clock throughput
+     */
+    public SimulationResult run(long firstSeed, int games, LongFunction<? extends GamePolicy> policyFactory) {
+        long start = System.nanoTime();
+        SimulationResult result = pool.invoke(new SimulationTask(firstSeed, games, policyFactory));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plays a single game to the end (or to the piece limit).
+     *
+     * @param seed Seed of the game
+     * @param policyFactory Creates the policy from a seed derived from the game seed
+     * @param result Receives the game's statistics
+     */
+    void playGame(long seed, LongFunction<? extends GamePolicy> policyFactory, SimulationResult result) {
+        SplittableRandom gameRandom = new SplittableRandom(seed);
+        GameEngine engine = new GameEngine(new GameBoard(rows, columns, new RandomBrickGenerator(gameRandom.split())));
+        GamePolicy policy = policyFactory.apply(gameRandom.nextLong());
+        int pieces = 0;
+        if (!engine.start()) {
+            while (pieces < maxPieces && !engine.isGameOver()) {
+                policy.placeBrick(engine);
+                pieces++;
+            }
+        }
+        GameStats stats = engine.getStats();
+        result.record(stats.getScore(), stats.getTotalLinesCleared(), stats.getLevel(), pieces);
+    }
+
+    // Splits a seed range in halves until it is small enough to play directly
+    // Fork/join tasks are serializable by inheritance but never serialized
+    @SuppressWarnings("serial")
+    private final class SimulationTask extends RecursiveTask<SimulationResult> {
+        private final long firstSeed;
+        private final int games;
+        private final LongFunction<? extends GamePolicy> policyFactory;
+
+        SimulationTask(long firstSeed, int games, LongFunction<? extends GamePolicy> policyFactory) {
+            this.firstSeed = firstSeed;
+            this.games = games;
+            this.policyFactory = policyFactory;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (games <= GAMES_PER_TASK) {
+                SimulationResult result = new SimulationResult();
+                for (int i = 0; i < games; i++) {
+                    playGame(firstSeed + i, policyFactory, result);
+                }
+                return result;
+            }
+            int half = games / 2;
+            SimulationTask left = new SimulationTask(firstSeed, half, policyFactory);
+            SimulationTask right = new SimulationTask(firstSeed + half, games - half, policyFactory);
+            left.fork();
+            SimulationResult result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    /**
+     * Command-line entry point: plays random-policy games and prints a summary.
+     * Arguments: [games] [firstSeed] [maxPieces]
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long firstSeed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        int maxPieces = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        BatchSimulator simulator = new BatchSimulator(maxPieces);
+
+        // Warm up before the measured run
+        simulator.run(firstSeed, Math.min(games, 1000), RandomPolicy::new);
+        SimulationResult result = simulator.run(firstSeed, games, RandomPolicy::new);
+        System.out.println(result + " on " + simulator.pool.getParallelism() + " threads");
+    }
+}
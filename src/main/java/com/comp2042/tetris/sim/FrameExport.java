@@ -0,0 +1,212 @@
+package com.comp2042.tetris.sim;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes environment frames (observations, rewards and done flags) into a memory-mapped file, so a training
+ * process outside the JVM can map the same file and read them with no copies, pipes or sockets.
+ * The file has a fixed little-endian layout: a 64-byte header, then one record per environment.
+ * <pre>
+ * header  0  int   MAGIC ("TTRS")
+ *         4  int   VERSION
+ *         8  int   environment count
+ *        12  int   rows
+ *        16  int   columns
+ *        20  int   record size in bytes (a multiple of 8)
+ *        32  long  sequence, written by this process
+ *        40  long  acknowledged sequence, written by the reader
+ * record  0  int   reward, 4 done (0/1), 8 piece, 12 rotation, 16 x, 20 y, 24 next, 28 held (-1 when empty),
+ *        32  int   canHold (0/1), 36 score
+ *        40  byte  cells, rows * columns, row-major with row 0 at the top, 1 for a filled cell
+ * </pre>
+ * The sequence is a seqlock: it is odd while a frame is being written and even once it is complete, so a reader
+ * reads the sequence, skips odd values, copies what it needs and accepts the copy only if the sequence is
+ * unchanged. A reader that wants every frame stores the sequence it consumed in the acknowledged field, and the
+ * writer waits for it with awaitReader before publishing the next one.
+ * Publishing allocates nothing. Not thread-safe; use one writer per file.
+ */
+public class FrameExport implements AutoCloseable {
+
+    public static final int MAGIC = 0x53525454;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int SEQUENCE_OFFSET = 32;
+    public static final int ACKNOWLEDGED_OFFSET = 40;
+    public static final int CELLS_OFFSET = 40;
+
+    // Ordered access to the header longs; plain puts are enough for the frame data between the two sequence writes
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // Spins before parking while waiting for the reader
+    private static final int SPINS = 1000;
+    private static final long PARK_NANOS = 50_000;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final int rows;
+    private final int columns;
+    private final int recordSize;
+    private final byte[] cells;
+    private long sequence;
+
+    /**
+     * Creates (or truncates) the file and maps it, writing the header.
+     *
+     * @param path The file to share, usually on a memory-backed file system such as /dev/shm
+     * @param count Number of environments per frame
+     * @param rows Board rows
+     * @param columns Board columns
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public FrameExport(Path path, int count, int rows, int columns) throws IOException {
+        if (count < 1) {
+            throw new IllegalArgumentException("Environment count must be positive: " + count);
+        }
+        this.count = count;
+        this.rows = rows;
+        this.columns = columns;
+        this.recordSize = recordSize(rows, columns);
+        this.cells = new byte[rows * columns];
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(count, rows, columns));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, count);
+        buffer.putInt(12, rows);
+        buffer.putInt(16, columns);
+        buffer.putInt(20, recordSize);
+        LONGS.setRelease(buffer, ACKNOWLEDGED_OFFSET, 0L);
+        LONGS.setRelease(buffer, SEQUENCE_OFFSET, 0L);
+    }
+
+    // Gets the bytes of one environment record, padded to keep records 8-byte aligned
+    public static int recordSize(int rows, int columns) {
+        return (CELLS_OFFSET + rows * columns + 7) & ~7;
+    }
+
+    // Gets the size of the whole file
+    public static long fileSize(int count, int rows, int columns) {
+        return HEADER_SIZE + (long) count * recordSize(rows, columns);
+    }
+
+    /**
+     * Publishes the current state of every game in a VectorEnv as one frame.
+     *
+     * @param vector The games to export; its size must match this file
+     * @return the sequence number of the published frame
+     */
+    public long publish(VectorEnv vector) {
+        if (vector.getCount() != count || vector.getRows() != rows || vector.getColumns() != columns) {
+            throw new IllegalArgumentException("Environment does not match the export layout");
+        }
+        beginFrame();
+        for (int env = 0; env < count; env++) {
+            int record = HEADER_SIZE + env * recordSize;
+            vector.writeCells(env, cells, 0);
+            writeRecord(record, vector.getReward(env), vector.isDone(env), vector.getPiece(env),
+                    vector.getRotation(env), vector.getX(env), vector.getY(env), vector.getNext(env),
+                    vector.getHeld(env), vector.canHold(env), vector.getScore(env));
+        }
+        return endFrame();
+    }
+
+    /**
+     * Publishes one environment's step result as a frame; the file must have been created for one environment.
+     *
+     * @param result The result returned by TetrisEnv.reset or TetrisEnv.step
+     * @param score The game's score, for example from TetrisEnv.getEngine().getStats()
+     * @return the sequence number of the published frame
+     */
+    public long publish(StepResult result, int score) {
+        if (count != 1 || result.getRows() != rows || result.getColumns() != columns) {
+            throw new IllegalArgumentException("Step result does not match the export layout");
+        }
+        beginFrame();
+        System.arraycopy(result.getCells(), 0, cells, 0, cells.length);
+        writeRecord(HEADER_SIZE, result.getReward(), result.isDone(), result.getPiece(), result.getRotation(),
+                result.getX(), result.getY(), result.getNext(), result.getHeld(), result.canHold(), score);
+        return endFrame();
+    }
+
+    // Marks a frame as being written (odd sequence)
+    private void beginFrame() {
+        LONGS.setRelease(buffer, SEQUENCE_OFFSET, ++sequence);
+        // Keep the frame writes below from moving above the odd sequence
+        VarHandle.storeStoreFence();
+    }
+
+    // Marks the frame as complete (even sequence)
+    private long endFrame() {
+        LONGS.setRelease(buffer, SEQUENCE_OFFSET, ++sequence);
+        return sequence;
+    }
+
+    // Writes one record, with the board taken from the cells scratch array
+    private void writeRecord(int record, int reward, boolean done, int piece, int rotation, int x, int y,
+                             int next, int held, boolean canHold, int score) {
+        buffer.putInt(record, reward);
+        buffer.putInt(record + 4, done ? 1 : 0);
+        buffer.putInt(record + 8, piece);
+        buffer.putInt(record + 12, rotation);
+        buffer.putInt(record + 16, x);
+        buffer.putInt(record + 20, y);
+        buffer.putInt(record + 24, next);
+        buffer.putInt(record + 28, held);
+        buffer.putInt(record + 32, canHold ? 1 : 0);
+        buffer.putInt(record + 36, score);
+        buffer.put(record + CELLS_OFFSET, cells);
+    }
+
+    /**
+     * Waits until the reader has acknowledged the last published frame, for lockstep exchange.
+     *
+     * @param timeoutNanos Longest time to wait
+     * @return true if the frame was acknowledged, false on timeout
+     */
+    public boolean awaitReader(long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        for (int spins = 0; getAcknowledged() < sequence; spins++) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (spins < SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        return true;
+    }
+
+    // Gets the last sequence the reader stored in the acknowledged field
+    public long getAcknowledged() {
+        return (long) LONGS.getAcquire(buffer, ACKNOWLEDGED_OFFSET);
+    }
+
+    // Gets the sequence of the last published frame (0 before the first)
+    public long getSequence() {
+        return sequence;
+    }
+
+    // Closes the file; the mapping itself is released when the buffer is garbage collected
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
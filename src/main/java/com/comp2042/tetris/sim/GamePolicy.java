@@ -0,0 +1,17 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.model.GameEngine;
+
+/**
+ * Decides where each brick of a simulated game goes.
+ * One policy instance plays one game, so implementations may keep per-game state without synchronization.
+ */
+public interface GamePolicy {
+
+    /**
+     * Plays the current brick until it locks (for example by finishing with engine.hardDrop()).
+     *
+     * @param engine The game to play
+     */
+    void placeBrick(GameEngine engine);
+}
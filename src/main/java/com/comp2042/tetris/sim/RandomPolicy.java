@@ -0,0 +1,35 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.model.GameEngine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Baseline policy that rotates and shifts each brick by a random amount before hard dropping it.
+ * Useful as a lower bound when comparing bots and as a cheap load for throughput measurements.
+ */
+public class RandomPolicy implements GamePolicy {
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a policy for one game.
+     *
+     * @param seed The seed for this game's choices
+     */
+    public RandomPolicy(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void placeBrick(GameEngine engine) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            engine.rotate();
+        }
+        int shift = random.nextInt(-5, 6);
+        for (int i = 0; i < shift && engine.moveRight(); i++);
+        for (int i = 0; i > shift && engine.moveLeft(); i--);
+        engine.hardDrop();
+    }
+}
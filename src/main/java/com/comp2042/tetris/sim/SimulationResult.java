@@ -0,0 +1,128 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.model.GameStats;
+
+/**
+ * Aggregate statistics of a batch of simulated games.
+ * Each fork/join task fills its own instance and partial results are merged when tasks join,
+ * so no counter is ever shared between threads.
+ */
+public final class SimulationResult {
+
+    // Width of one score histogram bucket; the last bucket collects every higher score
+    public static final int SCORE_BUCKET_WIDTH = 1000;
+    public static final int SCORE_BUCKETS = 64;
+
+    private final long[] scoreHistogram = new long[SCORE_BUCKETS];
+    private final long[] levelHistogram = new long[GameStats.MAX_LEVEL + 1];
+    private long games;
+    private long totalScore;
+    private int minScore = Integer.MAX_VALUE;
+    private int maxScore = Integer.MIN_VALUE;
+    private long totalLines;
+    private long totalPieces;
+    private long elapsedNanos;
+
+    /**
+     * Records one finished game.
+     *
+     * @param score Final score
+     * @param lines Lines cleared
+     * @param level Level reached
+     * @param pieces Bricks placed
+     */
+    public void record(int score, int lines, int level, int pieces) {
+        games++;
+        totalScore += score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+        totalLines += lines;
+        totalPieces += pieces;
+        scoreHistogram[Math.min(score / SCORE_BUCKET_WIDTH, SCORE_BUCKETS - 1)]++;
+        levelHistogram[level]++;
+    }
+
+    /**
+     * Adds another partial result into this one.
+     *
+     * @param other The result to merge
+     * @return this result
+     */
+    public SimulationResult merge(SimulationResult other) {
+        games += other.games;
+        totalScore += other.totalScore;
+        minScore = Math.min(minScore, other.minScore);
+        maxScore = Math.max(maxScore, other.maxScore);
+        totalLines += other.totalLines;
+        totalPieces += other.totalPieces;
+        for (int i = 0; i < SCORE_BUCKETS; i++) {
+            scoreHistogram[i] += other.scoreHistogram[i];
+        }
+        for (int i = 0; i < levelHistogram.length; i++) {
+            levelHistogram[i] += other.levelHistogram[i];
+        }
+        return this;
+    }
+
+    // Sets the wall-clock time the batch took
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    public double getMeanScore() {
+        return games == 0 ? 0 : (double) totalScore / games;
+    }
+
+    // Gets the lowest final score (0 when no games were played)
+    public int getMinScore() {
+        return games == 0 ? 0 : minScore;
+    }
+
+    // Gets the highest final score (0 when no games were played)
+    public int getMaxScore() {
+        return games == 0 ? 0 : maxScore;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    // Gets the number of games whose score fell in a bucket of SCORE_BUCKET_WIDTH points
+    public long getScoreBucket(int bucket) {
+        return scoreHistogram[bucket];
+    }
+
+    // Gets the number of games that ended at a level
+    public long getGamesAtLevel(int level) {
+        return levelHistogram[level];
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    // Gets the throughput of the batch, or 0 if no time was recorded
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games in %.2f s (%.0f games/sec), score mean %.1f min %d max %d, "
+                        + "%.2f lines/game, %.1f pieces/game",
+                games, elapsedNanos / 1e9, getGamesPerSecond(), getMeanScore(), getMinScore(), getMaxScore(),
+                games == 0 ? 0 : (double) totalLines / games, games == 0 ? 0 : (double) totalPieces / games);
+    }
+}
@@ -0,0 +1,117 @@
+package com.comp2042.tetris.sim;
+
+/**
+ * Observation, reward and done flag returned by TetrisEnv.reset and TetrisEnv.step.
+ * The environment owns a single instance and overwrites it on every call, so a step allocates nothing; copy
+ * out anything that must outlive the next step.
+ * Bricks are identified by their BrickFactory.BrickType ordinal, with -1 for an empty hold slot.
+ */
+public final class StepResult {
+
+    private final int rows;
+    private final int columns;
+    // Board occupancy, row-major with row 0 at the top: 1 for a filled cell, 0 for an empty one
+    private final byte[] cells;
+    private int piece;
+    private int rotation;
+    private int x;
+    private int y;
+    private int next;
+    private int held;
+    private boolean canHold;
+    private int reward;
+    private boolean done;
+
+    StepResult(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new byte[rows * columns];
+    }
+
+    // Copies the board occupancy from a color matrix
+    void setCells(int[][] matrix) {
+        int index = 0;
+        for (int row = 0; row < rows; row++) {
+            int[] line = matrix[row];
+            for (int column = 0; column < columns; column++) {
+                cells[index++] = (byte) (line[column] != 0 ? 1 : 0);
+            }
+        }
+    }
+
+    void setPiece(int piece, int rotation, int x, int y) {
+        this.piece = piece;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+    }
+
+    void setQueue(int next, int held, boolean canHold) {
+        this.next = next;
+        this.held = held;
+        this.canHold = canHold;
+    }
+
+    void setOutcome(int reward, boolean done) {
+        this.reward = reward;
+        this.done = done;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    // Gets the occupancy array itself (rows * columns entries, row-major); it changes on every step
+    public byte[] getCells() {
+        return cells;
+    }
+
+    // Gets the type of the falling brick
+    public int getPiece() {
+        return piece;
+    }
+
+    // Gets the rotation index of the falling brick
+    public int getRotation() {
+        return rotation;
+    }
+
+    // Gets the column of the falling brick's 4x4 shape
+    public int getX() {
+        return x;
+    }
+
+    // Gets the row of the falling brick's 4x4 shape
+    public int getY() {
+        return y;
+    }
+
+    // Gets the type of the preview brick
+    public int getNext() {
+        return next;
+    }
+
+    // Gets the type of the held brick, or -1 if the slot is empty
+    public int getHeld() {
+        return held;
+    }
+
+    // Checks whether hold may still be used for the falling brick
+    public boolean canHold() {
+        return canHold;
+    }
+
+    // Gets the score gained by the last step (line clear bonus plus drop points), or 0 after a reset
+    public int getReward() {
+        return reward;
+    }
+
+    // Checks whether the episode ended because a new brick could not spawn
+    public boolean isDone() {
+        return done;
+    }
+}
@@ -0,0 +1,117 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.BitboardGameBoard;
+import com.comp2042.tetris.model.Board;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+
+/**
+ * Reinforcement-learning environment over the headless game, in the style of a Gym environment:
+ * reset(seed) starts an episode and step(action) applies one action.
+ * Actions are EventType ordinals (DOWN, LEFT, RIGHT, ROTATE, INSTANT_DROP, HOLD) with the same rules as the
+ * keyboard: a DOWN action is a soft drop and earns soft drop points. Every gravityInterval actions the brick also
+ * falls one row on its own, as the game timer would move it, so an episode cannot stall.
+ * The reward of a step is the score it gained: the ClearRow score bonus of any lock plus drop points, exactly
+ * what GameStats (and so Score) adds. The episode is done when a brick cannot spawn.
+ * The board, generator, engine and result are created once; reset and step allocate nothing, so one thread can
+ * run millions of steps per minute. Not thread-safe; use one environment per thread.
+ */
+public class TetrisEnv {
+
+    private static final EventType[] ACTIONS = EventType.values();
+    public static final int ACTION_COUNT = ACTIONS.length;
+
+    private final RandomBrickGenerator generator;
+    private final GameEngine engine;
+    private final Board board;
+    private final StepResult result;
+    private final int gravityInterval;
+    private int stepsUntilGravity;
+    private boolean started;
+
+    // Creates an environment on the standard 25x10 board with gravity every 4 actions
+    public TetrisEnv() {
+        this(25, 10, 4);
+    }
+
+    /**
+     * Creates an environment.
+     *
+     * @param rows Board rows
+     * @param columns Board columns
+     * @param gravityInterval Actions between automatic one-row drops (0 for no gravity)
+     */
+    public TetrisEnv(int rows, int columns, int gravityInterval) {
+        if (gravityInterval < 0) {
+            throw new IllegalArgumentException("Gravity interval must not be negative: " + gravityInterval);
+        }
+        this.generator = new RandomBrickGenerator(0);
+        this.board = new BitboardGameBoard(rows, columns, generator);
+        this.engine = new GameEngine(board);
+        this.result = new StepResult(rows, columns);
+        this.gravityInterval = gravityInterval;
+    }
+
+    /**
+     * Starts a new episode. The same seed always deals the same bricks, matching a game on a
+     * RandomBrickGenerator created with that seed.
+     *
+     * @param seed Seed of the brick sequence
+     * @return the first observation, with no reward
+     */
+    public StepResult reset(long seed) {
+        generator.reset(seed);
+        engine.newGame();
+        stepsUntilGravity = gravityInterval;
+        started = true;
+        return observe(0);
+    }
+
+    /**
+     * Applies one action, then gravity if it is due.
+     *
+     * @param action An EventType ordinal, from 0 to ACTION_COUNT - 1
+     * @return the observation after the action, the score it gained and whether the episode is over
+     * @throws IllegalArgumentException if the action is out of range
+     * @throws IllegalStateException if no episode is running (before the first reset or after done)
+     */
+    public StepResult step(int action) {
+        if (action < 0 || action >= ACTION_COUNT) {
+            throw new IllegalArgumentException("Action must be between 0 and " + (ACTION_COUNT - 1) + ": " + action);
+        }
+        if (!started || engine.isGameOver()) {
+            throw new IllegalStateException("No episode running; call reset first");
+        }
+        int scoreBefore = engine.getStats().getScore();
+        boolean locked = engine.apply(ACTIONS[action], EventSource.USER);
+        if (gravityInterval > 0 && --stepsUntilGravity == 0) {
+            stepsUntilGravity = gravityInterval;
+            if (!locked && !engine.isGameOver()) {
+                engine.apply(EventType.DOWN, EventSource.THREAD);
+            }
+        }
+        return observe(engine.getStats().getScore() - scoreBefore);
+    }
+
+    // Fills the shared result from the current game state
+    private StepResult observe(int reward) {
+        result.setCells(board.getBoardMatrix());
+        result.setPiece(typeOf(board.getCurrentBrick()), board.getBrickRotation(), board.getBrickX(), board.getBrickY());
+        result.setQueue(typeOf(board.getNextBrick()), typeOf(board.getHeldBrick()), board.canHold());
+        result.setOutcome(reward, engine.isGameOver());
+        return result;
+    }
+
+    // Gets a brick's type ordinal, or -1 for no brick
+    private static int typeOf(Brick brick) {
+        return brick.getPieceTable().getType() == null ? -1 : brick.getPieceTable().getType().ordinal();
+    }
+
+    // Gets the engine being stepped, for inspection (score, lines, board)
+    public GameEngine getEngine() {
+        return engine;
+    }
+}
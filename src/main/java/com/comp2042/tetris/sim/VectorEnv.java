@@ -0,0 +1,522 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.util.MatrixOperations;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Many TetrisEnv games stepped together, stored struct-of-arrays: the row bitmasks of every board sit in one
+ * int array, and the falling piece, hold slot, score and brick bag of every game sit in parallel primitive arrays
+ * indexed by environment. Stepping N games touches a few contiguous arrays instead of N object graphs, and a
+ * step call with one action per game is split into chunks run in parallel on a ForkJoinPool.
+ * Each game follows exactly the rules of a TetrisEnv of the same size and gravity interval (the BitboardGameBoard
+ * bitmask rules, GameEngine scoring, and the RandomBrickGenerator bag stream for its seed), so the same seed and
+ * actions give the same observations and rewards.
+ * Finished games are skipped by step, with reward 0, until they are reset.
+ * Sequential stepping allocates nothing. Not thread-safe; the parallel chunks never share a game.
+ */
+public class VectorEnv {
+
+    private static final EventType[] ACTIONS = EventType.values();
+    public static final int ACTION_COUNT = ACTIONS.length;
+
+    // Board rules, as on BitboardGameBoard
+    private static final int GUARD = 4;
+    private static final int MAX_COLUMNS = Integer.SIZE - 2 * GUARD;
+    private static final int FULL_ROW = -1;
+    private static final int SPAWN_X = 3;
+    private static final int SPAWN_Y = 0;
+
+    private static final int BAG_SIZE = BrickFactory.BrickType.values().length;
+    private static final int QUEUE_SIZE = 2 * BAG_SIZE;
+    private static final PieceTable[] TABLES = buildTables();
+
+    // Below this many games a task steps them itself instead of splitting further
+    private static final int ENVS_PER_TASK = 128;
+
+    private final ForkJoinPool pool;
+    private final int count;
+    private final int rows;
+    private final int columns;
+    private final int emptyRow;
+    private final int gravityInterval;
+
+    // Row bitmasks of every board, game i at rows [i * rows, (i + 1) * rows)
+    private final int[] occupancy;
+    private final byte[] pieces;
+    private final byte[] rotations;
+    private final int[] xs;
+    private final int[] ys;
+    private final byte[] held;
+    private final boolean[] canHold;
+    private final boolean[] done;
+    private final int[] scores;
+    private final int[] lines;
+    private final int[] rewards;
+    private final int[] stepsUntilGravity;
+
+    // Brick bags: stream state, bag order (BAG_SIZE per game) and a ring queue of upcoming types (QUEUE_SIZE per game)
+    // The streams are drawn through RandomBrickGenerator.nextInt, so every game deals the bricks a generator would
+    private final long[] seeds;
+    private final byte[] bags;
+    private final byte[] queues;
+    private final int[] queueHeads;
+    private final int[] queueSizes;
+
+    // Creates count games on the standard 25x10 board with gravity every 4 actions, stepped on the common pool
+    public VectorEnv(int count) {
+        this(ForkJoinPool.commonPool(), count, 25, 10, 4);
+    }
+
+    /**
+     * Creates a batch of games. Every game starts finished and must be reset before it is stepped.
+     *
+     * @param pool The pool to step chunks of games on, or null to step them all on the calling thread
+     * @param count Number of games
+     * @param rows Board rows
+     * @param columns Board columns (at most 24)
+     * @param gravityInterval Actions between automatic one-row drops (0 for no gravity)
+     */
+    public VectorEnv(ForkJoinPool pool, int count, int rows, int columns, int gravityInterval) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Environment count must be positive: " + count);
+        }
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Column count must be between 1 and " + MAX_COLUMNS + ": " + columns);
+        }
+        if (gravityInterval < 0) {
+            throw new IllegalArgumentException("Gravity interval must not be negative: " + gravityInterval);
+        }
+        this.pool = pool;
+        this.count = count;
+        this.rows = rows;
+        this.columns = columns;
+        this.emptyRow = ~(((1 << columns) - 1) << GUARD);
+        this.gravityInterval = gravityInterval;
+
+        occupancy = new int[count * rows];
+        pieces = new byte[count];
+        rotations = new byte[count];
+        xs = new int[count];
+        ys = new int[count];
+        held = new byte[count];
+        canHold = new boolean[count];
+        done = new boolean[count];
+        scores = new int[count];
+        lines = new int[count];
+        rewards = new int[count];
+        stepsUntilGravity = new int[count];
+        seeds = new long[count];
+        bags = new byte[count * BAG_SIZE];
+        queues = new byte[count * QUEUE_SIZE];
+        queueHeads = new int[count];
+        queueSizes = new int[count];
+        Arrays.fill(occupancy, emptyRow);
+        Arrays.fill(done, true);
+    }
+
+    // Builds the rotation tables indexed by brick type ordinal
+    private static PieceTable[] buildTables() {
+        BrickFactory.BrickType[] types = BrickFactory.BrickType.values();
+        PieceTable[] tables = new PieceTable[types.length];
+        for (BrickFactory.BrickType type : types) {
+            tables[type.ordinal()] = PieceTable.forType(type);
+        }
+        return tables;
+    }
+
+    /**
+     * Starts a new episode in one game, dealing the same bricks as a RandomBrickGenerator created with the seed.
+     *
+     * @param env Index of the game
+     * @param seed Seed of the brick sequence
+     */
+    public void reset(int env, long seed) {
+        Arrays.fill(occupancy, env * rows, (env + 1) * rows, emptyRow);
+        seeds[env] = seed;
+        for (int i = 0; i < BAG_SIZE; i++) {
+            bags[env * BAG_SIZE + i] = (byte) i;
+        }
+        queueHeads[env] = 0;
+        queueSizes[env] = 0;
+        refillBag(env);
+        refillBag(env);
+
+        held[env] = -1;
+        scores[env] = 0;
+        lines[env] = 0;
+        rewards[env] = 0;
+        stepsUntilGravity[env] = gravityInterval;
+        done[env] = spawnNext(env);
+    }
+
+    /**
+     * Starts a new episode in every game; game i uses seed firstSeed + i.
+     *
+     * @param firstSeed Seed of game 0
+     */
+    public void resetAll(long firstSeed) {
+        for (int env = 0; env < count; env++) {
+            reset(env, firstSeed + env);
+        }
+    }
+
+    /**
+     * Applies one action to every unfinished game, then gravity where it is due. Afterwards getRewards holds the
+     * score each game gained and isDone tells which games ended.
+     *
+     * @param actions One EventType ordinal per game, from 0 to ACTION_COUNT - 1 (ignored for finished games)
+     * @throws IllegalArgumentException if the array length differs from the game count or an action is out of range
+     */
+    public void step(int[] actions) {
+        if (actions.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " actions: " + actions.length);
+        }
+        for (int action : actions) {
+            if (action < 0 || action >= ACTION_COUNT) {
+                throw new IllegalArgumentException("Action must be between 0 and " + (ACTION_COUNT - 1) + ": " + action);
+            }
+        }
+        if (pool == null || count <= ENVS_PER_TASK) {
+            stepRange(actions, 0, count);
+        } else {
+            pool.invoke(new StepTask(actions, 0, count));
+        }
+    }
+
+    // Steps the games in [from, to)
+    private void stepRange(int[] actions, int from, int to) {
+        for (int env = from; env < to; env++) {
+            if (done[env]) {
+                rewards[env] = 0;
+            } else {
+                stepEnv(env, ACTIONS[actions[env]]);
+            }
+        }
+    }
+
+    // Applies one action and any due gravity to a game, as TetrisEnv.step does
+    private void stepEnv(int env, EventType action) {
+        int scoreBefore = scores[env];
+        boolean locked = switch (action) {
+            case DOWN -> !moveDown(env, true);
+            case LEFT -> {
+                tryMove(env, xs[env] - 1, ys[env]);
+                yield false;
+            }
+            case RIGHT -> {
+                tryMove(env, xs[env] + 1, ys[env]);
+                yield false;
+            }
+            case ROTATE -> {
+                rotate(env);
+                yield false;
+            }
+            case INSTANT_DROP -> {
+                hardDrop(env);
+                yield true;
+            }
+            case HOLD -> {
+                hold(env);
+                yield false;
+            }
+        };
+        if (gravityInterval > 0 && --stepsUntilGravity[env] == 0) {
+            stepsUntilGravity[env] = gravityInterval;
+            if (!locked && !done[env]) {
+                moveDown(env, false);
+            }
+        }
+        rewards[env] = scores[env] - scoreBefore;
+    }
+
+    // Moves the brick down one row, locking it if it cannot move; returns whether it moved
+    private boolean moveDown(int env, boolean softDrop) {
+        if (tryMove(env, xs[env], ys[env] + 1)) {
+            if (softDrop) {
+                scores[env] += GameEngine.SOFT_DROP_POINTS;
+            }
+            return true;
+        }
+        lock(env);
+        return false;
+    }
+
+    // Drops the brick to its landing row, locks it and awards the hard drop points
+    private void hardDrop(int env) {
+        PieceTable.Rotation rotation = rotationOf(env);
+        int y = ys[env];
+        if (!collides(env, rotation, xs[env], y)) {
+            while (!collides(env, rotation, xs[env], y + 1)) {
+                y++;
+            }
+        }
+        int distance = y - ys[env];
+        ys[env] = y;
+        lock(env);
+        scores[env] += distance * GameEngine.HARD_DROP_POINTS;
+    }
+
+    // Moves the brick to the target position if it does not collide
+    private boolean tryMove(int env, int x, int y) {
+        if (collides(env, rotationOf(env), x, y)) {
+            return false;
+        }
+        xs[env] = x;
+        ys[env] = y;
+        return true;
+    }
+
+    // Rotates the brick, trying the wall kicks of its current rotation when the plain rotation is blocked
+    private void rotate(int env) {
+        PieceTable table = TABLES[pieces[env]];
+        int next = (rotations[env] + 1) % table.getRotationCount();
+        PieceTable.Rotation nextMasks = table.getRotation(next);
+        if (!collides(env, nextMasks, xs[env], ys[env])) {
+            rotations[env] = (byte) next;
+            return;
+        }
+        PieceTable.Rotation current = rotationOf(env);
+        for (int kick = 0; kick < current.getKickCount(); kick++) {
+            int x = xs[env] + current.getKickX(kick);
+            int y = ys[env] + current.getKickY(kick);
+            if (!collides(env, nextMasks, x, y)) {
+                rotations[env] = (byte) next;
+                xs[env] = x;
+                ys[env] = y;
+                return;
+            }
+        }
+    }
+
+    // Swaps the falling brick with the held one (or the next brick when the slot is empty), once per spawn
+    private void hold(int env) {
+        if (!canHold[env]) {
+            return;
+        }
+        int previous = held[env];
+        held[env] = pieces[env];
+        canHold[env] = false;
+        spawn(env, previous < 0 ? nextBrick(env) : previous);
+    }
+
+    // Checks whether a rotation at (x, y) overlaps the walls, floor or settled blocks of a game
+    private boolean collides(int env, PieceTable.Rotation rotation, int x, int y) {
+        int shift = x + GUARD;
+        int base = env * rows;
+        for (int i = rotation.getMinRow(); i <= rotation.getMaxRow(); i++) {
+            int mask = rotation.getRowMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= rows || shift < 0 || shift > Integer.SIZE - GUARD) {
+                return true;
+            }
+            if ((occupancy[base + row] & (mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Merges the brick, clears and scores full rows, and spawns the next brick
+    private void lock(int env) {
+        PieceTable.Rotation rotation = rotationOf(env);
+        int shift = xs[env] + GUARD;
+        int base = env * rows;
+        for (int i = rotation.getMinRow(); i <= rotation.getMaxRow(); i++) {
+            int row = ys[env] + i;
+            if (row >= 0 && row < rows) {
+                // Out-of-bounds cells are dropped, matching MatrixOperations.merge
+                occupancy[base + row] |= (rotation.getRowMask(i) << shift) & ~emptyRow;
+            }
+        }
+        int cleared = clearRows(base);
+        if (cleared > 0) {
+            scores[env] += MatrixOperations.getScoreBonus(cleared);
+            lines[env] += cleared;
+        }
+        done[env] = spawnNext(env);
+    }
+
+    // Removes full rows of the board starting at base by compacting the others toward the bottom
+    private int clearRows(int base) {
+        int write = base + rows - 1;
+        for (int read = write; read >= base; read--) {
+            if (occupancy[read] != FULL_ROW) {
+                occupancy[write--] = occupancy[read];
+            }
+        }
+        int cleared = write - base + 1;
+        for (; write >= base; write--) {
+            occupancy[write] = emptyRow;
+        }
+        return cleared;
+    }
+
+    // Spawns the next brick from the bag; returns true if it cannot be placed (game over)
+    private boolean spawnNext(int env) {
+        spawn(env, nextBrick(env));
+        canHold[env] = true;
+        return collides(env, rotationOf(env), xs[env], ys[env]);
+    }
+
+    // Places a brick at the spawn point with its first rotation
+    private void spawn(int env, int type) {
+        pieces[env] = (byte) type;
+        rotations[env] = 0;
+        xs[env] = SPAWN_X;
+        ys[env] = SPAWN_Y;
+    }
+
+    private PieceTable.Rotation rotationOf(int env) {
+        return TABLES[pieces[env]].getRotation(rotations[env]);
+    }
+
+    // Takes the brick type at the head of a game's queue, refilling it when less than a bag remains
+    private int nextBrick(int env) {
+        int head = queueHeads[env];
+        int type = queues[env * QUEUE_SIZE + head];
+        queueHeads[env] = (head + 1) % QUEUE_SIZE;
+        if (--queueSizes[env] < BAG_SIZE) {
+            refillBag(env);
+        }
+        return type;
+    }
+
+    // Shuffles a game's bag in place (Fisher-Yates) and adds it to its queue
+    private void refillBag(int env) {
+        int bag = env * BAG_SIZE;
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            int j = RandomBrickGenerator.nextInt(seeds, env, RandomBrickGenerator.GOLDEN_GAMMA, i + 1);
+            byte swap = bags[bag + i];
+            bags[bag + i] = bags[bag + j];
+            bags[bag + j] = swap;
+        }
+        int queue = env * QUEUE_SIZE;
+        for (int i = 0; i < BAG_SIZE; i++) {
+            queues[queue + (queueHeads[env] + queueSizes[env]++) % QUEUE_SIZE] = bags[bag + i];
+        }
+    }
+
+    /**
+     * Writes a game's board occupancy, row-major with row 0 at the top: 1 for a filled cell, 0 for an empty one.
+     * The falling brick is not included, as in StepResult.
+     *
+     * @param env Index of the game
+     * @param cells Destination, with at least rows * columns bytes from offset
+     * @param offset Where the board starts
+     */
+    public void writeCells(int env, byte[] cells, int offset) {
+        int base = env * rows;
+        for (int row = 0; row < rows; row++) {
+            int mask = occupancy[base + row] >>> GUARD;
+            for (int column = 0; column < columns; column++) {
+                cells[offset++] = (byte) ((mask >>> column) & 1);
+            }
+        }
+    }
+
+    // Gets a row bitmask of a game, with bit c set when column c is filled
+    public int getRowMask(int env, int row) {
+        return (occupancy[env * rows + row] & ~emptyRow) >>> GUARD;
+    }
+
+    // Gets the score each game gained in the last step; shared and overwritten by every step
+    public int[] getRewards() {
+        return rewards;
+    }
+
+    public int getReward(int env) {
+        return rewards[env];
+    }
+
+    // Checks whether a game has ended (or has not been reset yet)
+    public boolean isDone(int env) {
+        return done[env];
+    }
+
+    public int getScore(int env) {
+        return scores[env];
+    }
+
+    public int getLinesCleared(int env) {
+        return lines[env];
+    }
+
+    // Gets the type ordinal of a game's falling brick
+    public int getPiece(int env) {
+        return pieces[env];
+    }
+
+    public int getRotation(int env) {
+        return rotations[env];
+    }
+
+    public int getX(int env) {
+        return xs[env];
+    }
+
+    public int getY(int env) {
+        return ys[env];
+    }
+
+    // Gets the type ordinal of a game's preview brick
+    public int getNext(int env) {
+        return queues[env * QUEUE_SIZE + queueHeads[env]];
+    }
+
+    // Gets the type ordinal of a game's held brick, or -1 when the slot is empty
+    public int getHeld(int env) {
+        return held[env];
+    }
+
+    public boolean canHold(int env) {
+        return canHold[env];
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    // Splits a range of games in halves until it is small enough to step directly
+    // Fork/join tasks are serializable by inheritance but never serialized
+    @SuppressWarnings("serial")
+    private final class StepTask extends RecursiveAction {
+        private final int[] actions;
+        private final int from;
+        private final int to;
+
+        StepTask(int[] actions, int from, int to) {
+            this.actions = actions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ENVS_PER_TASK) {
+                stepRange(actions, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new StepTask(actions, from, middle), new StepTask(actions, middle, to));
+        }
+    }
+}
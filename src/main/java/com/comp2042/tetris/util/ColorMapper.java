@@ -20,6 +20,10 @@ public class ColorMapper {
     private static final int GHOST_STROKE_B = 180;
     private static final double GHOST_STROKE_OPACITY = 0.6;
     private static final double GHOST_STROKE_WIDTH = 1.5;
+    // Colors are immutable, so the ghost colors are built once instead of per cell on every move
+    private static final Color GHOST_COLOR = Color.rgb(255, 255, 255, GHOST_OPACITY);
+    private static final Color GHOST_STROKE_COLOR =
+            Color.rgb(GHOST_STROKE_R, GHOST_STROKE_G, GHOST_STROKE_B, GHOST_STROKE_OPACITY);
 
     // Gets the fill color for a brick type
     public static Paint getBrickColor(int brickType) {
@@ -41,12 +45,12 @@ public class ColorMapper {
         if (brickType == 0) {
             return TRANSPARENT;
         }
-        return Color.rgb(255, 255, 255, GHOST_OPACITY);
+        return GHOST_COLOR;
     }
 
     // Gets the ghost stroke color
     public static Color getGhostStrokeColor() {
-        return Color.rgb(GHOST_STROKE_R, GHOST_STROKE_G, GHOST_STROKE_B, GHOST_STROKE_OPACITY);
+        return GHOST_STROKE_COLOR;
     }
 
     // Gets the ghost stroke width
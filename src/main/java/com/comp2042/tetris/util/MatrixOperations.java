@@ -1,6 +1,7 @@
 package com.comp2042.tetris.util;
 
 import com.comp2042.tetris.dto.ClearRow;
+import com.comp2042.tetris.model.piece.PieceTable;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -36,6 +37,27 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Check if a brick rotation intersects with the game matrix or is out of bounds.
+     * Reads the precomputed cell offsets of the rotation, so only its filled cells are visited.
+     *
+     * @param matrix the game board matrix
+     * @param rotation the shared rotation data of the brick
+     * @param x the x-coordinate (column) position to check
+     * @param y the y-coordinate (row) position to check
+     * @return true if there is an intersection or out of bounds, false otherwise
+     */
+    public static boolean intersect(final int[][] matrix, final PieceTable.Rotation rotation, int x, int y) {
+        for (int cell = 0; cell < rotation.getCellCount(); cell++) {
+            int targetX = x + rotation.getCellColumn(cell);
+            int targetY = y + rotation.getCellRow(cell);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check if coordinates are out of bounds for the given matrix.
      *
@@ -134,18 +156,24 @@ public class MatrixOperations {
             }
         }
 
-        //new scoring logic
         int linesCleared = clearedRows.size();
-        int scoreBonus = 0;
+        return new ClearRow(linesCleared, tmp, getScoreBonus(linesCleared));
+    }
 
-        switch (linesCleared) {
-            case 1 -> scoreBonus = 100; //single
-            case 2 -> scoreBonus = 300; //double
-            case 3 -> scoreBonus = 500; //triple
-            case 4 -> scoreBonus = 800; //tetris
-            default -> scoreBonus = 0; //no lines cleared
-        }
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+    /**
+     * Get the score bonus awarded for clearing a number of lines at once.
+     *
+     * @param linesCleared the number of rows removed by a single lock
+     * @return the score bonus (0 when no lines were cleared)
+     */
+    public static int getScoreBonus(int linesCleared) {
+        return switch (linesCleared) {
+            case 1 -> 100; //single
+            case 2 -> 300; //double
+            case 3 -> 500; //triple
+            case 4 -> 800; //tetris
+            default -> 0; //no lines cleared
+        };
     }
 
     /**
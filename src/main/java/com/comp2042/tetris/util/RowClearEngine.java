@@ -0,0 +1,138 @@
+package com.comp2042.tetris.util;
+
+import com.comp2042.tetris.model.piece.PieceTable;
+
+import java.util.Arrays;
+
+/**
+ * In-place row clearing engine for a fixed-size game matrix.
+ * Keeps a fill counter per row that is updated as bricks are merged, so the common case where no row is complete
+ * costs a single comparison. When rows do clear, the surviving row arrays are moved down by reference and the
+ * cleared arrays are wiped and recycled at the top, so nothing is allocated.
+ * The counters only track cells written through merge, so the matrix must not be modified behind the engine's back
+ * (call recount after doing so).
+ */
+public final class RowClearEngine {
+
+    private final int columns;
+    private final int[] fillCounts;
+    private final int[] clearedRows;
+    private int fullRowCount;
+    private int clearedCount;
+
+    /**
+     * Creates an engine for a matrix of the given size.
+     *
+     * @param rows the number of rows in the matrix
+     * @param columns the number of columns in the matrix
+     */
+    public RowClearEngine(int rows, int columns) {
+        this.columns = columns;
+        this.fillCounts = new int[rows];
+        this.clearedRows = new int[rows];
+    }
+
+    /**
+     * Merge a brick rotation into the matrix in place, updating the row fill counters.
+     * Cells outside the matrix are ignored, consistent with MatrixOperations.merge.
+     *
+     * @param matrix the game board matrix to write into
+     * @param rotation the shared rotation data of the brick
+     * @param x the x-coordinate (column) position for merging
+     * @param y the y-coordinate (row) position for merging
+     */
+    public void merge(int[][] matrix, PieceTable.Rotation rotation, int x, int y) {
+        int color = rotation.getColor();
+        for (int cell = 0; cell < rotation.getCellCount(); cell++) {
+            int targetX = x + rotation.getCellColumn(cell);
+            int targetY = y + rotation.getCellRow(cell);
+            if (targetY < 0 || targetY >= matrix.length || targetX < 0 || targetX >= matrix[targetY].length) {
+                continue;
+            }
+            if (matrix[targetY][targetX] == 0 && ++fillCounts[targetY] == columns) {
+                fullRowCount++;
+            }
+            matrix[targetY][targetX] = color;
+        }
+    }
+
+    /**
+     * Remove every complete row, shifting the rows above it down in place.
+     * Returns immediately when the fill counters show no complete row.
+     *
+     * @param matrix the game board matrix to compact
+     * @return the number of rows removed
+     */
+    public int clearFullRows(int[][] matrix) {
+        clearedCount = fullRowCount;
+        if (fullRowCount == 0) {
+            return 0;
+        }
+
+        // Scan bottom-up, swapping surviving rows into place; cleared arrays bubble up to the top
+        int next = fullRowCount;
+        int write = matrix.length - 1;
+        for (int read = matrix.length - 1; read >= 0; read--) {
+            if (fillCounts[read] == columns) {
+                clearedRows[--next] = read;
+                continue;
+            }
+            if (write != read) {
+                int[] survivor = matrix[read];
+                matrix[read] = matrix[write];
+                matrix[write] = survivor;
+                fillCounts[write] = fillCounts[read];
+            }
+            write--;
+        }
+        for (int row = write; row >= 0; row--) {
+            Arrays.fill(matrix[row], 0);
+            fillCounts[row] = 0;
+        }
+        fullRowCount = 0;
+        return clearedCount;
+    }
+
+    /**
+     * Get the indices of the rows removed by the last clearFullRows call, in ascending order.
+     * The array is reused between calls; only the first getClearedCount entries are valid.
+     *
+     * @return the shared buffer of cleared row indices
+     */
+    public int[] getClearedRows() {
+        return clearedRows;
+    }
+
+    // Gets the number of rows removed by the last clearFullRows call
+    public int getClearedCount() {
+        return clearedCount;
+    }
+
+    /**
+     * Rebuild the fill counters from the matrix contents.
+     *
+     * @param matrix the game board matrix to count
+     */
+    public void recount(int[][] matrix) {
+        fullRowCount = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            int count = 0;
+            for (int cell : matrix[i]) {
+                if (cell != 0) {
+                    count++;
+                }
+            }
+            fillCounts[i] = count;
+            if (count == columns) {
+                fullRowCount++;
+            }
+        }
+    }
+
+    // Resets all counters for an empty matrix
+    public void reset() {
+        Arrays.fill(fillCounts, 0);
+        fullRowCount = 0;
+        clearedCount = 0;
+    }
+}
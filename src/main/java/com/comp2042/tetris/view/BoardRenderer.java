@@ -6,13 +6,16 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
 // Handles rendering of the tetris game board
+// Remembers the color code drawn in every cell so refreshes only touch the nodes whose color actually changed
 public class BoardRenderer {
     private static final int BRICK_SIZE = 20;
     private static final int ARC_SIZE = 9;
     private static final int SKIP_TOP_ROWS = 2;
+    private static final long ALL_ROWS = -1L;
 
     private final GridPane gamePanel;
     private Rectangle[][] displayMatrix;
+    private int[][] renderedColors;
 
     // Constructor: initializes with the game panel
     public BoardRenderer(GridPane gamePanel) {
@@ -24,28 +27,35 @@ public class BoardRenderer {
     // Skips the top 2 rows which are used for piece spawning
     public void initBoard(int[][] boardMatrix) {
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        renderedColors = new int[boardMatrix.length][boardMatrix[0].length];
         for (int i = SKIP_TOP_ROWS; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 rectangle.setFill(Color.TRANSPARENT);
+                rectangle.setArcHeight(ARC_SIZE);
+                rectangle.setArcWidth(ARC_SIZE);
                 displayMatrix[i][j] = rectangle;
                 gamePanel.add(rectangle, j, i - SKIP_TOP_ROWS);
             }
         }
     }
 
-    // Set appearance of rectangle
-    private void setRectangleAppearance(int colorCode, Rectangle rectangle) {
-        rectangle.setFill(ColorMapper.getBrickColor(colorCode));
-        rectangle.setArcHeight(ARC_SIZE);
-        rectangle.setArcWidth(ARC_SIZE);
-    }
-
     // Refresh game board display
     public void refreshBoard(int[][] board) {
+        refreshRows(board, ALL_ROWS);
+    }
+
+    // Refresh only the rows flagged in the bitmask (bit i = row i; rows past 63 are always checked)
+    public void refreshRows(int[][] board, long dirtyRows) {
         for (int i = SKIP_TOP_ROWS; i < board.length; i++) {
+            if (i < Long.SIZE && (dirtyRows & (1L << i)) == 0) {
+                continue;
+            }
             for (int j = 0; j < board[i].length; j++) {
-                setRectangleAppearance(board[i][j], displayMatrix[i][j]);
+                if (renderedColors[i][j] != board[i][j]) {
+                    renderedColors[i][j] = board[i][j];
+                    displayMatrix[i][j].setFill(ColorMapper.getBrickColor(board[i][j]));
+                }
             }
         }
     }
@@ -1,6 +1,7 @@
 package com.comp2042.tetris.view;
 
 import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.model.piece.PieceTable;
 import com.comp2042.tetris.util.ColorMapper;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
@@ -8,6 +9,7 @@ import javafx.scene.shape.Rectangle;
 
 // Handles rendering of tetris pieces on the game board
 // Manages the visual display of the current brick, ghost brick, hold brick, and next brick preview
+// Cells are read from the bricks' shared PieceTable rotations, on a 4x4 grid of rectangles per brick
 public class BrickRenderer {
     private static final int BRICK_SIZE = 20;
     private static final int BRICK_PANEL_Y_OFFSET_INIT = -42;
@@ -16,6 +18,7 @@ public class BrickRenderer {
     private static final int GHOST_PANEL_Y_OFFSET = -48;
 
     private static final int ARC_SIZE = 9;
+    private static final int SHAPE_SIZE = 4;
 
     private final GridPane gamePanel;
     private final GridPane brickPanel;
@@ -26,6 +29,8 @@ public class BrickRenderer {
     private Rectangle[][] rectangles;
     private Rectangle[][] holdRectangles;
     private Rectangle[][] ghostRectangles;
+    private Rectangle[][] nextRectangles;
+    private int[][] renderedNext;
 
     // Set appearance of rectangle based on brick color type
     private void setRectangleAppearance(int colorCode, Rectangle rectangle) {
@@ -34,6 +39,11 @@ public class BrickRenderer {
         rectangle.setArcWidth(ARC_SIZE);
     }
 
+    // Gets the color code of a shape cell, 0 when the cell is empty
+    private static int colorAt(PieceTable.Rotation rotation, int row, int column) {
+        return rotation.isFilled(row, column) ? rotation.getColor() : 0;
+    }
+
     // Constructor: initializes panels for rendering bricks
     public BrickRenderer(GridPane gamePanel, GridPane brickPanel,
                          GridPane holdPanel, GridPane nextBrickPanel) {
@@ -45,11 +55,12 @@ public class BrickRenderer {
 
     // Initialize current brick display
     public void initBrick(GameStateView brick) {
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        PieceTable.Rotation rotation = brick.getBrickRotation();
+        rectangles = new Rectangle[SHAPE_SIZE][SHAPE_SIZE];
+        for (int i = 0; i < SHAPE_SIZE; i++) {
+            for (int j = 0; j < SHAPE_SIZE; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(ColorMapper.getBrickColor(brick.getBrickData()[i][j]));
+                rectangle.setFill(ColorMapper.getBrickColor(colorAt(rotation, i, j)));
                 rectangles[i][j] = rectangle;
                 brickPanel.add(rectangle, j, i);
             }
@@ -63,18 +74,19 @@ public class BrickRenderer {
         brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getXPosition() * brickPanel.getVgap() + brick.getXPosition() * BRICK_SIZE);
         brickPanel.setLayoutY(BRICK_PANEL_Y_OFFSET_REFRESH + gamePanel.getLayoutY() + brick.getYPosition() * brickPanel.getHgap() + brick.getYPosition() * BRICK_SIZE);
 
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                setRectangleAppearance(brick.getBrickData()[i][j], rectangles[i][j]);
+        PieceTable.Rotation rotation = brick.getBrickRotation();
+        for (int i = 0; i < SHAPE_SIZE; i++) {
+            for (int j = 0; j < SHAPE_SIZE; j++) {
+                setRectangleAppearance(colorAt(rotation, i, j), rectangles[i][j]);
             }
         }
     }
 
     // Initialize ghost piece display
     public void initGhostPanel(GameStateView brick) {
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        ghostRectangles = new Rectangle[SHAPE_SIZE][SHAPE_SIZE];
+        for (int i = 0; i < SHAPE_SIZE; i++) {
+            for (int j = 0; j < SHAPE_SIZE; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 rectangle.setFill(javafx.scene.paint.Color.TRANSPARENT);
                 ghostRectangles[i][j] = rectangle;
@@ -102,20 +114,19 @@ public class BrickRenderer {
         ghostPanel.setLayoutY(GHOST_PANEL_Y_OFFSET + gamePanel.getLayoutY() +
                 brick.getGhostYPosition() * ghostPanel.getHgap() + brick.getGhostYPosition() * BRICK_SIZE);
 
-        int[][] brickData = brick.getBrickData();
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                if (i < ghostRectangles.length && j < ghostRectangles[i].length) {
-                    ghostRectangles[i][j].setFill(ColorMapper.getGhostColor(brickData[i][j]));
-                    ghostRectangles[i][j].setArcHeight(ARC_SIZE);
-                    ghostRectangles[i][j].setArcWidth(ARC_SIZE);
-
-                    if (brickData[i][j] != 0) {
-                        ghostRectangles[i][j].setStroke(ColorMapper.getGhostStrokeColor());
-                        ghostRectangles[i][j].setStrokeWidth(ColorMapper.getGhostStrokeWidth());
-                    } else {
-                        ghostRectangles[i][j].setStroke(null);
-                    }
+        PieceTable.Rotation rotation = brick.getBrickRotation();
+        for (int i = 0; i < SHAPE_SIZE; i++) {
+            for (int j = 0; j < SHAPE_SIZE; j++) {
+                int colorCode = colorAt(rotation, i, j);
+                ghostRectangles[i][j].setFill(ColorMapper.getGhostColor(colorCode));
+                ghostRectangles[i][j].setArcHeight(ARC_SIZE);
+                ghostRectangles[i][j].setArcWidth(ARC_SIZE);
+
+                if (colorCode != 0) {
+                    ghostRectangles[i][j].setStroke(ColorMapper.getGhostStrokeColor());
+                    ghostRectangles[i][j].setStrokeWidth(ColorMapper.getGhostStrokeWidth());
+                } else {
+                    ghostRectangles[i][j].setStroke(null);
                 }
             }
         }
@@ -124,9 +135,9 @@ public class BrickRenderer {
     // Initialize hold panel display
     // Creates a 4x4 grid for displaying the held brick
     public void initHoldPanel() {
-        holdRectangles = new Rectangle[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
+        holdRectangles = new Rectangle[SHAPE_SIZE][SHAPE_SIZE];
+        for (int i = 0; i < SHAPE_SIZE; i++) {
+            for (int j = 0; j < SHAPE_SIZE; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 rectangle.setFill(javafx.scene.paint.Color.TRANSPARENT);
                 holdRectangles[i][j] = rectangle;
@@ -136,24 +147,43 @@ public class BrickRenderer {
     }
 
     // Update hold panel with held brick
-    public void refreshHoldPanel(int[][] heldBrick) {
-        for (int i = 0; i < heldBrick.length; i++) {
-            for (int j = 0; j < heldBrick[i].length; j++) {
-                setRectangleAppearance(heldBrick[i][j], holdRectangles[i][j]);
+    public void refreshHoldPanel(PieceTable.Rotation heldBrick) {
+        for (int i = 0; i < SHAPE_SIZE; i++) {
+            for (int j = 0; j < SHAPE_SIZE; j++) {
+                setRectangleAppearance(colorAt(heldBrick, i, j), holdRectangles[i][j]);
             }
         }
     }
 
     // Update next brick preview display
-    public void updateNextBrick(int[][] nextBrickData) {
-        nextBrickPanel.getChildren().clear();
+    // Keeps one pool of rectangles and only refills the cells whose color changed, so calls that show the same
+    // next brick again touch no nodes
+    public void updateNextBrick(PieceTable.Rotation nextBrick) {
+        if (nextRectangles == null) {
+            initNextBrickPanel(SHAPE_SIZE, SHAPE_SIZE);
+        }
+        for (int i = 0; i < SHAPE_SIZE; i++) {
+            for (int j = 0; j < SHAPE_SIZE; j++) {
+                int colorCode = colorAt(nextBrick, i, j);
+                if (renderedNext[i][j] != colorCode) {
+                    renderedNext[i][j] = colorCode;
+                    nextRectangles[i][j].setFill(ColorMapper.getBrickColor(colorCode));
+                }
+            }
+        }
+    }
 
-        for (int i = 0; i < nextBrickData.length; i++) {
-            for (int j = 0; j < nextBrickData[i].length; j++) {
+    // Creates the rectangle pool of the next brick preview, all cells empty
+    private void initNextBrickPanel(int rows, int columns) {
+        nextRectangles = new Rectangle[rows][columns];
+        renderedNext = new int[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(ColorMapper.getBrickColor(nextBrickData[i][j]));
+                rectangle.setFill(javafx.scene.paint.Color.TRANSPARENT);
                 rectangle.setArcHeight(ARC_SIZE);
                 rectangle.setArcWidth(ARC_SIZE);
+                nextRectangles[i][j] = rectangle;
                 nextBrickPanel.add(rectangle, j, i);
             }
         }
@@ -0,0 +1,135 @@
+package com.comp2042.tetris.view;
+
+import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.model.piece.PieceTable;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+
+// Renders the game onto canvases instead of one Rectangle node per cell
+// The board background and the falling brick are two stacked canvases, so moving the brick never repaints the board,
+// and the hold and next previews are one small canvas each: five nodes in all instead of a few hundred
+// Cells are blitted from the TileAtlas on the same 20px grid with 1px gaps as the GridPane layout
+public class CanvasRenderer implements GameRenderer {
+    private static final int BRICK_SIZE = TileAtlas.TILE_SIZE;
+    private static final int CELL_GAP = 1;
+    private static final int CELL_PITCH = BRICK_SIZE + CELL_GAP;
+    private static final int SKIP_TOP_ROWS = 2;
+    private static final int PREVIEW_CELLS = 4;
+    private static final long ALL_ROWS = -1L;
+
+    private final GridPane gamePanel;
+    private final GridPane holdPanel;
+    private final GridPane nextBrickPanel;
+    private Canvas boardCanvas;
+    private Canvas brickCanvas;
+    private Canvas holdCanvas;
+    private Canvas nextCanvas;
+    private TileAtlas atlas;
+    private int[][] renderedColors;
+    // Rotation last drawn in the next brick preview, so an unchanged preview is not redrawn
+    private PieceTable.Rotation renderedNext;
+
+    // Constructor: initializes with the layout's board and preview panels
+    public CanvasRenderer(GridPane gamePanel, GridPane holdPanel, GridPane nextBrickPanel) {
+        this.gamePanel = gamePanel;
+        this.holdPanel = holdPanel;
+        this.nextBrickPanel = nextBrickPanel;
+    }
+
+    // Creates the canvases, then draws the first frame
+    @Override
+    public void init(int[][] boardMatrix, GameStateView brick) {
+        atlas = TileAtlas.getInstance();
+        int rows = boardMatrix.length;
+        int columns = boardMatrix[0].length;
+        renderedColors = new int[rows][columns];
+        double width = columns * CELL_PITCH - CELL_GAP;
+        double height = (rows - SKIP_TOP_ROWS) * CELL_PITCH - CELL_GAP;
+        boardCanvas = new Canvas(width, height);
+        brickCanvas = new Canvas(width, height);
+        gamePanel.add(new StackPane(boardCanvas, brickCanvas), 0, 0);
+
+        double previewSize = PREVIEW_CELLS * CELL_PITCH - CELL_GAP;
+        holdCanvas = new Canvas(previewSize, previewSize);
+        holdPanel.add(holdCanvas, 0, 0);
+        nextCanvas = new Canvas(previewSize, previewSize);
+        nextBrickPanel.add(nextCanvas, 0, 0);
+
+        refreshRows(boardMatrix, ALL_ROWS);
+        refreshBrick(brick);
+        refreshNext(brick.getNextBrickRotation());
+    }
+
+    // Repaint only the cells of the flagged rows whose color changed
+    @Override
+    public void refreshRows(int[][] board, long dirtyRows) {
+        GraphicsContext graphics = boardCanvas.getGraphicsContext2D();
+        for (int i = SKIP_TOP_ROWS; i < board.length; i++) {
+            if (i < Long.SIZE && (dirtyRows & (1L << i)) == 0) {
+                continue;
+            }
+            double y = (i - SKIP_TOP_ROWS) * CELL_PITCH;
+            for (int j = 0; j < board[i].length; j++) {
+                int color = board[i][j];
+                if (renderedColors[i][j] == color) {
+                    continue;
+                }
+                renderedColors[i][j] = color;
+                double x = j * CELL_PITCH;
+                graphics.clearRect(x, y, BRICK_SIZE, BRICK_SIZE);
+                if (color != 0) {
+                    drawTile(graphics, atlas.getTile(color), x, y);
+                }
+            }
+        }
+    }
+
+    // Redraw the ghost, then the falling brick over it
+    @Override
+    public void refreshBrick(GameStateView brick) {
+        GraphicsContext graphics = brickCanvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, brickCanvas.getWidth(), brickCanvas.getHeight());
+        PieceTable.Rotation shape = brick.getBrickRotation();
+        drawShape(graphics, shape, brick.getGhostXPosition(), brick.getGhostYPosition() - SKIP_TOP_ROWS, true);
+        drawShape(graphics, shape, brick.getXPosition(), brick.getYPosition() - SKIP_TOP_ROWS, false);
+    }
+
+    @Override
+    public void refreshHold(PieceTable.Rotation heldBrick) {
+        drawPreview(holdCanvas, heldBrick);
+    }
+
+    // Redraw the next brick preview only when the upcoming brick changed; rotations are shared, so identity is enough
+    @Override
+    public void refreshNext(PieceTable.Rotation nextBrick) {
+        if (renderedNext == nextBrick) {
+            return;
+        }
+        renderedNext = nextBrick;
+        drawPreview(nextCanvas, nextBrick);
+    }
+
+    // Clears a preview canvas and draws a brick shape in its top-left corner
+    private void drawPreview(Canvas canvas, PieceTable.Rotation shape) {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawShape(graphics, shape, 0, 0, false);
+    }
+
+    // Draws the filled cells of a shape with its top-left corner at a cell position; the canvas clips the rest
+    private void drawShape(GraphicsContext graphics, PieceTable.Rotation shape, int column, int row, boolean ghost) {
+        Image tile = ghost ? atlas.getGhostTile() : atlas.getTile(shape.getColor());
+        for (int cell = 0; cell < shape.getCellCount(); cell++) {
+            drawTile(graphics, tile, (column + shape.getCellColumn(cell)) * CELL_PITCH,
+                    (row + shape.getCellRow(cell)) * CELL_PITCH);
+        }
+    }
+
+    // Draws a tile into one cell; tiles drawn at a higher render scale are scaled down to the cell size
+    private static void drawTile(GraphicsContext graphics, Image tile, double x, double y) {
+        graphics.drawImage(tile, x, y, BRICK_SIZE, BRICK_SIZE);
+    }
+}
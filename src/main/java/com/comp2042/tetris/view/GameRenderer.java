@@ -0,0 +1,34 @@
+package com.comp2042.tetris.view;
+
+import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.model.piece.PieceTable;
+
+/**
+ * Draws the game for GameViewController: the board background, the falling brick with its ghost, and the hold
+ * and next brick previews.
+ * NodeRenderer keeps one Rectangle node per cell; CanvasRenderer draws everything onto a few canvases.
+ * Bricks are read from the shared PieceTable rotations carried by GameStateView, so no shape matrices are copied.
+ * All methods run on the JavaFX application thread.
+ */
+public interface GameRenderer {
+
+    // Builds the display for a board and its first brick
+    void init(int[][] boardMatrix, GameStateView brick);
+
+    // Redraws the given rows of the board (bit i = row i; rows past 63 are always checked)
+    void refreshRows(int[][] board, long dirtyRows);
+
+    // Redraws the whole board
+    default void refreshBoard(int[][] board) {
+        refreshRows(board, -1L);
+    }
+
+    // Moves the falling brick and its ghost to the positions in the view
+    void refreshBrick(GameStateView brick);
+
+    // Shows the held brick
+    void refreshHold(PieceTable.Rotation heldBrick);
+
+    // Shows the next brick; cheap when it has not changed since the last call
+    void refreshNext(PieceTable.Rotation nextBrick);
+}
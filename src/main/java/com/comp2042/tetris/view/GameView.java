@@ -0,0 +1,32 @@
+package com.comp2042.tetris.view;
+
+import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.input.InputEventListener;
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * The display side of a game, as seen by GameController.
+ * GameViewController is the JavaFX implementation; other front ends (or test doubles) can implement it directly.
+ */
+public interface GameView {
+
+    // Initialize the game view with the board and initial brick
+    void initGameView(int[][] boardMatrix, GameStateView brick);
+
+    // Set the listener that receives input events from this view
+    void setEventListener(InputEventListener eventListener);
+
+    // Bind the score, high score, level, lines cleared and lines to next level displays
+    void bindScore(IntegerProperty scoreProperty, IntegerProperty highScoreProperty,
+                   IntegerProperty levelProperty, IntegerProperty linesClearedProperty,
+                   IntegerProperty linesToNextLevelProperty);
+
+    // Refresh the given rows of the game board (bit i = row i)
+    void refreshGameBackground(int[][] board, long dirtyRows);
+
+    // Show the game over state
+    void gameOver();
+
+    // Update the automatic drop interval in milliseconds
+    void updateGameSpeed(int speedInMillis);
+}
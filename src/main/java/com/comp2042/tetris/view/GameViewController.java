@@ -6,6 +6,7 @@ import com.comp2042.tetris.input.*;
 import com.comp2042.tetris.util.SceneNavigator;
 import com.comp2042.tetris.view.component.*;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.property.IntegerProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -23,9 +24,11 @@ import java.util.ResourceBundle;
 
 // Controller class for the main game view
 // Manages game board display, user input handling, game state updates, and coordination between various game components (renderers, managers, UI panels)
-public class GameViewController implements Initializable {
+public class GameViewController implements Initializable, GameView {
 
     private static final int NEXT_BRICK_LABEL_Y_OFFSET = 40;
+    // Set to "canvas" (-Dtetris.renderer=canvas) to draw onto canvases instead of one Rectangle per cell
+    private static final String RENDERER_PROPERTY = "tetris.renderer";
 
     @FXML private GridPane gamePanel;
     @FXML private Group groupNotification;
@@ -40,11 +43,11 @@ public class GameViewController implements Initializable {
 
     private InputEventListener eventListener;
     private GameInputHandler inputHandler;
-    private BrickRenderer brickRenderer;
-    private BoardRenderer boardRenderer;
+    private GameRenderer renderer;
     private PauseOverlayManager pauseOverlayManager;
     private GameStateManager gameStateManager;
     private Timeline timeline;
+    private boolean autoplay;
 
     // Initialize the game view controller when FXML is loaded
     @Override
@@ -58,16 +61,13 @@ public class GameViewController implements Initializable {
     }
 
     // Initialize the game view with the board and initial brick
+    @Override
     public void initGameView(int[][] boardMatrix, GameStateView brick) {
-        // Initialize renderers
-        boardRenderer = new BoardRenderer(gamePanel);
-        boardRenderer.initBoard(boardMatrix);
-
-        brickRenderer = new BrickRenderer(gamePanel, brickPanel, holdPanel, nextBrickPanel);
-        brickRenderer.initHoldPanel();
-        brickRenderer.initBrick(brick);
-        brickRenderer.initGhostPanel(brick);
-        brickRenderer.updateNextBrick(brick.getNextBrickData());
+        // Initialize renderer
+        renderer = "canvas".equals(System.getProperty(RENDERER_PROPERTY))
+                ? new CanvasRenderer(gamePanel, holdPanel, nextBrickPanel)
+                : new NodeRenderer(gamePanel, brickPanel, holdPanel, nextBrickPanel);
+        renderer.init(boardMatrix, brick);
 
         // Initialize timeline
         timeline = new Timeline(new KeyFrame(
@@ -101,15 +101,15 @@ public class GameViewController implements Initializable {
      *
      * @param eventListener the listener to handle game events
      */
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
 
         inputHandler = new GameInputHandler(eventListener, new GameInputCallback() {
             @Override
             public void onMove(GameStateView gameStateView) {
-                brickRenderer.refreshBrick(gameStateView);
-                brickRenderer.refreshGhostPiece(gameStateView);
-                brickRenderer.updateNextBrick(gameStateView.getNextBrickData());
+                // Sideways moves and rotations never change the next brick, so the preview is left alone
+                renderer.refreshBrick(gameStateView);
             }
 
             @Override
@@ -136,6 +136,11 @@ public class GameViewController implements Initializable {
             public void onPause() {
                 pauseGame(null);
             }
+
+            @Override
+            public void onToggleAutoplay() {
+                setAutoplay(!autoplay);
+            }
         });
 
         gamePanel.setOnKeyPressed(keyEvent ->
@@ -155,6 +160,7 @@ public class GameViewController implements Initializable {
      * @param linesClearedProperty the property containing total lines cleared
      * @param linesToNextLevelProperty the property containing lines needed for next level
      */
+    @Override
     public void bindScore(IntegerProperty scoreProperty, IntegerProperty highScoreProperty,
                           IntegerProperty levelProperty, IntegerProperty linesClearedProperty,
                           IntegerProperty linesToNextLevelProperty) {
@@ -177,10 +183,22 @@ public class GameViewController implements Initializable {
      * @param board the current game board matrix to render
      */
     public void refreshGameBackground(int[][] board) {
-        boardRenderer.refreshBoard(board);
+        renderer.refreshBoard(board);
+    }
+
+    /**
+     * Refresh only the given rows of the game board background display.
+     *
+     * @param board the current game board matrix to render
+     * @param dirtyRows bitmask of the rows that changed (bit i = row i)
+     */
+    @Override
+    public void refreshGameBackground(int[][] board, long dirtyRows) {
+        renderer.refreshRows(board, dirtyRows);
     }
 
     // Trigger game over state through the game state manager
+    @Override
     public void gameOver() {
         gameStateManager.triggerGameOver();
     }
@@ -221,6 +239,7 @@ public class GameViewController implements Initializable {
      *
      * @param speedInMillis the new speed in milliseconds between automatic drops
      */
+    @Override
     public void updateGameSpeed(int speedInMillis) {
         gameStateManager.updateSpeed(speedInMillis,
                 () -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
@@ -265,9 +284,10 @@ public class GameViewController implements Initializable {
         if (gameStateManager.canMove()) {
             GameStateView gameStateView = eventListener.onHoldEvent(event);
             if (gameStateView != null) {
-                brickRenderer.refreshBrick(gameStateView);
-                brickRenderer.refreshGhostPiece(gameStateView);
-                brickRenderer.refreshHoldPanel(gameStateView.getHeldBrickData());
+                renderer.refreshBrick(gameStateView);
+                renderer.refreshHold(gameStateView.getHeldBrickRotation());
+                // Holding into an empty slot draws a new brick, which moves the queue
+                renderer.refreshNext(gameStateView.getNextBrickRotation());
             }
         }
         gamePanel.requestFocus();
@@ -288,13 +308,26 @@ public class GameViewController implements Initializable {
             groupNotification.getChildren().add(notification);
             notification.showScore(groupNotification.getChildren());
         }
-        brickRenderer.refreshBrick(result.getViewData());
-        brickRenderer.refreshGhostPiece(result.getViewData());
-        brickRenderer.updateNextBrick(result.getViewData().getNextBrickData());
+        renderer.refreshBrick(result.getViewData());
+        renderer.refreshNext(result.getViewData().getNextBrickRotation());
+    }
+
+    // Turns the bot on or off; its moves go through the input handler, so they obey pause and game over like keys
+    private void setAutoplay(boolean enabled) {
+        autoplay = enabled;
+        eventListener.setAutoplay(enabled,
+                type -> inputHandler.handleMove(type, gameStateManager.canMove()),
+                Platform::runLater);
     }
 
     // Exit to main menu
     private void exitToMainMenu() {
+        if (autoplay) {
+            setAutoplay(false);
+        }
+        if (eventListener != null) {
+            eventListener.dispose();
+        }
         Stage stage = (Stage) gamePanel.getScene().getWindow();
         SceneNavigator.navigateToMainMenu(stage, timeline);
     }
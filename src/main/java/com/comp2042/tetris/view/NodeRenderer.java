@@ -0,0 +1,48 @@
+package com.comp2042.tetris.view;
+
+import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.model.piece.PieceTable;
+import javafx.scene.layout.GridPane;
+
+// Renders the game with one Rectangle node per cell, through BoardRenderer and BrickRenderer
+public class NodeRenderer implements GameRenderer {
+
+    private final BoardRenderer boardRenderer;
+    private final BrickRenderer brickRenderer;
+
+    // Constructor: initializes the board and brick renderers on the layout's panels
+    public NodeRenderer(GridPane gamePanel, GridPane brickPanel, GridPane holdPanel, GridPane nextBrickPanel) {
+        boardRenderer = new BoardRenderer(gamePanel);
+        brickRenderer = new BrickRenderer(gamePanel, brickPanel, holdPanel, nextBrickPanel);
+    }
+
+    @Override
+    public void init(int[][] boardMatrix, GameStateView brick) {
+        boardRenderer.initBoard(boardMatrix);
+        brickRenderer.initHoldPanel();
+        brickRenderer.initBrick(brick);
+        brickRenderer.initGhostPanel(brick);
+        brickRenderer.updateNextBrick(brick.getNextBrickRotation());
+    }
+
+    @Override
+    public void refreshRows(int[][] board, long dirtyRows) {
+        boardRenderer.refreshRows(board, dirtyRows);
+    }
+
+    @Override
+    public void refreshBrick(GameStateView brick) {
+        brickRenderer.refreshBrick(brick);
+        brickRenderer.refreshGhostPiece(brick);
+    }
+
+    @Override
+    public void refreshHold(PieceTable.Rotation heldBrick) {
+        brickRenderer.refreshHoldPanel(heldBrick);
+    }
+
+    @Override
+    public void refreshNext(PieceTable.Rotation nextBrick) {
+        brickRenderer.updateNextBrick(nextBrick);
+    }
+}
@@ -0,0 +1,126 @@
+package com.comp2042.tetris.view;
+
+import com.comp2042.tetris.util.ColorMapper;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.stage.Screen;
+
+/**
+ * Pre-rendered cell tiles: one rounded WritableImage per brick color, plus the outlined ghost tile and a transparent
+ * empty tile. Each tile is drawn once, on first use, at the render scale of the screen (so 40x40 pixels for a 20px
+ * cell on a 2x display), and renderers then draw the image into a TILE_SIZE square instead of building rounded
+ * shapes for every cell on every frame.
+ * The colors come from ColorMapper, so the tiles look like the Rectangle cells of NodeRenderer.
+ * Use on the JavaFX application thread only.
+ */
+public final class TileAtlas {
+
+    // Logical size and corner arc of one cell, as drawn by BoardRenderer and BrickRenderer
+    public static final int TILE_SIZE = 20;
+    public static final int ARC_SIZE = 9;
+
+    // Color codes with their own tile; any other non-zero code uses the default color's tile
+    private static final int TILE_CODES = 8;
+
+    private static TileAtlas shared;
+
+    private final double scale;
+    private final Image[] tiles = new Image[TILE_CODES + 1];
+    private Image ghostTile;
+    private Image emptyTile;
+
+    private TileAtlas(double scale) {
+        this.scale = scale;
+    }
+
+    // Gets the atlas for the primary screen's render scale, creating it (but no tiles yet) on first use
+    public static TileAtlas getInstance() {
+        return getInstance(Screen.getPrimary().getOutputScaleX());
+    }
+
+    /**
+     * Gets the shared atlas for a render scale; a different scale replaces the shared atlas.
+     *
+     * @param scale Output pixels per logical pixel (1 on standard displays)
+     * @return the atlas for that scale
+     */
+    public static TileAtlas getInstance(double scale) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("Scale must be positive: " + scale);
+        }
+        if (shared == null || shared.scale != scale) {
+            shared = new TileAtlas(scale);
+        }
+        return shared;
+    }
+
+    /**
+     * Gets the tile of a board color code.
+     *
+     * @param colorCode The cell value (0 for an empty cell)
+     * @return the pre-rendered tile, transparent for 0
+     */
+    public Image getTile(int colorCode) {
+        if (colorCode == 0) {
+            return getEmptyTile();
+        }
+        int index = colorCode > 0 && colorCode < TILE_CODES ? colorCode : TILE_CODES;
+        if (tiles[index] == null) {
+            tiles[index] = render(ColorMapper.getBrickColor(index), null, 0);
+        }
+        return tiles[index];
+    }
+
+    // Gets the translucent, outlined tile drawn where the falling brick will land
+    public Image getGhostTile() {
+        if (ghostTile == null) {
+            ghostTile = render(ColorMapper.getGhostColor(1), ColorMapper.getGhostStrokeColor(),
+                    ColorMapper.getGhostStrokeWidth());
+        }
+        return ghostTile;
+    }
+
+    // Gets a fully transparent tile
+    public Image getEmptyTile() {
+        if (emptyTile == null) {
+            int size = pixelSize();
+            emptyTile = new WritableImage(size, size);
+        }
+        return emptyTile;
+    }
+
+    // Gets the output pixels per logical pixel the tiles were drawn at
+    public double getScale() {
+        return scale;
+    }
+
+    // Gets the width and height of a tile image in pixels
+    private int pixelSize() {
+        return (int) Math.ceil(TILE_SIZE * scale);
+    }
+
+    // Draws one rounded cell (with an optional outline kept inside the tile) and snapshots it
+    private WritableImage render(Paint fill, Color stroke, double strokeWidth) {
+        int size = pixelSize();
+        Canvas canvas = new Canvas(size, size);
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.scale(scale, scale);
+        graphics.setFill(fill);
+        graphics.fillRoundRect(0, 0, TILE_SIZE, TILE_SIZE, ARC_SIZE, ARC_SIZE);
+        if (stroke != null) {
+            double inset = strokeWidth / 2;
+            graphics.setStroke(stroke);
+            graphics.setLineWidth(strokeWidth);
+            graphics.strokeRoundRect(inset, inset, TILE_SIZE - strokeWidth, TILE_SIZE - strokeWidth,
+                    ARC_SIZE, ARC_SIZE);
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, new WritableImage(size, size));
+    }
+}
@@ -0,0 +1,187 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.BitboardGameBoard;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.BrickGenerator;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.model.piece.types.NullBrick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Beam Search Bot Tests")
+class BeamSearchTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    @DisplayName("Should play long games without topping out")
+    void testPlaysWell() {
+        GameEngine engine = new GameEngine(new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(18)));
+        engine.start();
+        BeamSearch search = new BeamSearch(ROWS, COLUMNS, BeamSearch.DEFAULT_BEAM_WIDTH);
+        PlacementGenerator pathfinder = new PlacementGenerator(ROWS, COLUMNS);
+        EventType[] path = new EventType[4 * (ROWS + 3) * (COLUMNS + 3)];
+
+        for (int piece = 0; piece < 1000; piece++) {
+            assertFalse(engine.isGameOver(), "Topped out at piece " + piece);
+            playBestMove(engine, search, pathfinder, path, Long.MAX_VALUE);
+        }
+        assertTrue(engine.getStats().getTotalLinesCleared() > 350,
+                "Too few lines: " + engine.getStats().getTotalLinesCleared());
+    }
+
+    @Test
+    @DisplayName("Should fill a well that clears four rows")
+    void testTakesTetris() {
+        int[][] cells = new int[ROWS][COLUMNS];
+        for (int row = ROWS - 4; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS - 1; column++) {
+                cells[row][column] = 1;
+            }
+        }
+        GameBoard board = boardWith(BrickFactory.createBrick(BrickFactory.BrickType.I));
+        board.loadBackground(cells, NullBrick.getInstance());
+        board.createNewBrick();
+
+        BeamSearch search = new BeamSearch(ROWS, COLUMNS, BeamSearch.DEFAULT_BEAM_WIDTH);
+        search.load(board);
+        assertTrue(search.search(Long.MAX_VALUE));
+        assertFalse(search.isHold());
+        int placement = search.getPlacement();
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        features.recompute(cells);
+        assertEquals(4, features.place(search.getPiece().getRotation(PlacementGenerator.getRotation(placement)),
+                PlacementGenerator.getX(placement), PlacementGenerator.getY(placement)));
+    }
+
+    @Test
+    @DisplayName("Should still give the greedy choice when the deadline has passed")
+    void testDeadline() {
+        BitboardGameBoard board = new BitboardGameBoard(ROWS, COLUMNS, new RandomBrickGenerator(4));
+        board.createNewBrick();
+        BeamSearch search = new BeamSearch(ROWS, COLUMNS, BeamSearch.DEFAULT_BEAM_WIDTH);
+        search.load(board);
+
+        assertTrue(search.search(System.nanoTime()));
+        assertTrue(search.hasResult());
+        assertEquals(0, search.getExpandedCount());
+        assertTrue(search.getCandidateCount() > 0);
+
+        search.load(board);
+        assertTrue(search.search(Long.MAX_VALUE));
+        assertEquals(Math.min(BeamSearch.DEFAULT_BEAM_WIDTH, search.getCandidateCount()), search.getExpandedCount());
+        assertTrue(search.isCurrent(board));
+        board.moveBrickLeft();
+        assertTrue(search.isCurrent(board), "Moving the brick should not invalidate the result");
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        assertFalse(search.isCurrent(board));
+    }
+
+    @Test
+    @DisplayName("Should use the hold slot when the held brick fits better")
+    void testHold() {
+        // A single-column well four deep: the S can only make holes there, the held I clears four rows
+        int[][] cells = new int[ROWS][COLUMNS];
+        for (int row = ROWS - 4; row < ROWS; row++) {
+            for (int column = 1; column < COLUMNS; column++) {
+                cells[row][column] = 1;
+            }
+        }
+        GameBoard board = boardWith(BrickFactory.createBrick(BrickFactory.BrickType.S));
+        board.loadBackground(cells, BrickFactory.createBrick(BrickFactory.BrickType.I));
+        board.createNewBrick();
+
+        BeamSearch search = new BeamSearch(ROWS, COLUMNS, BeamSearch.DEFAULT_BEAM_WIDTH);
+        search.load(board);
+        assertTrue(search.search(Long.MAX_VALUE));
+        assertTrue(search.isHold());
+        assertEquals(BrickFactory.BrickType.I, search.getPiece().getType());
+    }
+
+    @Test
+    @DisplayName("BotPlayer should drive a game from its worker thread within the gravity budget")
+    void testBotPlayer() throws InterruptedException {
+        playWithBot(1);
+    }
+
+    @Test
+    @DisplayName("BotPlayer should drive a game with a parallel search within the gravity budget")
+    void testParallelBotPlayer() throws InterruptedException {
+        playWithBot(2);
+    }
+
+    // Lets a bot play 100 pieces, with the test thread as the game thread
+    private void playWithBot(int parallelism) throws InterruptedException {
+        GameEngine engine = new GameEngine(new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(9)));
+        engine.start();
+        BlockingQueue<Runnable> gameThread = new ArrayBlockingQueue<>(16);
+        AtomicInteger drops = new AtomicInteger();
+        BotPlayer bot = new BotPlayer(engine.getBoard(), () -> 10, gameThread::add, type -> {
+            engine.apply(type, EventSource.USER);
+            if (type == EventType.INSTANT_DROP) {
+                drops.incrementAndGet();
+            }
+        }, parallelism);
+        assertEquals(5, bot.getThinkMillis());
+
+        bot.start();
+        long start = System.nanoTime();
+        while (drops.get() < 100) {
+            Runnable task = gameThread.poll(1, TimeUnit.SECONDS);
+            assertNotNull(task, "Bot stalled after " + drops.get() + " pieces");
+            task.run();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        bot.shutdown();
+
+        assertFalse(engine.isGameOver());
+        assertTrue(engine.getStats().getTotalLinesCleared() > 20);
+        // Five milliseconds of thinking per piece, with generous slack for slow machines
+        assertTrue(elapsedMillis < 100 * 50, "Too slow: " + elapsedMillis + " ms");
+    }
+
+    // Searches the engine's position and plays the chosen move, as BotPlayer does
+    private void playBestMove(GameEngine engine, BeamSearch search, PlacementGenerator pathfinder,
+                              EventType[] path, long deadline) {
+        search.load(engine.getBoard());
+        assertTrue(search.search(deadline));
+        if (search.isHold()) {
+            engine.hold();
+        }
+        pathfinder.generate(engine.getBoard());
+        int length = pathfinder.getPath(search.getPlacement(), path);
+        for (int i = 0; i < length; i++) {
+            engine.apply(path[i], EventSource.USER);
+        }
+        engine.hardDrop();
+    }
+
+    // Creates a board whose falling brick is always the given one
+    private GameBoard boardWith(Brick brick) {
+        return new GameBoard(ROWS, COLUMNS, new BrickGenerator() {
+            @Override
+            public Brick getBrick() {
+                return brick;
+            }
+
+            @Override
+            public Brick getNextBrick() {
+                return brick;
+            }
+        });
+    }
+}
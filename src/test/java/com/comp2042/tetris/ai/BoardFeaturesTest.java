@@ -0,0 +1,152 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Board Features Tests")
+class BoardFeaturesTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    @DisplayName("Should compute the features of a known board")
+    void testKnownBoard() {
+        int[][] cells = new int[ROWS][COLUMNS];
+        // Bottom row full except column 9; column 0 two high with a hole under it in column 1
+        for (int column = 0; column < COLUMNS - 1; column++) {
+            cells[ROWS - 1][column] = 1;
+        }
+        cells[ROWS - 1][1] = 0;
+        cells[ROWS - 2][0] = 2;
+        cells[ROWS - 2][1] = 2;
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        features.recompute(cells);
+
+        assertEquals(2, features.getColumnHeight(0));
+        assertEquals(2, features.getColumnHeight(1));
+        assertEquals(0, features.getColumnHeight(9));
+        assertEquals(2 + 2 + 7, features.getAggregateHeight());
+        assertEquals(2, features.getMaxHeight());
+        assertEquals(1, features.getHoles());
+        // Heights 2 2 1 1 1 1 1 1 1 0
+        assertEquals(2, features.getBumpiness());
+        // Column 9 at the floor (wall on the right) and the covered hole in column 1
+        assertEquals(2, features.getWellSums());
+        // Empty rows count 2 each; the two-cell row and the row with two gaps count 2 and 4
+        assertEquals(2 * (ROWS - 2) + 2 + 4, features.getRowTransitions());
+        // Every column changes where its stack starts; column 1 also around its hole, column 9 at the floor
+        assertEquals(1 + 3 + 7 + 1, features.getColumnTransitions());
+    }
+
+    @Test
+    @DisplayName("Incremental updates should match a full recompute throughout a game")
+    void testIncrementalMatchesRecompute() {
+        GameBoard board = new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(17));
+        BoardFeatures incremental = new BoardFeatures(ROWS, COLUMNS);
+        BoardFeatures reference = new BoardFeatures(ROWS, COLUMNS);
+        Random random = new Random(17);
+        int cleared = 0;
+
+        board.createNewBrick();
+        for (int piece = 0; piece < 5000; piece++) {
+            for (int i = random.nextInt(4); i > 0; i--) {
+                board.rotateLeftBrick();
+            }
+            int shift = random.nextInt(11) - 5;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            board.hardDropBrick();
+            PieceTable.Rotation rotation = board.getCurrentBrick().getPieceTable().getRotation(board.getBrickRotation());
+            int lines = incremental.place(rotation, board.getBrickX(), board.getBrickY());
+            board.mergeBrickToBackground();
+            assertEquals(board.clearRows().getLinesRemoved(), lines, "Wrong clear count at piece " + piece);
+            cleared += lines;
+
+            reference.recompute(board.getBoardMatrix());
+            assertSameFeatures(reference, incremental, piece);
+            if (board.createNewBrick()) {
+                board.newGame();
+                incremental.recompute(board.getBoardMatrix());
+            }
+        }
+        assertTrue(cleared > 0, "The game should clear rows");
+    }
+
+    @Test
+    @DisplayName("Should clear rows that are not adjacent")
+    void testSplitClear() {
+        int[][] cells = new int[ROWS][COLUMNS];
+        for (int row = ROWS - 4; row < ROWS; row++) {
+            for (int column = 1; column < COLUMNS; column++) {
+                cells[row][column] = 1;
+            }
+        }
+        cells[ROWS - 3][5] = 0;
+        cells[ROWS - 5][3] = 4;
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        features.recompute(cells);
+
+        // A vertical I in column 0 fills rows ROWS-4 to ROWS-1, completing all of them but ROWS-3
+        PieceTable.Rotation vertical = PieceTable.forType(BrickFactory.BrickType.I).getRotation(1);
+        int x = -vertical.getCellColumn(0);
+        int y = ROWS - 4 - vertical.getMinRow();
+        assertEquals(3, features.place(vertical, x, y));
+
+        int[][] expected = new int[ROWS][COLUMNS];
+        for (int column = 0; column < COLUMNS; column++) {
+            expected[ROWS - 1][column] = column == 5 ? 0 : 1;
+        }
+        expected[ROWS - 2][3] = 4;
+        BoardFeatures reference = new BoardFeatures(ROWS, COLUMNS);
+        reference.recompute(expected);
+        assertSameFeatures(reference, features, 0);
+    }
+
+    @Test
+    @DisplayName("Copies should branch independently")
+    void testCopyFrom() {
+        BoardFeatures base = new BoardFeatures(ROWS, COLUMNS);
+        PieceTable.Rotation i = PieceTable.forType(BrickFactory.BrickType.I).getRotation(0);
+        base.place(i, 0, ROWS - 2);
+
+        BoardFeatures branch = new BoardFeatures(ROWS, COLUMNS);
+        branch.copyFrom(base);
+        branch.place(i, 4, ROWS - 2);
+        assertEquals(4, base.getAggregateHeight());
+        assertEquals(8, branch.getAggregateHeight());
+
+        branch.copyFrom(base);
+        assertSameFeatures(base, branch, 0);
+    }
+
+    private void assertSameFeatures(BoardFeatures expected, BoardFeatures actual, int piece) {
+        String at = " at piece " + piece;
+        for (int column = 0; column < COLUMNS; column++) {
+            assertEquals(expected.getColumnHeight(column), actual.getColumnHeight(column), "Height" + at);
+        }
+        for (int row = 0; row < ROWS; row++) {
+            assertEquals(expected.getRowMask(row), actual.getRowMask(row), "Row " + row + at);
+        }
+        assertEquals(expected.getAggregateHeight(), actual.getAggregateHeight(), "Aggregate height" + at);
+        assertEquals(expected.getMaxHeight(), actual.getMaxHeight(), "Max height" + at);
+        assertEquals(expected.getHoles(), actual.getHoles(), "Holes" + at);
+        assertEquals(expected.getBumpiness(), actual.getBumpiness(), "Bumpiness" + at);
+        assertEquals(expected.getRowTransitions(), actual.getRowTransitions(), "Row transitions" + at);
+        assertEquals(expected.getColumnTransitions(), actual.getColumnTransitions(), "Column transitions" + at);
+        assertEquals(expected.getWellSums(), actual.getWellSums(), "Well sums" + at);
+    }
+}
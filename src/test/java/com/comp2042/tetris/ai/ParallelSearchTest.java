@@ -0,0 +1,148 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Parallel Search Tests")
+class ParallelSearchTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int PREVIEWS = 2;
+
+    @Test
+    @DisplayName("Parallel and sequential searches should choose the same move")
+    void testMatchesSequential() {
+        try (ParallelSearch sequential = new ParallelSearch(ROWS, COLUMNS, 4, 1);
+             ParallelSearch parallel = new ParallelSearch(ROWS, COLUMNS, 4, 4)) {
+            GameEngine engine = new GameEngine(new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(21)));
+            RandomBrickGenerator previews = new RandomBrickGenerator(21);
+            engine.start();
+            previews.getBrick();
+
+            for (int piece = 0; piece < 30; piece++) {
+                PieceTable[] upcoming = peek(previews);
+                assertSame(engine.getBoard().getNextBrick().getPieceTable(), upcoming[0]);
+                sequential.load(engine.getBoard(), upcoming);
+                parallel.load(engine.getBoard(), upcoming);
+                assertTrue(sequential.search());
+                assertTrue(parallel.search());
+
+                assertEquals(sequential.getValue(), parallel.getValue(), "Values differ at piece " + piece);
+                assertEquals(sequential.getPlacement(), parallel.getPlacement(), "Moves differ at piece " + piece);
+                assertEquals(sequential.isHold(), parallel.isHold());
+
+                // Keep the preview generator in step: one brick per spawn, one more for a hold into an empty slot
+                boolean emptyHold = engine.getBoard().getHeldBrick().getPieceTable().getType() == null;
+                if (sequential.isHold() && emptyHold) {
+                    previews.getBrick();
+                }
+                play(engine, sequential);
+                previews.getBrick();
+                assertFalse(engine.isGameOver());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A node budget should cut the search short but still give a move")
+    void testNodeBudget() {
+        try (ParallelSearch search = new ParallelSearch(ROWS, COLUMNS, 8, 2)) {
+            GameBoard board = new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(3));
+            board.createNewBrick();
+            RandomBrickGenerator previews = new RandomBrickGenerator(3);
+            previews.getBrick();
+            PieceTable[] upcoming = peek(previews);
+
+            search.load(board, upcoming);
+            assertTrue(search.search());
+            long fullCount = search.getNodeCount();
+
+            search.setNodeBudget(500);
+            search.load(board, upcoming);
+            assertTrue(search.search());
+            assertTrue(search.hasResult());
+            assertTrue(search.getNodeCount() < fullCount, search.getNodeCount() + " of " + fullCount);
+        }
+    }
+
+    @Test
+    @DisplayName("A passed deadline should stop the search early but still give a move")
+    void testDeadline() {
+        try (ParallelSearch search = new ParallelSearch(ROWS, COLUMNS, 8, 2)) {
+            GameBoard board = new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(5));
+            board.createNewBrick();
+            RandomBrickGenerator previews = new RandomBrickGenerator(5);
+            previews.getBrick();
+            PieceTable[] upcoming = peek(previews);
+
+            search.load(board, upcoming);
+            assertTrue(search.search(Long.MAX_VALUE));
+            long fullCount = search.getNodeCount();
+
+            search.load(board, upcoming);
+            assertTrue(search.search(System.nanoTime()));
+            assertTrue(search.hasResult());
+            assertTrue(search.getNodeCount() < fullCount, search.getNodeCount() + " of " + fullCount);
+        }
+    }
+
+    @Test
+    @DisplayName("Loading a board should read its preview brick and track whether it is still current")
+    void testLoadBoard() {
+        try (ParallelSearch search = new ParallelSearch(ROWS, COLUMNS, 4, 2)) {
+            GameBoard board = new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(8));
+            board.createNewBrick();
+            search.load(board);
+            assertTrue(search.search(Long.MAX_VALUE));
+            double value = search.getValue();
+
+            search.load(board, board.getNextBrick().getPieceTable());
+            assertTrue(search.search());
+            assertEquals(value, search.getValue());
+
+            assertTrue(search.isCurrent(board));
+            board.moveBrickLeft();
+            assertTrue(search.isCurrent(board), "Moving the brick should not invalidate the result");
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            assertFalse(search.isCurrent(board));
+        }
+    }
+
+    // Reads the next bricks from a copy of a generator, leaving the original untouched
+    private PieceTable[] peek(RandomBrickGenerator generator) {
+        int[] state = new int[generator.getStateSize()];
+        generator.saveState(state, 0);
+        RandomBrickGenerator copy = new RandomBrickGenerator(0);
+        copy.restoreState(state, 0);
+        PieceTable[] upcoming = new PieceTable[PREVIEWS];
+        for (int i = 0; i < PREVIEWS; i++) {
+            upcoming[i] = copy.getBrick().getPieceTable();
+        }
+        return upcoming;
+    }
+
+    // Plays the chosen move on the engine
+    private void play(GameEngine engine, ParallelSearch search) {
+        if (search.isHold()) {
+            engine.hold();
+        }
+        PlacementGenerator pathfinder = new PlacementGenerator(ROWS, COLUMNS);
+        pathfinder.generate(engine.getBoard());
+        EventType[] path = new EventType[4 * (ROWS + 3) * (COLUMNS + 3)];
+        int length = pathfinder.getPath(search.getPlacement(), path);
+        for (int i = 0; i < length; i++) {
+            engine.apply(path[i], EventSource.USER);
+        }
+        engine.hardDrop();
+    }
+}
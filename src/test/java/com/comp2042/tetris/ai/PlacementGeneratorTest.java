@@ -0,0 +1,181 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.BrickGenerator;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.types.NullBrick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Placement Generator Tests")
+class PlacementGeneratorTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private final PlacementGenerator generator = new PlacementGenerator(ROWS, COLUMNS);
+
+    @ParameterizedTest
+    @EnumSource(BrickFactory.BrickType.class)
+    @DisplayName("Should find one placement per column and rotation on an empty board")
+    void testEmptyBoardCounts(BrickFactory.BrickType type) {
+        int expected = switch (type) {
+            case I, S, Z -> 17;
+            case O -> 9;
+            case J, L, T -> 34;
+        };
+        GameBoard board = boardWith(type, new int[ROWS][COLUMNS]);
+
+        assertEquals(expected, generator.generate(board));
+        Set<Integer> distinct = new HashSet<>();
+        for (int i = 0; i < generator.getPlacementCount(); i++) {
+            assertTrue(distinct.add(generator.getPlacement(i)), "Placements should not repeat");
+        }
+    }
+
+    @Test
+    @DisplayName("Should find tucks under overhangs that a straight drop cannot reach")
+    void testFindsTucks() {
+        int[][] cells = new int[ROWS][COLUMNS];
+        // A roof over the bottom-left corner, leaving a two-row cave open to the right
+        for (int column = 0; column < 3; column++) {
+            cells[ROWS - 3][column] = 1;
+        }
+        GameBoard board = boardWith(BrickFactory.BrickType.O, cells);
+
+        boolean tucked = false;
+        for (int i = 0; i < generator.generate(board); i++) {
+            int placement = generator.getPlacement(i);
+            PieceTable.Rotation rotation = PieceTable.forType(BrickFactory.BrickType.O)
+                    .getRotation(PlacementGenerator.getRotation(placement));
+            for (int cell = 0; cell < rotation.getCellCount(); cell++) {
+                int row = PlacementGenerator.getY(placement) + rotation.getCellRow(cell);
+                int column = PlacementGenerator.getX(placement) + rotation.getCellColumn(cell);
+                tucked |= row == ROWS - 1 && column == 0;
+            }
+        }
+        assertTrue(tucked, "The O brick should slide into the cave");
+    }
+
+    @Test
+    @DisplayName("Every placement's path should lead the board to that resting position")
+    void testPathsMatchBoardRules() {
+        Random random = new Random(14);
+        EventType[] moves = new EventType[512];
+        for (int round = 0; round < 40; round++) {
+            int[][] cells = randomStack(random);
+            BrickFactory.BrickType type = BrickFactory.BrickType.values()[round % 7];
+            GameBoard board = boardWith(type, cells);
+            int count = generator.generate(board);
+
+            for (int i = 0; i < count; i++) {
+                int placement = generator.getPlacement(i);
+                board.loadBackground(cells, NullBrick.getInstance());
+                board.createNewBrick();
+                int length = generator.getPath(placement, moves);
+                for (int move = 0; move < length; move++) {
+                    assertTrue(apply(board, moves[move]), "Move " + move + " of the path was blocked");
+                }
+                assertEquals(PlacementGenerator.getX(placement), board.getBrickX());
+                assertEquals(PlacementGenerator.getY(placement), board.getBrickY());
+                assertEquals(PlacementGenerator.getRotation(placement), board.getBrickRotation());
+                assertFalse(board.moveBrickDown(), "Placements should be resting");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should find nothing when the spawn position is blocked")
+    void testBlockedSpawn() {
+        int[][] cells = new int[ROWS][COLUMNS];
+        for (int column = 0; column < COLUMNS; column++) {
+            cells[1][column] = 1;
+        }
+        assertEquals(0, generator.generate(boardWith(BrickFactory.BrickType.T, cells)));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getPlacement(0));
+    }
+
+    @Test
+    @DisplayName("Generating placements should not allocate")
+    void testGenerateDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters unavailable");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters unsupported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        generator.loadSnapshot(randomStack(new Random(3)));
+        PieceTable piece = PieceTable.forType(BrickFactory.BrickType.T);
+        for (int i = 0; i < 1000; i++) {
+            generator.generate(piece, 3, 0, 0);
+        }
+
+        // Best of several rounds, so one-off JIT or profiling activity cannot fail the test
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated > 0; round++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < 1000; i++) {
+                generator.generate(piece, 3, 0, 0);
+            }
+            allocated = Math.min(allocated, threadBean.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0, allocated, "Generating allocated " + allocated + " bytes");
+    }
+
+    // Creates a board with the given background whose falling brick is always of one type
+    private GameBoard boardWith(BrickFactory.BrickType type, int[][] cells) {
+        Brick brick = BrickFactory.createBrick(type);
+        GameBoard board = new GameBoard(ROWS, COLUMNS, new BrickGenerator() {
+            @Override
+            public Brick getBrick() {
+                return brick;
+            }
+
+            @Override
+            public Brick getNextBrick() {
+                return brick;
+            }
+        });
+        board.loadBackground(cells, NullBrick.getInstance());
+        board.createNewBrick();
+        return board;
+    }
+
+    // Builds a ragged stack with holes in the bottom rows
+    private int[][] randomStack(Random random) {
+        int[][] cells = new int[ROWS][COLUMNS];
+        for (int column = 0; column < COLUMNS; column++) {
+            int height = random.nextInt(12);
+            for (int row = ROWS - height; row < ROWS; row++) {
+                if (random.nextInt(5) != 0) {
+                    cells[row][column] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return cells;
+    }
+
+    private boolean apply(GameBoard board, EventType move) {
+        return switch (move) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case DOWN -> board.moveBrickDown();
+            case ROTATE -> board.rotateLeftBrick();
+            default -> throw new IllegalArgumentException("Unexpected move: " + move);
+        };
+    }
+}
@@ -5,11 +5,16 @@ import com.comp2042.tetris.dto.MoveResultData;
 import com.comp2042.tetris.dto.GameStateView;
 import com.comp2042.tetris.input.EventSource;
 import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.replay.Replay;
+import com.comp2042.tetris.replay.ReplayReader;
 import com.comp2042.tetris.view.GameViewController;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Game Controller Tests")
@@ -201,6 +206,58 @@ class GameControllerTest {
         assertTrue(testView.refreshGameBackgroundCalled);
     }
 
+    @Test
+    @DisplayName("Should record every event of the session for replay")
+    void testRecordsReplay() {
+        GameController seeded = new GameController(testView, 5L);
+        seeded.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+        seeded.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+        seeded.createNewGame();
+        seeded.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+
+        Replay replay = seeded.getReplay();
+        assertEquals(5L, replay.getSeed());
+        assertEquals(4, replay.getEventCount());
+
+        ReplayReader reader = replay.reader();
+        assertTrue(reader.next());
+        assertEquals(EventType.LEFT, reader.getType());
+        assertTrue(reader.next());
+        assertEquals(EventSource.THREAD, reader.getSource());
+        assertTrue(reader.next());
+        assertTrue(reader.isNewGame());
+        assertTrue(reader.next());
+        assertEquals(EventType.HOLD, reader.getType());
+    }
+
+    @Test
+    @DisplayName("Dispose should end the bot's worker thread")
+    void testDisposeEndsBotThread() throws InterruptedException {
+        BlockingQueue<Runnable> gameThread = new LinkedBlockingQueue<>();
+        gameController.setAutoplay(true, type -> { }, gameThread::add);
+        assertTrue(botThreadAlive(0), "Autoplay should start the bot's worker thread");
+        gameController.setAutoplay(false, type -> { }, gameThread::add);
+        assertTrue(botThreadAlive(0), "Stopping autoplay should keep the worker for the next start");
+
+        gameController.dispose();
+        assertFalse(botThreadAlive(5000), "Dispose should end the worker thread");
+        gameController.dispose();
+    }
+
+    // Checks for a live bot worker thread, first waiting up to the timeout for any to end
+    private boolean botThreadAlive(long timeoutMillis) throws InterruptedException {
+        boolean alive = false;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if ("tetris-bot".equals(thread.getName())) {
+                if (timeoutMillis > 0) {
+                    thread.join(timeoutMillis);
+                }
+                alive |= thread.isAlive();
+            }
+        }
+        return alive;
+    }
+
     // Test double class for GameViewController
     private static class TestGameViewController extends GameViewController {
         boolean initGameViewCalled = false;
@@ -222,6 +279,11 @@ class GameControllerTest {
             refreshGameBackgroundCalled = true;
         }
 
+        @Override
+        public void refreshGameBackground(int[][] board, long dirtyRows) {
+            refreshGameBackgroundCalled = true;
+        }
+
         @Override
         public void gameOver() {
             gameOverCalled = true;
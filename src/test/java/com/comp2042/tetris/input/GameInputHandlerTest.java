@@ -204,6 +204,30 @@ class GameInputHandlerTest {
         assertTrue(callback.onPauseCalled);
     }
 
+    @Test
+    @DisplayName("Should handle B key for the autoplay toggle")
+    void testBKey() {
+        KeyEvent event = createKeyEvent(KeyCode.B);
+        handler.handleKeyPress(event, true, true);
+
+        assertTrue(callback.onToggleAutoplayCalled);
+        assertNull(eventListener.lastEventType);
+    }
+
+    @Test
+    @DisplayName("Should apply bot moves like key presses, only when allowed")
+    void testHandleMove() {
+        handler.handleMove(EventType.ROTATE, true);
+        assertTrue(callback.onMoveCalled);
+        assertEquals(EventType.ROTATE, eventListener.lastEventType);
+        assertEquals(EventSource.USER, eventListener.lastEventSource);
+
+        handler.handleMove(EventType.INSTANT_DROP, false);
+        assertFalse(callback.onInstantDropCalled);
+        handler.handleMove(EventType.INSTANT_DROP, true);
+        assertTrue(callback.onInstantDropCalled);
+    }
+
     // Helper method to create KeyEvent
     private KeyEvent createKeyEvent(KeyCode code) {
         return new KeyEvent(
@@ -282,6 +306,7 @@ class GameInputHandlerTest {
         boolean onHoldCalled = false;
         boolean onNewGameCalled = false;
         boolean onPauseCalled = false;
+        boolean onToggleAutoplayCalled = false;
         MoveEvent lastMoveDownEvent = null;
         MoveEvent lastInstantDropEvent = null;
         MoveEvent lastHoldEvent = null;
@@ -318,5 +343,10 @@ class GameInputHandlerTest {
         public void onPause() {
             onPauseCalled = true;
         }
+
+        @Override
+        public void onToggleAutoplay() {
+            onToggleAutoplayCalled = true;
+        }
     }
 }
@@ -0,0 +1,147 @@
+package com.comp2042.tetris.model;
+
+import com.comp2042.tetris.dto.ClearRow;
+import com.comp2042.tetris.dto.GameStateView;
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.BrickGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BitboardGameBoard Tests")
+class BitboardGameBoardTest {
+
+    @Test
+    @DisplayName("Should initialize with empty board of correct dimensions")
+    void testInitialization() {
+        BitboardGameBoard board = new BitboardGameBoard(25, 10);
+        int[][] matrix = board.getBoardMatrix();
+
+        assertEquals(25, matrix.length);
+        assertEquals(10, matrix[0].length);
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                assertEquals(0, cell);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject boards wider than the bitmask can hold")
+    void testRejectsTooManyColumns() {
+        assertThrows(IllegalArgumentException.class, () -> new BitboardGameBoard(25, 25));
+    }
+
+    @Test
+    @DisplayName("Should stop at both walls")
+    void testWalls() {
+        BitboardGameBoard board = new BitboardGameBoard(25, 10, new SequenceGenerator(BrickFactory.BrickType.O));
+        board.createNewBrick();
+
+        for (int i = 0; i < 20; i++) {
+            board.moveBrickLeft();
+        }
+        assertFalse(board.moveBrickLeft());
+        assertEquals(-1, board.getViewData().getXPosition(), "O brick is drawn in shape columns 1-2");
+
+        for (int i = 0; i < 20; i++) {
+            board.moveBrickRight();
+        }
+        assertFalse(board.moveBrickRight());
+        assertEquals(7, board.getViewData().getXPosition());
+    }
+
+    @Test
+    @DisplayName("Should clear a completed row and shift the rows above")
+    void testClearRow() {
+        // Five O bricks side by side fill the bottom two rows
+        BitboardGameBoard board = new BitboardGameBoard(25, 10, new SequenceGenerator(BrickFactory.BrickType.O));
+        for (int column = -1; column <= 7; column += 2) {
+            board.createNewBrick();
+            while (board.getViewData().getXPosition() > column && board.moveBrickLeft());
+            while (board.getViewData().getXPosition() < column && board.moveBrickRight());
+            while (board.moveBrickDown());
+            board.mergeBrickToBackground();
+        }
+
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals(300, clearRow.getScoreBonus());
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                assertEquals(0, cell);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should behave exactly like GameBoard for the same inputs")
+    void testMatchesGameBoard() {
+        BrickFactory.BrickType[] sequence = BrickFactory.BrickType.values();
+        GameBoard reference = new GameBoard(25, 10, new SequenceGenerator(sequence));
+        BitboardGameBoard bitboard = new BitboardGameBoard(25, 10, new SequenceGenerator(sequence));
+        Random random = new Random(42);
+
+        assertEquals(reference.createNewBrick(), bitboard.createNewBrick());
+        for (int step = 0; step < 5000; step++) {
+            switch (random.nextInt(7)) {
+                case 0 -> assertEquals(reference.moveBrickLeft(), bitboard.moveBrickLeft());
+                case 1 -> assertEquals(reference.moveBrickRight(), bitboard.moveBrickRight());
+                case 2 -> assertEquals(reference.rotateLeftBrick(), bitboard.rotateLeftBrick());
+                case 3 -> assertEquals(reference.holdBrick().getClass(), bitboard.holdBrick().getClass());
+                case 4 -> assertEquals(reference.hardDropBrick(), bitboard.hardDropBrick());
+                default -> {
+                    boolean moved = reference.moveBrickDown();
+                    assertEquals(moved, bitboard.moveBrickDown());
+                    if (!moved) {
+                        reference.mergeBrickToBackground();
+                        bitboard.mergeBrickToBackground();
+                        assertEquals(reference.clearRows().getLinesRemoved(), bitboard.clearRows().getLinesRemoved());
+                        boolean gameOver = reference.createNewBrick();
+                        assertEquals(gameOver, bitboard.createNewBrick());
+                        if (gameOver) {
+                            reference.newGame();
+                            bitboard.newGame();
+                        }
+                    }
+                }
+            }
+            assertArrayEquals(reference.getBoardMatrix(), bitboard.getBoardMatrix(), "Boards diverged at step " + step);
+            GameStateView expected = reference.getViewData();
+            GameStateView actual = bitboard.getViewData();
+            assertEquals(expected.getXPosition(), actual.getXPosition());
+            assertEquals(expected.getYPosition(), actual.getYPosition());
+            assertEquals(expected.getGhostYPosition(), actual.getGhostYPosition());
+        }
+    }
+
+    // Deterministic generator that cycles through a fixed sequence of brick types
+    private static final class SequenceGenerator implements BrickGenerator {
+        private final Brick[] bricks;
+        private int index;
+
+        SequenceGenerator(BrickFactory.BrickType... types) {
+            bricks = new Brick[types.length];
+            for (int i = 0; i < types.length; i++) {
+                bricks[i] = BrickFactory.createBrick(types[i]);
+            }
+        }
+
+        @Override
+        public Brick getBrick() {
+            Brick brick = bricks[index];
+            index = (index + 1) % bricks.length;
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return bricks[index];
+        }
+    }
+}
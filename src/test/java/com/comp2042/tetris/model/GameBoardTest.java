@@ -3,11 +3,20 @@ package com.comp2042.tetris.model;
 import com.comp2042.tetris.dto.ClearRow;
 import com.comp2042.tetris.dto.GameStateView;
 import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickGenerator;
+import com.comp2042.tetris.model.piece.PieceTable;
+import com.comp2042.tetris.model.piece.types.JBrick;
+import com.comp2042.tetris.model.piece.types.NullBrick;
+import com.comp2042.tetris.model.piece.types.TBrick;
+import com.comp2042.tetris.util.MatrixOperations;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.lang.management.ManagementFactory;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayName("GameBoard Tests")
 class GameBoardTest {
@@ -156,11 +165,16 @@ class GameBoardTest {
     }
 
     @Test
-    @DisplayName("Should return score instance")
-    void testGetScore() {
-        Score score = gameBoard.getScore();
-        assertNotNull(score);
-        assertEquals(0, score.getScore());
+    @DisplayName("View data should share the bricks' rotations instead of copying shapes")
+    void testViewDataSharesRotations() {
+        gameBoard.createNewBrick();
+        GameStateView view = gameBoard.getViewData();
+
+        assertSame(gameBoard.getCurrentBrick().getPieceTable().getRotation(0), view.getBrickRotation());
+        assertSame(gameBoard.getNextBrick().getPieceTable().getRotation(0), view.getNextBrickRotation());
+        assertSame(PieceTable.EMPTY.getRotation(0), view.getHeldBrickRotation());
+        assertArrayEquals(view.getBrickRotation().toMatrix(), view.getBrickData());
+        assertNotSame(view.getBrickData(), view.getBrickData());
     }
 
     @Test
@@ -205,12 +219,9 @@ class GameBoardTest {
     @DisplayName("Should reset game state on newGame")
     void testNewGame() {
         gameBoard.createNewBrick();
-        gameBoard.getScore().add(1000);
 
         gameBoard.newGame();
 
-        assertEquals(0, gameBoard.getScore().getScore());
-
         int[][] matrix = gameBoard.getBoardMatrix();
         for (int i = 0; i < matrix.length; i++) {
             for (int j = 0; j < matrix[i].length; j++) {
@@ -288,4 +299,169 @@ class GameBoardTest {
         boolean moved = gameBoard.moveBrickRight();
         assertFalse(moved, "Should not move beyond right wall");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Column heights should follow merges and row clears")
+    void testColumnHeightsTrackBoard() {
+        java.util.Random random = new java.util.Random(3);
+        gameBoard.createNewBrick();
+        for (int piece = 0; piece < 300; piece++) {
+            for (int i = random.nextInt(4); i > 0; i--) {
+                gameBoard.rotateLeftBrick();
+            }
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) gameBoard.moveBrickLeft(); else gameBoard.moveBrickRight();
+            }
+            int startY = gameBoard.getViewData().getYPosition();
+            int ghostY = gameBoard.getViewData().getGhostYPosition();
+            assertEquals(ghostY - startY, gameBoard.hardDropBrick());
+            assertFalse(gameBoard.moveBrickDown(), "Hard drop should land the brick");
+
+            gameBoard.mergeBrickToBackground();
+            gameBoard.clearRows();
+            int[][] matrix = gameBoard.getBoardMatrix();
+            for (int column = 0; column < matrix[0].length; column++) {
+                int row = 0;
+                while (row < matrix.length && matrix[row][column] == 0) {
+                    row++;
+                }
+                assertEquals(matrix.length - row, gameBoard.getColumnHeight(column), "Column " + column);
+            }
+            if (gameBoard.createNewBrick()) {
+                gameBoard.newGame();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should report only the rows changed by merges and clears")
+    void testDirtyRows() {
+        gameBoard.newGame();
+        assertEquals(-1L, gameBoard.pollDirtyRows(), "A new game repaints everything");
+        assertEquals(0L, gameBoard.pollDirtyRows(), "Polling resets the change set");
+
+        gameBoard.holdBrick();
+        gameBoard.moveBrickLeft();
+        assertEquals(0L, gameBoard.pollDirtyRows(), "Holds and moves do not change the board");
+
+        gameBoard.hardDropBrick();
+        gameBoard.mergeBrickToBackground();
+        long expected = 0;
+        int[][] matrix = gameBoard.getBoardMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            for (int cell : matrix[row]) {
+                if (cell != 0) {
+                    expected |= 1L << row;
+                }
+            }
+        }
+        assertEquals(expected, gameBoard.pollDirtyRows());
+    }
+
+    @Test
+    @DisplayName("Loading a background should rebuild heights and set the held brick")
+    void testLoadBackground() {
+        int[][] cells = new int[25][10];
+        cells[24][0] = 3;
+        cells[20][5] = 4;
+        for (int j = 0; j < 10; j++) {
+            cells[22][j] = j == 9 ? 0 : 1;
+        }
+        Brick held = new TBrick();
+
+        gameBoard.loadBackground(cells, held);
+
+        assertArrayEquals(cells, gameBoard.getBoardMatrix());
+        assertNotSame(cells[0], gameBoard.getBoardMatrix()[0], "Cells should be copied");
+        assertEquals(3, gameBoard.getColumnHeight(0), "Column 0 tops out at row 22");
+        assertEquals(5, gameBoard.getColumnHeight(5));
+        assertEquals(0, gameBoard.getColumnHeight(9));
+        assertSame(held, gameBoard.getHeldBrick());
+        assertEquals(-1L, gameBoard.pollDirtyRows());
+    }
+
+    @Test
+    @DisplayName("Ghost and hard drop should match a step-down search after a kick above row 0")
+    void testGhostAfterUpwardKick() {
+        GameBoard board = new GameBoard(25, 10, new BrickGenerator() {
+            @Override
+            public Brick getBrick() {
+                return new JBrick();
+            }
+
+            @Override
+            public Brick getNextBrick() {
+                return new JBrick();
+            }
+        });
+        int[][] cells = new int[25][10];
+        // Blockers that leave only the upward kick for the second rotation, and an overhang at the top of column 9
+        cells[2][3] = 1;
+        cells[2][6] = 1;
+        cells[0][9] = 1;
+        for (int row = 1; row < 25; row++) {
+            cells[row][0] = 1;
+        }
+        board.loadBackground(cells, NullBrick.getInstance());
+        assertFalse(board.createNewBrick());
+
+        assertTrue(board.rotateLeftBrick());
+        assertTrue(board.rotateLeftBrick());
+        assertEquals(-1, board.getBrickY(), "The rotation should have kicked the brick above row 0");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(board.moveBrickRight());
+        }
+        assertEquals(-1, board.getBrickY());
+
+        // The brick now sits under the overhang in column 9, so the heights alone cannot place it
+        PieceTable.Rotation rotation = board.getCurrentBrick().getPieceTable().getRotation(board.getBrickRotation());
+        int expected = board.getBrickY();
+        while (!MatrixOperations.intersect(board.getBoardMatrix(), rotation, board.getBrickX(), expected + 1)) {
+            expected++;
+        }
+        assertTrue(expected > board.getBrickY(), "The brick should be free to fall");
+        assertEquals(expected, board.getViewData().getGhostYPosition());
+
+        assertEquals(expected + 1, board.hardDropBrick());
+        assertEquals(expected, board.getBrickY());
+    }
+
+    @Test
+    @DisplayName("Moves, rotations and wall kicks should not allocate in steady state")
+    void testMovesDoNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters unavailable");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters unsupported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        gameBoard.createNewBrick();
+        exerciseMoves(20_000); // warm up
+
+        // Best of several rounds, so one-off JIT or profiling activity cannot fail the test
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated > 0; round++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            exerciseMoves(20_000);
+            allocated = Math.min(allocated, threadBean.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0, allocated, "Move path allocated " + allocated + " bytes");
+    }
+
+    // Pushes the brick against both walls and the floor, rotating so that wall kicks are probed
+    private void exerciseMoves(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            if (i % 2 == 1) {
+                gameBoard.rotateLeftBrick();
+                continue;
+            }
+            switch ((i / 16) % 3) {
+                case 0 -> gameBoard.moveBrickLeft();
+                case 1 -> gameBoard.moveBrickRight();
+                default -> gameBoard.moveBrickDown();
+            }
+        }
+    }
+}
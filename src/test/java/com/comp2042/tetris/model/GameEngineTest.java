@@ -0,0 +1,252 @@
+package com.comp2042.tetris.model;
+
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.util.MatrixOperations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Game Engine Tests")
+class GameEngineTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(new GameBoard(25, 10));
+        engine.start();
+    }
+
+    @Test
+    @DisplayName("Should award soft drop points only for soft drops")
+    void testSoftDropPoints() {
+        assertTrue(engine.moveDown(false));
+        assertEquals(0, engine.getStats().getScore());
+
+        assertTrue(engine.moveDown(true));
+        assertEquals(GameEngine.SOFT_DROP_POINTS, engine.getStats().getScore());
+    }
+
+    @Test
+    @DisplayName("Should award hard drop points per row and lock the brick")
+    void testHardDrop() {
+        int distance = engine.hardDrop();
+
+        assertTrue(distance > 0);
+        assertEquals(distance * GameEngine.HARD_DROP_POINTS, engine.getStats().getScore());
+        assertNotNull(engine.getLastClearRow());
+        assertEquals(0, engine.getLastClearRow().getLinesRemoved());
+    }
+
+    @Test
+    @DisplayName("Should play complete games headlessly and reset for a new game")
+    void testHeadlessGames() {
+        Random random = new Random(3);
+        int games = 0;
+        while (games < 20) {
+            switch (random.nextInt(5)) {
+                case 0 -> engine.moveLeft();
+                case 1 -> engine.moveRight();
+                case 2 -> engine.rotate();
+                case 3 -> engine.hold();
+                default -> engine.hardDrop();
+            }
+            GameStats stats = engine.getStats();
+            assertTrue(stats.getLevel() >= GameStats.STARTING_LEVEL && stats.getLevel() <= GameStats.MAX_LEVEL);
+            assertTrue(stats.getScore() >= 0);
+            if (engine.isGameOver()) {
+                engine.newGame();
+                games++;
+                assertEquals(0, stats.getScore());
+                assertEquals(0, stats.getTotalLinesCleared());
+                assertFalse(engine.isGameOver());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Stats listeners should see score, level and line changes")
+    void testStatsListener() {
+        GameStats stats = new GameStats();
+        int[] observed = new int[4];
+        stats.addListener(new GameStatsListener() {
+            @Override
+            public void onScoreChanged(int score) {
+                observed[0] = score;
+            }
+
+            @Override
+            public void onLevelChanged(int level) {
+                observed[1] = level;
+            }
+
+            @Override
+            public void onLinesChanged(int totalLinesCleared, int linesToNextLevel) {
+                observed[2] = totalLinesCleared;
+                observed[3] = linesToNextLevel;
+            }
+        });
+
+        stats.addScore(800);
+        stats.addLinesCleared(9);
+
+        assertArrayEquals(new int[]{800, 3, 9, 3}, observed);
+        assertEquals(300, stats.getCurrentSpeed());
+
+        stats.reset();
+        assertArrayEquals(new int[]{0, 1, 0, 4}, observed);
+    }
+
+    @Test
+    @DisplayName("JavaFX adapters should mirror shared stats")
+    void testAdaptersMirrorStats() {
+        GameStats stats = new GameStats();
+        LevelManager levelManager = new LevelManager(stats);
+
+        stats.addLinesCleared(4);
+
+        assertEquals(2, levelManager.currentLevelProperty().get());
+        assertEquals(4, levelManager.totalLinesClearedProperty().get());
+        assertEquals(4, levelManager.linesToNextLevelProperty().get());
+    }
+
+    @Test
+    @DisplayName("Restoring a snapshot should replay the same future")
+    void testSnapshotRestore() {
+        GameEngine game = new GameEngine(new GameBoard(25, 10, new RandomBrickGenerator(16)));
+        game.start();
+        playMoves(game, new Random(1), 300);
+        int[] snapshot = new int[game.getSnapshotSize()];
+        game.snapshot(snapshot, 0);
+        long hash = game.getBoard().getHash();
+
+        // Play on past several bag refills, then roll back and play the same moves again
+        playMoves(game, new Random(2), 400);
+        int[][] board = MatrixOperations.copy(game.getBoard().getBoardMatrix());
+        int score = game.getStats().getScore();
+        int level = game.getStats().getLevel();
+        long futureHash = game.getBoard().getHash();
+
+        game.restore(snapshot, 0);
+        assertEquals(hash, game.getBoard().getHash());
+        playMoves(game, new Random(2), 400);
+        assertArrayEquals(board, game.getBoard().getBoardMatrix());
+        assertEquals(score, game.getStats().getScore());
+        assertEquals(level, game.getStats().getLevel());
+        assertEquals(futureHash, game.getBoard().getHash());
+    }
+
+    @Test
+    @DisplayName("Restoring a snapshot should not notify stats listeners")
+    void testRestoreIsSilent() {
+        GameEngine game = new GameEngine(new GameBoard(25, 10, new RandomBrickGenerator(6)));
+        game.start();
+        int[] snapshot = new int[game.getSnapshotSize()];
+        game.snapshot(snapshot, 0);
+        // Snapshots start with the score and the cleared line total; nine lines is level 3
+        snapshot[0] = 1234;
+        snapshot[1] = 9;
+
+        int[] events = new int[1];
+        game.getStats().addListener(new GameStatsListener() {
+            @Override
+            public void onScoreChanged(int score) {
+                events[0]++;
+            }
+
+            @Override
+            public void onLevelChanged(int level) {
+                events[0]++;
+            }
+
+            @Override
+            public void onLinesChanged(int totalLinesCleared, int linesToNextLevel) {
+                events[0]++;
+            }
+        });
+        game.getStats().reset();
+        events[0] = 0;
+        game.restore(snapshot, 0);
+
+        assertEquals(0, events[0]);
+        assertEquals(1234, game.getStats().getScore());
+        assertEquals(3, game.getStats().getLevel());
+        assertEquals(3, game.getStats().getLinesToNextLevel());
+        game.getStats().notifyListeners();
+        assertEquals(3, events[0]);
+    }
+
+    @Test
+    @DisplayName("Snapshots should move between board implementations")
+    void testSnapshotAcrossBoards() {
+        GameEngine source = new GameEngine(new GameBoard(25, 10, new RandomBrickGenerator(4)));
+        GameEngine target = new GameEngine(new BitboardGameBoard(25, 10, new RandomBrickGenerator(5)));
+        source.start();
+        target.start();
+        playMoves(source, new Random(4), 250);
+        assertEquals(source.getSnapshotSize(), target.getSnapshotSize());
+
+        int[] snapshot = new int[source.getSnapshotSize()];
+        source.snapshot(snapshot, 0);
+        target.restore(snapshot, 0);
+        playMoves(source, new Random(5), 200);
+        playMoves(target, new Random(5), 200);
+        assertArrayEquals(source.getBoard().getBoardMatrix(), target.getBoard().getBoardMatrix());
+        assertEquals(source.getStats().getScore(), target.getStats().getScore());
+    }
+
+    @Test
+    @DisplayName("Snapshot and restore should not allocate")
+    void testSnapshotDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters unavailable");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters unsupported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        GameEngine game = new GameEngine(new BitboardGameBoard(25, 10, new RandomBrickGenerator(7)));
+        game.start();
+        playMoves(game, new Random(7), 100);
+        int[] snapshot = new int[game.getSnapshotSize()];
+        for (int i = 0; i < 2000; i++) {
+            game.snapshot(snapshot, 0);
+            game.restore(snapshot, 0);
+        }
+
+        // Best of several rounds, so one-off JIT or profiling activity cannot fail the test
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated > 0; round++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < 2000; i++) {
+                game.snapshot(snapshot, 0);
+                game.restore(snapshot, 0);
+            }
+            allocated = Math.min(allocated, threadBean.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0, allocated, "Snapshot and restore allocated " + allocated + " bytes");
+    }
+
+    // Applies random moves, starting a new game whenever one ends
+    private void playMoves(GameEngine game, Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            if (game.isGameOver()) {
+                game.newGame();
+            }
+            switch (random.nextInt(6)) {
+                case 0 -> game.moveLeft();
+                case 1 -> game.moveRight();
+                case 2 -> game.rotate();
+                case 3 -> game.hold();
+                case 4 -> game.moveDown(true);
+                default -> game.hardDrop();
+            }
+        }
+    }
+}
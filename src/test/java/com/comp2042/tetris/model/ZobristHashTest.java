@@ -0,0 +1,198 @@
+package com.comp2042.tetris.model;
+
+import com.comp2042.tetris.model.piece.Brick;
+import com.comp2042.tetris.model.piece.BrickFactory;
+import com.comp2042.tetris.model.piece.BrickGenerator;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.model.piece.types.NullBrick;
+import com.comp2042.tetris.util.MatrixOperations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Zobrist Hash Tests")
+class ZobristHashTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    @DisplayName("Incremental hash should match a hash rebuilt from the matrix")
+    void testIncrementalMatchesRebuild() {
+        GameEngine engine = new GameEngine(new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(15)));
+        Random random = new Random(15);
+        engine.start();
+        int clears = 0;
+        for (int piece = 0; piece < 3000; piece++) {
+            if (engine.isGameOver()) {
+                engine.newGame();
+            }
+            playRandomPiece(engine, random);
+            if (engine.getLastClearRow() != null && engine.getLastClearRow().getLinesRemoved() > 0) {
+                clears++;
+            }
+
+            Board board = engine.getBoard();
+            ZobristHash rebuilt = new ZobristHash(ROWS, COLUMNS);
+            rebuilt.load(board.getBoardMatrix());
+            assertEquals(rebuilt.getPlayfield(), playfieldHash(board), "Hash drifted at piece " + piece);
+        }
+        assertTrue(clears > 0, "The game should have cleared rows");
+    }
+
+    @Test
+    @DisplayName("GameBoard and BitboardGameBoard should hash the same game identically")
+    void testBoardsAgree() {
+        GameEngine reference = new GameEngine(new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(6)));
+        GameEngine bitboard = new GameEngine(new BitboardGameBoard(ROWS, COLUMNS, new RandomBrickGenerator(6)));
+        reference.start();
+        bitboard.start();
+        for (int piece = 0; piece < 2000 && !reference.isGameOver(); piece++) {
+            // Same seeds give the same moves on both boards
+            playRandomPiece(reference, new Random(piece));
+            playRandomPiece(bitboard, new Random(piece));
+            assertEquals(reference.getBoard().getHash(), bitboard.getBoard().getHash(), "Boards differ at piece " + piece);
+        }
+    }
+
+    @Test
+    @DisplayName("Distinct states seen in play should not collide")
+    void testNoCollisions() {
+        Map<Long, String> seen = new HashMap<>();
+        Random random = new Random(42);
+        for (int game = 0; game < 300; game++) {
+            GameEngine engine = new GameEngine(new GameBoard(ROWS, COLUMNS, new RandomBrickGenerator(game)));
+            engine.start();
+            for (int move = 0; move < 4000 && !engine.isGameOver(); move++) {
+                switch (random.nextInt(8)) {
+                    case 0 -> engine.moveLeft();
+                    case 1 -> engine.moveRight();
+                    case 2 -> engine.rotate();
+                    case 3 -> engine.hold();
+                    case 4 -> engine.hardDrop();
+                    case 5 -> engine.moveDown(false);
+                    default -> {
+                        // Mostly sideways moves, so pieces wander before landing
+                        if (random.nextBoolean()) {
+                            engine.moveLeft();
+                        } else {
+                            engine.moveRight();
+                        }
+                    }
+                }
+                Board board = engine.getBoard();
+                String state = describe(board);
+                String previous = seen.putIfAbsent(board.getHash(), state);
+                if (previous != null) {
+                    assertEquals(previous, state, "Two states share a hash");
+                }
+            }
+        }
+        assertTrue(seen.size() > 10000, "Too few distinct states to be meaningful: " + seen.size());
+    }
+
+    @Test
+    @DisplayName("Transpositions should hash equally and every state field should change the hash")
+    void testStateFields() {
+        Brick t = BrickFactory.createBrick(BrickFactory.BrickType.T);
+        GameBoard first = boardWith(t);
+        GameBoard second = boardWith(t);
+
+        // Different move orders reaching the same position
+        first.moveBrickLeft();
+        first.moveBrickDown();
+        first.rotateLeftBrick();
+        second.rotateLeftBrick();
+        second.moveBrickDown();
+        second.moveBrickLeft();
+        assertEquals(first.getHash(), second.getHash());
+
+        long before = first.getHash();
+        first.moveBrickDown();
+        assertNotEquals(before, first.getHash(), "Row should matter");
+        before = first.getHash();
+        first.moveBrickRight();
+        assertNotEquals(before, first.getHash(), "Column should matter");
+        before = first.getHash();
+        first.rotateLeftBrick();
+        assertNotEquals(before, first.getHash(), "Rotation should matter");
+
+        // Holding swaps in an identical T, so only the hold slot and the used flag change
+        GameBoard held = boardWith(t);
+        GameBoard fresh = boardWith(t);
+        held.holdBrick();
+        assertNotEquals(fresh.getHash(), held.getHash(), "Hold state should matter");
+
+        // A full line clear restores the empty playfield hash
+        int[][] cells = new int[ROWS][COLUMNS];
+        for (int column = 0; column < COLUMNS; column++) {
+            cells[ROWS - 1][column] = 1;
+        }
+        fresh.loadBackground(cells, NullBrick.getInstance());
+        fresh.clearRows();
+        assertEquals(boardWith(t).getHash(), fresh.getHash());
+    }
+
+    // Plays one piece with a few random moves, then a hard drop
+    private void playRandomPiece(GameEngine engine, Random random) {
+        for (int i = random.nextInt(4); i > 0; i--) {
+            engine.rotate();
+        }
+        int shift = random.nextInt(11) - 5;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                engine.moveLeft();
+            } else {
+                engine.moveRight();
+            }
+        }
+        engine.hardDrop();
+    }
+
+    // Extracts the playfield part of a board's hash, just after a spawn (hold available)
+    private long playfieldHash(Board board) {
+        ZobristHash keys = new ZobristHash(ROWS, COLUMNS);
+        return board.getHash()
+                ^ keys.pieceKey(board.getCurrentBrick().getPieceTable(), board.getBrickRotation(),
+                        board.getBrickX(), board.getBrickY())
+                ^ keys.holdKey(board.getHeldBrick(), true);
+    }
+
+    // Describes the full hashed state: occupancy, falling brick and hold slot
+    private String describe(Board board) {
+        StringBuilder state = new StringBuilder();
+        for (int[] row : MatrixOperations.copy(board.getBoardMatrix())) {
+            for (int cell : row) {
+                state.append(cell == 0 ? '.' : '#');
+            }
+        }
+        return state.append(' ').append(board.getCurrentBrick().getPieceTable().getType())
+                .append(' ').append(board.getBrickRotation())
+                .append(' ').append(board.getBrickX())
+                .append(' ').append(board.getBrickY())
+                .append(' ').append(board.getHeldBrick().getPieceTable().getType())
+                .toString();
+    }
+
+    // Creates a board whose falling brick is always the given one
+    private GameBoard boardWith(Brick brick) {
+        GameBoard board = new GameBoard(ROWS, COLUMNS, new BrickGenerator() {
+            @Override
+            public Brick getBrick() {
+                return brick;
+            }
+
+            @Override
+            public Brick getNextBrick() {
+                return brick;
+            }
+        });
+        board.createNewBrick();
+        return board;
+    }
+}
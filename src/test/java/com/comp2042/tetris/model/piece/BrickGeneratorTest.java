@@ -187,4 +187,40 @@ class BrickGeneratorTest {
             }
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Same seed should deal the same sequence")
+    void testSeededSequenceIsReproducible() {
+        RandomBrickGenerator first = new RandomBrickGenerator(1234L);
+        RandomBrickGenerator second = new RandomBrickGenerator(1234L);
+
+        for (int i = 0; i < 70; i++) {
+            assertEquals(first.getBrick().getClass(), second.getBrick().getClass(), "Diverged at brick " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Forked generators should be reproducible and independent of their parent")
+    void testForkedStreams() {
+        RandomBrickGenerator parent = new RandomBrickGenerator(99L);
+        RandomBrickGenerator child = parent.fork();
+        RandomBrickGenerator sameChild = new RandomBrickGenerator(99L).fork();
+
+        // Drawing from the child must not change what the parent deals next
+        RandomBrickGenerator untouchedParent = new RandomBrickGenerator(99L);
+        untouchedParent.fork();
+        List<Class<?>> childSequence = new ArrayList<>();
+        for (int i = 0; i < 35; i++) {
+            Class<?> type = child.getBrick().getClass();
+            childSequence.add(type);
+            assertEquals(type, sameChild.getBrick().getClass());
+        }
+        List<Class<?>> parentSequence = new ArrayList<>();
+        for (int i = 0; i < 35; i++) {
+            Class<?> type = parent.getBrick().getClass();
+            parentSequence.add(type);
+            assertEquals(type, untouchedParent.getBrick().getClass());
+        }
+        assertNotEquals(parentSequence, childSequence, "Child stream should differ from the parent");
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042.tetris.model.piece;
+
+import com.comp2042.tetris.model.piece.types.NullBrick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Piece Table Tests")
+class PieceTableTest {
+
+    @ParameterizedTest
+    @EnumSource(BrickFactory.BrickType.class)
+    @DisplayName("Rotations should match the brick's shape matrices")
+    void testRotationsMatchShapes(BrickFactory.BrickType type) {
+        Brick brick = BrickFactory.createBrick(type);
+        List<int[][]> shapes = brick.getShapeMatrix();
+        PieceTable table = brick.getPieceTable();
+
+        assertSame(PieceTable.forType(type), table, "Bricks of one type should share a table");
+        assertEquals(type, table.getType());
+        assertEquals(shapes.size(), table.getRotationCount());
+        for (int r = 0; r < shapes.size(); r++) {
+            assertArrayEquals(shapes.get(r), table.getRotation(r).toMatrix());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(BrickFactory.BrickType.class)
+    @DisplayName("Cell offsets, masks and bounding boxes should agree")
+    void testCompactData(BrickFactory.BrickType type) {
+        PieceTable table = PieceTable.forType(type);
+        for (int r = 0; r < table.getRotationCount(); r++) {
+            PieceTable.Rotation rotation = table.getRotation(r);
+            int[][] shape = rotation.toMatrix();
+
+            assertEquals(4, rotation.getCellCount());
+            assertEquals(4, Integer.bitCount(rotation.getMask()));
+            for (int cell = 0; cell < rotation.getCellCount(); cell++) {
+                int row = rotation.getCellRow(cell);
+                int column = rotation.getCellColumn(cell);
+                assertEquals(rotation.getColor(), shape[row][column]);
+                assertTrue(rotation.isFilled(row, column));
+                assertTrue(row >= rotation.getMinRow() && row <= rotation.getMaxRow());
+                assertTrue(column >= rotation.getMinColumn() && column <= rotation.getMaxColumn());
+                assertNotEquals(0, rotation.getRowMask(row) & (1 << column));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(BrickFactory.BrickType.class)
+    @DisplayName("Wall kicks should depend on the brick type, not its cell count")
+    void testKickTables(BrickFactory.BrickType type) {
+        int expected = switch (type) {
+            case I -> 17;
+            case O -> 0;
+            default -> 5;
+        };
+        PieceTable table = PieceTable.forType(type);
+        for (int r = 0; r < table.getRotationCount(); r++) {
+            PieceTable.Rotation rotation = table.getRotation(r);
+            assertEquals(expected, rotation.getKickCount());
+            for (int kick = 0; kick < rotation.getKickCount(); kick++) {
+                int dx = rotation.getKickX(kick);
+                int dy = rotation.getKickY(kick);
+                assertFalse(dx == 0 && dy == 0, "A kick should move the brick");
+                // Only the I brick is long enough to need two-column kicks
+                assertTrue(Math.abs(dx) <= (type == BrickFactory.BrickType.I ? 2 : 1));
+            }
+        }
+        assertEquals(0, PieceTable.EMPTY.getRotation(0).getKickCount());
+    }
+
+    @Test
+    @DisplayName("Copies returned by toMatrix should not affect the shared table")
+    void testToMatrixReturnsCopy() {
+        PieceTable.Rotation rotation = PieceTable.forType(BrickFactory.BrickType.T).getRotation(0);
+        int[][] copy = rotation.toMatrix();
+        copy[1][0] = 0;
+
+        assertNotSame(copy, rotation.toMatrix());
+        assertEquals(6, rotation.toMatrix()[1][0]);
+    }
+
+    @Test
+    @DisplayName("NullBrick should use the empty table")
+    void testEmptyTable() {
+        PieceTable table = NullBrick.getInstance().getPieceTable();
+
+        assertSame(PieceTable.EMPTY, table);
+        assertNull(table.getType());
+        assertEquals(1, table.getRotationCount());
+        assertEquals(0, table.getRotation(0).getCellCount());
+        assertEquals(0, table.getRotation(0).getMask());
+    }
+}
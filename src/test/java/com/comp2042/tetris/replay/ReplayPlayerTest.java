@@ -0,0 +1,146 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.BitboardGameBoard;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import com.comp2042.tetris.util.MatrixOperations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Replay Player Tests")
+class ReplayPlayerTest {
+
+    private static final long SEED = 2025L;
+    private static final EventType[] TYPES = EventType.values();
+
+    private Replay replay;
+    // Board and score right after each piece locked, indexed by piece number
+    private final List<int[][]> boards = new ArrayList<>();
+    private final List<Integer> scores = new ArrayList<>();
+    private int[][] finalBoard;
+    private int finalScore;
+
+    @BeforeEach
+    void recordSession() {
+        GameEngine engine = new GameEngine(new GameBoard(25, 10, new RandomBrickGenerator(SEED)));
+        ReplayRecorder recorder = new ReplayRecorder(SEED, 25, 10);
+        Random random = new Random(8);
+        engine.start();
+        boards.add(MatrixOperations.copy(engine.getBoard().getBoardMatrix()));
+        scores.add(0);
+
+        long tick = 0;
+        while (boards.size() <= 1200) {
+            tick += random.nextInt(300);
+            if (engine.isGameOver()) {
+                recorder.recordNewGame(tick);
+                engine.newGame();
+                continue;
+            }
+            EventType type = random.nextInt(8) == 0 ? EventType.INSTANT_DROP : TYPES[random.nextInt(TYPES.length)];
+            EventSource source = random.nextBoolean() ? EventSource.USER : EventSource.THREAD;
+            recorder.record(type, source, tick);
+            if (engine.apply(type, source)) {
+                boards.add(MatrixOperations.copy(engine.getBoard().getBoardMatrix()));
+                scores.add(engine.getStats().getScore());
+            }
+        }
+        // Trailing moves after the last lock
+        recorder.record(EventType.LEFT, EventSource.USER, tick + 1);
+        engine.moveLeft();
+
+        replay = recorder.toReplay();
+        finalBoard = MatrixOperations.copy(engine.getBoard().getBoardMatrix());
+        finalScore = engine.getStats().getScore();
+    }
+
+    @Test
+    @DisplayName("Playing to the end should reproduce the recorded game")
+    void testPlayToEnd() {
+        ReplayPlayer player = new ReplayPlayer(replay);
+
+        assertEquals(replay.getEventCount(), player.playToEnd());
+        assertArrayEquals(finalBoard, player.getBoard().getBoardMatrix());
+        assertEquals(finalScore, player.getStats().getScore());
+        assertEquals(boards.size() - 1, player.getPieceIndex());
+    }
+
+    @Test
+    @DisplayName("Seeking without keyframes should simulate from the start")
+    void testSeekWithoutKeyframes() {
+        ReplayPlayer player = new ReplayPlayer(replay);
+
+        assertEquals(500, player.seekToPiece(500));
+        assertArrayEquals(boards.get(500), player.getBoard().getBoardMatrix());
+        assertEquals(20, player.seekToPiece(20));
+        assertArrayEquals(boards.get(20), player.getBoard().getBoardMatrix());
+    }
+
+    @Test
+    @DisplayName("Seeking through keyframes should reach the same state in any order")
+    void testSeekWithKeyframes() {
+        Replay indexed = ReplayPlayer.index(replay, 50);
+        assertFalse(indexed.getKeyframes().isEmpty());
+
+        ReplayPlayer player = new ReplayPlayer(indexed);
+        Random random = new Random(3);
+        for (int i = 0; i < 60; i++) {
+            int target = random.nextInt(boards.size());
+            assertEquals(target, player.seekToPiece(target));
+            assertArrayEquals(boards.get(target), player.getBoard().getBoardMatrix(), "Wrong board at piece " + target);
+            assertEquals(scores.get(target), player.getStats().getScore(), "Wrong score at piece " + target);
+        }
+
+        // Continuing after a seek must still match the recording
+        player.seekToPiece(1100);
+        player.playToEnd();
+        assertArrayEquals(finalBoard, player.getBoard().getBoardMatrix());
+        assertEquals(finalScore, player.getStats().getScore());
+    }
+
+    @Test
+    @DisplayName("Keyframes should survive the file format")
+    void testKeyframesInFile() throws IOException {
+        Replay indexed = ReplayPlayer.index(replay, ReplayPlayer.DEFAULT_KEYFRAME_INTERVAL);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        indexed.writeTo(out);
+        Replay loaded = Replay.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(indexed.getKeyframes().size(), loaded.getKeyframes().size());
+        ReplayPlayer player = new ReplayPlayer(loaded);
+        assertEquals(1150, player.seekToPiece(1150));
+        assertArrayEquals(boards.get(1150), player.getBoard().getBoardMatrix());
+    }
+
+    @Test
+    @DisplayName("Should replay on other Board implementations")
+    void testBitboardPlayback() {
+        ReplayPlayer player = new ReplayPlayer(ReplayPlayer.index(replay, 100), BitboardGameBoard::new);
+
+        player.seekToPiece(777);
+        assertArrayEquals(boards.get(777), player.getBoard().getBoardMatrix());
+        player.playToEnd();
+        assertArrayEquals(finalBoard, player.getBoard().getBoardMatrix());
+    }
+
+    @Test
+    @DisplayName("Seeking past the end should stop at the last piece")
+    void testSeekPastEnd() {
+        ReplayPlayer player = new ReplayPlayer(replay);
+
+        assertEquals(boards.size() - 1, player.seekToPiece(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,150 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.input.EventSource;
+import com.comp2042.tetris.input.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Replay Tests")
+class ReplayTest {
+
+    @Test
+    @DisplayName("Should decode exactly the recorded events")
+    void testRoundTrip() {
+        ReplayRecorder recorder = new ReplayRecorder(42L, 25, 10);
+        Random random = new Random(1);
+        EventType[] types = new EventType[5000];
+        EventSource[] sources = new EventSource[types.length];
+        long[] ticks = new long[types.length];
+        long tick = 0;
+        for (int i = 0; i < types.length; i++) {
+            // Mostly short gaps with the occasional long pause
+            tick += random.nextInt(10) == 0 ? random.nextInt(100_000) : random.nextInt(500);
+            ticks[i] = tick;
+            if (i % 1000 == 999) {
+                recorder.recordNewGame(tick);
+                continue;
+            }
+            types[i] = EventType.values()[random.nextInt(EventType.values().length)];
+            sources[i] = EventSource.values()[random.nextInt(EventSource.values().length)];
+            recorder.record(types[i], sources[i], tick);
+        }
+
+        ReplayReader reader = recorder.toReplay().reader();
+        for (int i = 0; i < types.length; i++) {
+            assertTrue(reader.next());
+            assertEquals(i, reader.getIndex());
+            assertEquals(ticks[i], reader.getTick());
+            if (types[i] == null) {
+                assertTrue(reader.isNewGame());
+                assertNull(reader.getType());
+            } else {
+                assertFalse(reader.isNewGame());
+                assertEquals(types[i], reader.getType());
+                assertEquals(sources[i], reader.getSource());
+            }
+        }
+        assertFalse(reader.next());
+    }
+
+    @Test
+    @DisplayName("Events at typical input rates should take one or two bytes")
+    void testCompactEncoding() {
+        ReplayRecorder recorder = new ReplayRecorder(0, 25, 10);
+        for (int i = 0; i < 1000; i++) {
+            recorder.record(EventType.DOWN, EventSource.THREAD, (i + 1) * 500L);
+        }
+
+        assertEquals(1000, recorder.getEventCount());
+        assertEquals(2000, recorder.getEncodedLength(), "A 500ms gravity delta should encode in two bytes");
+
+        ReplayRecorder burst = new ReplayRecorder(0, 25, 10);
+        burst.record(EventType.LEFT, EventSource.USER, 5);
+        assertEquals(1, burst.getEncodedLength());
+    }
+
+    @Test
+    @DisplayName("Should reject ticks that go backwards")
+    void testRejectsDecreasingTicks() {
+        ReplayRecorder recorder = new ReplayRecorder(0, 25, 10);
+        recorder.record(EventType.LEFT, EventSource.USER, 100);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> recorder.record(EventType.LEFT, EventSource.USER, 99));
+    }
+
+    @Test
+    @DisplayName("Should survive writing to and reading from a stream")
+    void testFileFormat() throws IOException {
+        ReplayRecorder recorder = new ReplayRecorder(-7L, 20, 12);
+        recorder.record(EventType.ROTATE, EventSource.USER, 3);
+        recorder.record(EventType.DOWN, EventSource.THREAD, 503);
+        recorder.recordNewGame(600);
+        recorder.record(EventType.HOLD, EventSource.USER, 601);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toReplay().writeTo(out);
+        Replay replay = Replay.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(-7L, replay.getSeed());
+        assertEquals(20, replay.getRows());
+        assertEquals(12, replay.getColumns());
+        assertEquals(4, replay.getEventCount());
+        ReplayReader reader = replay.reader();
+        assertTrue(reader.next());
+        assertEquals(EventType.ROTATE, reader.getType());
+        assertTrue(reader.next());
+        assertEquals(EventSource.THREAD, reader.getSource());
+        assertEquals(503, reader.getTick());
+        assertTrue(reader.next());
+        assertTrue(reader.isNewGame());
+        assertTrue(reader.next());
+        assertEquals(EventType.HOLD, reader.getType());
+        assertFalse(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should reject data that is not a replay")
+    void testRejectsGarbage() {
+        assertThrows(IOException.class, () -> Replay.readFrom(new ByteArrayInputStream(new byte[32])));
+    }
+
+    @Test
+    @DisplayName("Recording should not allocate per event")
+    void testRecordingDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters unavailable");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters unsupported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        ReplayRecorder recorder = new ReplayRecorder(0, 25, 10);
+        recordEvents(recorder, 2000); // warm up within the initial buffer
+
+        // Best of several rounds, so one-off JIT or profiling activity cannot fail the test
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated > 0; round++) {
+            ReplayRecorder fresh = new ReplayRecorder(0, 25, 10);
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            recordEvents(fresh, 2000);
+            allocated = Math.min(allocated, threadBean.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0, allocated, "Recording allocated " + allocated + " bytes");
+    }
+
+    private void recordEvents(ReplayRecorder recorder, int count) {
+        for (int i = 0; i < count; i++) {
+            recorder.record(EventType.DOWN, EventSource.USER);
+        }
+    }
+}
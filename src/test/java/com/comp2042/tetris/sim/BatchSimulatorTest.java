@@ -0,0 +1,81 @@
+package com.comp2042.tetris.sim;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Batch Simulator Tests")
+class BatchSimulatorTest {
+
+    @Test
+    @DisplayName("Should aggregate every game of the seed range")
+    void testAggregates() {
+        SimulationResult result = new BatchSimulator(1000).run(0, 100, RandomPolicy::new);
+
+        assertEquals(100, result.getGames());
+        long bucketTotal = 0;
+        for (int i = 0; i < SimulationResult.SCORE_BUCKETS; i++) {
+            bucketTotal += result.getScoreBucket(i);
+        }
+        assertEquals(100, bucketTotal, "Every game should land in one score bucket");
+        long levelTotal = 0;
+        for (int level = 1; level <= 10; level++) {
+            levelTotal += result.getGamesAtLevel(level);
+        }
+        assertEquals(100, levelTotal, "Every game should reach exactly one final level");
+        assertTrue(result.getTotalPieces() >= 100);
+        assertTrue(result.getMinScore() <= result.getMeanScore() && result.getMeanScore() <= result.getMaxScore());
+        assertTrue(result.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("Results should not depend on how the batch is split across threads")
+    void testDeterministicAcrossParallelism() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            SimulationResult serial = new BatchSimulator(single, 25, 10, 500).run(42, 200, RandomPolicy::new);
+            SimulationResult parallel = new BatchSimulator(many, 25, 10, 500).run(42, 200, RandomPolicy::new);
+
+            assertEquals(serial.getTotalScore(), parallel.getTotalScore());
+            assertEquals(serial.getTotalLines(), parallel.getTotalLines());
+            assertEquals(serial.getTotalPieces(), parallel.getTotalPieces());
+            assertEquals(serial.getMinScore(), parallel.getMinScore());
+            assertEquals(serial.getMaxScore(), parallel.getMaxScore());
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop games at the piece limit")
+    void testPieceLimit() {
+        SimulationResult result = new BatchSimulator(3).run(7, 10, RandomPolicy::new);
+
+        assertEquals(30, result.getTotalPieces());
+    }
+
+    @Test
+    @DisplayName("Merging should combine partial results")
+    void testMerge() {
+        SimulationResult a = new SimulationResult();
+        SimulationResult b = new SimulationResult();
+        a.record(100, 1, 1, 10);
+        b.record(2500, 8, 3, 40);
+
+        a.merge(b);
+
+        assertEquals(2, a.getGames());
+        assertEquals(100, a.getMinScore());
+        assertEquals(2500, a.getMaxScore());
+        assertEquals(9, a.getTotalLines());
+        assertEquals(50, a.getTotalPieces());
+        assertEquals(1, a.getScoreBucket(0));
+        assertEquals(1, a.getScoreBucket(2));
+        assertEquals(1, a.getGamesAtLevel(3));
+    }
+}
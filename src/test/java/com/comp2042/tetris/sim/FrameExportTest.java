@@ -0,0 +1,137 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.input.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Frame Export Tests")
+class FrameExportTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("A published frame should follow the documented layout")
+    void testLayout() throws IOException {
+        Path file = directory.resolve("frames");
+        VectorEnv vector = new VectorEnv(null, 3, ROWS, COLUMNS, 0);
+        vector.resetAll(4);
+        vector.step(new int[]{EventType.INSTANT_DROP.ordinal(), EventType.HOLD.ordinal(), EventType.LEFT.ordinal()});
+
+        try (FrameExport export = new FrameExport(file, 3, ROWS, COLUMNS)) {
+            assertEquals(2, export.publish(vector));
+            MappedByteBuffer view = map(file);
+            assertEquals(FrameExport.MAGIC, view.getInt(0));
+            assertEquals(FrameExport.VERSION, view.getInt(4));
+            assertEquals(3, view.getInt(8));
+            assertEquals(ROWS, view.getInt(12));
+            assertEquals(COLUMNS, view.getInt(16));
+            int recordSize = view.getInt(20);
+            assertEquals(0, recordSize % 8);
+            assertEquals(2L, (long) LONGS.getAcquire(view, FrameExport.SEQUENCE_OFFSET));
+
+            byte[] expected = new byte[ROWS * COLUMNS];
+            byte[] actual = new byte[ROWS * COLUMNS];
+            for (int env = 0; env < 3; env++) {
+                int record = FrameExport.HEADER_SIZE + env * recordSize;
+                assertEquals(vector.getReward(env), view.getInt(record));
+                assertEquals(vector.getPiece(env), view.getInt(record + 8));
+                assertEquals(vector.getX(env), view.getInt(record + 16));
+                assertEquals(vector.getHeld(env), view.getInt(record + 28));
+                assertEquals(vector.canHold(env) ? 1 : 0, view.getInt(record + 32));
+                assertEquals(vector.getScore(env), view.getInt(record + 36));
+                vector.writeCells(env, expected, 0);
+                view.get(record + FrameExport.CELLS_OFFSET, actual);
+                assertArrayEquals(expected, actual);
+            }
+            assertNotEquals(-1, view.getInt(FrameExport.HEADER_SIZE + recordSize + 28), "Game 1 should hold a brick");
+            assertThrows(IllegalArgumentException.class, () -> export.publish(new VectorEnv(null, 2, ROWS, COLUMNS, 0)));
+        }
+    }
+
+    @Test
+    @DisplayName("A reader acknowledging every frame should see every reward exactly once")
+    void testHandshake() throws Exception {
+        Path file = directory.resolve("episode");
+        TetrisEnv env = new TetrisEnv(ROWS, COLUMNS, 2);
+        try (FrameExport export = new FrameExport(file, 1, ROWS, COLUMNS)) {
+            MappedByteBuffer view = map(file);
+            AtomicLong rewardTotal = new AtomicLong();
+            AtomicLong lastScore = new AtomicLong();
+            Thread reader = new Thread(() -> readFrames(view, rewardTotal, lastScore));
+            reader.start();
+
+            StepResult result = env.reset(12);
+            export.publish(result, 0);
+            assertTrue(export.awaitReader(TimeUnit.SECONDS.toNanos(5)));
+            int actions = 0;
+            while (!result.isDone()) {
+                int action = actions++ % 3 == 0 ? EventType.INSTANT_DROP.ordinal() : EventType.RIGHT.ordinal();
+                result = env.step(action);
+                export.publish(result, env.getEngine().getStats().getScore());
+                assertTrue(export.awaitReader(TimeUnit.SECONDS.toNanos(5)), "Reader stalled");
+            }
+            reader.join(5000);
+            assertFalse(reader.isAlive());
+
+            int score = env.getEngine().getStats().getScore();
+            assertTrue(score > 0);
+            assertEquals(score, lastScore.get());
+            assertEquals(score, rewardTotal.get());
+        }
+    }
+
+    // Reads frames with the seqlock protocol until one is done, acknowledging each
+    private void readFrames(MappedByteBuffer view, AtomicLong rewardTotal, AtomicLong lastScore) {
+        long consumed = 0;
+        while (true) {
+            long before = (long) LONGS.getAcquire(view, FrameExport.SEQUENCE_OFFSET);
+            if ((before & 1) != 0 || before == consumed) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int record = FrameExport.HEADER_SIZE;
+            int reward = view.getInt(record);
+            boolean done = view.getInt(record + 4) != 0;
+            int score = view.getInt(record + 36);
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getAcquire(view, FrameExport.SEQUENCE_OFFSET) != before) {
+                continue;
+            }
+            rewardTotal.addAndGet(reward);
+            lastScore.set(score);
+            consumed = before;
+            LONGS.setRelease(view, FrameExport.ACKNOWLEDGED_OFFSET, consumed);
+            if (done) {
+                return;
+            }
+        }
+    }
+
+    // Maps the file a second time, as an external reader would
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer view = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            view.order(ByteOrder.LITTLE_ENDIAN);
+            return view;
+        }
+    }
+}
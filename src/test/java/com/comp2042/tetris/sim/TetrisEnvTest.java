@@ -0,0 +1,133 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.input.EventType;
+import com.comp2042.tetris.model.GameBoard;
+import com.comp2042.tetris.model.GameEngine;
+import com.comp2042.tetris.model.piece.RandomBrickGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Tetris Environment Tests")
+class TetrisEnvTest {
+
+    @Test
+    @DisplayName("Reset should start the same game as a freshly seeded engine")
+    void testResetMatchesSeededGame() {
+        TetrisEnv env = new TetrisEnv(25, 10, 0);
+        for (long seed = 0; seed < 5; seed++) {
+            GameEngine reference = new GameEngine(new GameBoard(25, 10, new RandomBrickGenerator(seed)));
+            reference.start();
+            StepResult result = env.reset(seed);
+
+            assertEquals(0, result.getReward());
+            assertFalse(result.isDone());
+            assertEquals(-1, result.getHeld());
+            assertTrue(result.canHold());
+            for (int piece = 0; piece < 20 && !reference.isGameOver(); piece++) {
+                assertEquals(reference.getBoard().getCurrentBrick().getPieceTable().getType().ordinal(), result.getPiece());
+                assertEquals(reference.getBoard().getNextBrick().getPieceTable().getType().ordinal(), result.getNext());
+                reference.hardDrop();
+                result = env.step(EventType.INSTANT_DROP.ordinal());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Rewards should add up to the score and include clear bonuses")
+    void testRewards() {
+        TetrisEnv env = new TetrisEnv(25, 10, 0);
+        SplittableRandom random = new SplittableRandom(5);
+        long totalReward = 0;
+        int clears = 0;
+        StepResult result = env.reset(5);
+        for (int piece = 0; piece < 3000; piece++) {
+            if (result.isDone()) {
+                assertEquals(env.getEngine().getStats().getScore(), totalReward);
+                totalReward = 0;
+                result = env.reset(piece);
+            }
+            // Random rotation and shift, then a hard drop
+            for (int i = random.nextInt(4); i > 0; i--) {
+                totalReward += env.step(EventType.ROTATE.ordinal()).getReward();
+            }
+            int shift = random.nextInt(11) - 5;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                totalReward += env.step((shift < 0 ? EventType.LEFT : EventType.RIGHT).ordinal()).getReward();
+            }
+            result = env.step(EventType.INSTANT_DROP.ordinal());
+            totalReward += result.getReward();
+
+            // A lock earns its clear bonus plus the hard drop points
+            int bonus = env.getEngine().getLastClearRow().getScoreBonus();
+            assertEquals(0, (result.getReward() - bonus) % GameEngine.HARD_DROP_POINTS);
+            if (bonus > 0) {
+                clears++;
+            }
+        }
+        assertTrue(clears > 0, "The games should have cleared rows");
+    }
+
+    @Test
+    @DisplayName("Observation should mirror the board and the episode should end on top out")
+    void testObservationAndDone() {
+        TetrisEnv env = new TetrisEnv(25, 10, 0);
+        StepResult result = env.reset(1);
+        result = env.step(EventType.INSTANT_DROP.ordinal());
+        int filled = 0;
+        for (byte cell : result.getCells()) {
+            filled += cell;
+        }
+        assertEquals(4, filled, "One dropped brick should fill four cells");
+        assertEquals(25 * 10, result.getCells().length);
+
+        int steps = 0;
+        while (!result.isDone()) {
+            result = env.step(EventType.INSTANT_DROP.ordinal());
+            steps++;
+        }
+        assertTrue(steps < 25 * 10 / 4, "Dropping in place should top out quickly");
+        assertThrows(IllegalStateException.class, () -> env.step(0));
+        assertFalse(env.reset(2).isDone());
+        assertThrows(IllegalArgumentException.class, () -> env.step(TetrisEnv.ACTION_COUNT));
+    }
+
+    @Test
+    @DisplayName("Reset and step should not allocate")
+    void testStepDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters unavailable");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters unsupported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        TetrisEnv env = new TetrisEnv();
+        SplittableRandom random = new SplittableRandom(11);
+        env.reset(0);
+        playSteps(env, random, 50_000);
+
+        // Best of several rounds, so one-off JIT or profiling activity cannot fail the test
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated > 0; round++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            playSteps(env, random, 50_000);
+            allocated = Math.min(allocated, threadBean.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0, allocated, "Stepping allocated " + allocated + " bytes");
+    }
+
+    // Takes random actions, resetting whenever an episode ends
+    private void playSteps(TetrisEnv env, SplittableRandom random, int count) {
+        for (int i = 0; i < count; i++) {
+            if (env.step(random.nextInt(TetrisEnv.ACTION_COUNT)).isDone()) {
+                env.reset(i);
+            }
+        }
+    }
+}
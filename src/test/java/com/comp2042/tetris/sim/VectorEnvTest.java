@@ -0,0 +1,147 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.input.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Vector Environment Tests")
+class VectorEnvTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    @DisplayName("Every game should match a TetrisEnv given the same seed and actions")
+    void testMatchesTetrisEnv() {
+        int count = 300;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            VectorEnv vector = new VectorEnv(pool, count, ROWS, COLUMNS, 3);
+            TetrisEnv[] envs = new TetrisEnv[count];
+            StepResult[] results = new StepResult[count];
+            for (int env = 0; env < count; env++) {
+                envs[env] = new TetrisEnv(ROWS, COLUMNS, 3);
+                results[env] = envs[env].reset(env);
+            }
+            vector.resetAll(0);
+            for (int env = 0; env < count; env++) {
+                assertSameState(results[env], vector, env);
+            }
+
+            SplittableRandom random = new SplittableRandom(21);
+            int[] actions = new int[count];
+            byte[] cells = new byte[ROWS * COLUMNS];
+            int episodes = 0;
+            for (int step = 0; step < 1000; step++) {
+                for (int env = 0; env < count; env++) {
+                    // Mostly moves, so games last long enough to clear rows
+                    actions[env] = random.nextInt(10) == 0 ? EventType.INSTANT_DROP.ordinal()
+                            : random.nextInt(VectorEnv.ACTION_COUNT);
+                }
+                vector.step(actions);
+                for (int env = 0; env < count; env++) {
+                    results[env] = envs[env].step(actions[env]);
+                    assertSameState(results[env], vector, env);
+                    vector.writeCells(env, cells, 0);
+                    assertArrayEquals(results[env].getCells(), cells, "Boards differ in game " + env);
+                    if (results[env].isDone()) {
+                        long seed = count + (long) step * count + env;
+                        vector.reset(env, seed);
+                        assertSameState(envs[env].reset(seed), vector, env);
+                        episodes++;
+                    }
+                }
+            }
+            assertTrue(episodes > count, "Games should have ended and restarted: " + episodes);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Finished games should be skipped and bad actions rejected")
+    void testDoneAndValidation() {
+        VectorEnv vector = new VectorEnv(null, 2, ROWS, COLUMNS, 0);
+        assertTrue(vector.isDone(0), "Games should start finished until reset");
+        vector.reset(0, 7);
+        int[] drops = {EventType.INSTANT_DROP.ordinal(), EventType.INSTANT_DROP.ordinal()};
+        vector.step(drops);
+        assertTrue(vector.getReward(0) > 0);
+        assertEquals(0, vector.getReward(1));
+        assertTrue(vector.isDone(1));
+
+        while (!vector.isDone(0)) {
+            vector.step(drops);
+        }
+        int score = vector.getScore(0);
+        vector.step(drops);
+        assertEquals(score, vector.getScore(0));
+        assertEquals(0, vector.getRewards()[0]);
+
+        assertThrows(IllegalArgumentException.class, () -> vector.step(new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> vector.step(new int[]{0, VectorEnv.ACTION_COUNT}));
+        assertThrows(IllegalArgumentException.class, () -> new VectorEnv(null, 0, ROWS, COLUMNS, 0));
+    }
+
+    @Test
+    @DisplayName("Sequential stepping should not allocate")
+    void testStepDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters unavailable");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters unsupported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        VectorEnv vector = new VectorEnv(null, 64, ROWS, COLUMNS, 4);
+        vector.resetAll(0);
+        SplittableRandom random = new SplittableRandom(3);
+        int[] actions = new int[vector.getCount()];
+        playSteps(vector, random, actions, 2000);
+
+        // Best of several rounds, so one-off JIT or profiling activity cannot fail the test
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated > 0; round++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            playSteps(vector, random, actions, 2000);
+            allocated = Math.min(allocated, threadBean.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0, allocated, "Stepping allocated " + allocated + " bytes");
+    }
+
+    // Checks the falling brick, queue, reward and done flag of one game against a TetrisEnv result
+    private void assertSameState(StepResult expected, VectorEnv vector, int env) {
+        String game = "game " + env;
+        assertEquals(expected.getPiece(), vector.getPiece(env), game);
+        assertEquals(expected.getRotation(), vector.getRotation(env), game);
+        assertEquals(expected.getX(), vector.getX(env), game);
+        assertEquals(expected.getY(), vector.getY(env), game);
+        assertEquals(expected.getNext(), vector.getNext(env), game);
+        assertEquals(expected.getHeld(), vector.getHeld(env), game);
+        assertEquals(expected.canHold(), vector.canHold(env), game);
+        assertEquals(expected.getReward(), vector.getReward(env), game);
+        assertEquals(expected.isDone(), vector.isDone(env), game);
+    }
+
+    // Takes random actions in every game, resetting games as they end
+    private void playSteps(VectorEnv vector, SplittableRandom random, int[] actions, int count) {
+        for (int step = 0; step < count; step++) {
+            for (int env = 0; env < actions.length; env++) {
+                actions[env] = random.nextInt(VectorEnv.ACTION_COUNT);
+            }
+            vector.step(actions);
+            for (int env = 0; env < actions.length; env++) {
+                if (vector.isDone(env)) {
+                    vector.reset(env, step);
+                }
+            }
+        }
+    }
+}
@@ -132,6 +132,13 @@ class ColorMapperTest {
         assertEquals(0.6, strokeColor.getOpacity(), 0.01);
     }
 
+    @Test
+    @DisplayName("Ghost colors should be shared instances rather than created per call")
+    void testGhostColorsCached() {
+        assertSame(ColorMapper.getGhostColor(1), ColorMapper.getGhostColor(5));
+        assertSame(ColorMapper.getGhostStrokeColor(), ColorMapper.getGhostStrokeColor());
+    }
+
     @Test
     @DisplayName("Should return ghost stroke width")
     void testGhostStrokeWidth() {
@@ -0,0 +1,109 @@
+package com.comp2042.tetris.util;
+
+import com.comp2042.tetris.dto.ClearRow;
+import com.comp2042.tetris.model.piece.BrickFactory.BrickType;
+import com.comp2042.tetris.model.piece.PieceTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Row Clear Engine Tests")
+class RowClearEngineTest {
+
+    private static final int ROWS = 6;
+    private static final int COLUMNS = 4;
+
+    private int[][] matrix;
+    private RowClearEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        matrix = new int[ROWS][COLUMNS];
+        engine = new RowClearEngine(ROWS, COLUMNS);
+    }
+
+    @Test
+    @DisplayName("Should report no cleared rows when nothing is complete")
+    void testNoClear() {
+        engine.merge(matrix, rotation(BrickType.T, 0), 0, ROWS - 3);
+        int[] bottomRow = matrix[ROWS - 1];
+
+        assertEquals(0, engine.clearFullRows(matrix));
+        assertSame(bottomRow, matrix[ROWS - 1], "Rows should not move when nothing clears");
+        assertArrayEquals(new int[]{6, 6, 6, 0}, matrix[ROWS - 2]);
+        assertArrayEquals(new int[]{0, 6, 0, 0}, matrix[ROWS - 1]);
+    }
+
+    @Test
+    @DisplayName("Should clear non-adjacent rows in place and report their indices")
+    void testClearNonAdjacentRows() {
+        // Rows ROWS - 3 and ROWS - 1 complete; ROWS - 4 and ROWS - 2 stay partial
+        engine.merge(matrix, rotation(BrickType.L, 1), 1, ROWS - 4);
+        engine.merge(matrix, rotation(BrickType.J, 2), -1, ROWS - 3);
+        engine.merge(matrix, rotation(BrickType.O, 0), -1, ROWS - 5);
+
+        assertEquals(2, engine.clearFullRows(matrix));
+        assertEquals(2, engine.getClearedCount());
+        assertEquals(ROWS - 3, engine.getClearedRows()[0]);
+        assertEquals(ROWS - 1, engine.getClearedRows()[1]);
+
+        assertArrayEquals(new int[]{2, 0, 0, 3}, matrix[ROWS - 1]);
+        assertArrayEquals(new int[]{4, 4, 0, 0}, matrix[ROWS - 2]);
+        for (int i = 0; i < ROWS - 2; i++) {
+            assertArrayEquals(new int[COLUMNS], matrix[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep counting correctly after rows shift")
+    void testCountersFollowShiftedRows() {
+        engine.merge(matrix, rotation(BrickType.I, 0), 0, ROWS - 2);
+        engine.merge(matrix, rotation(BrickType.T, 2), 0, ROWS - 3);
+        assertEquals(1, engine.clearFullRows(matrix));
+
+        // The partial row is now at the bottom; completing it must be detected
+        engine.merge(matrix, rotation(BrickType.I, 1), 2, ROWS - 4);
+        assertEquals(1, engine.clearFullRows(matrix));
+        assertEquals(ROWS - 1, engine.getClearedRows()[0]);
+    }
+
+    @Test
+    @DisplayName("Should produce the same board as checkRemoving")
+    void testMatchesCheckRemoving() {
+        Random random = new Random(7);
+        BrickType[] types = BrickType.values();
+        for (int step = 0; step < 2000; step++) {
+            PieceTable table = PieceTable.forType(types[random.nextInt(types.length)]);
+            PieceTable.Rotation brick = table.getRotation(random.nextInt(table.getRotationCount()));
+            // Positions may push cells off the board, which merge must ignore
+            int x = random.nextInt(COLUMNS + 2) - 2;
+            int y = ROWS - 4 - random.nextInt(3);
+            engine.merge(matrix, brick, x, y);
+
+            ClearRow expected = MatrixOperations.checkRemoving(matrix);
+            assertEquals(expected.getLinesRemoved(), engine.clearFullRows(matrix));
+            assertArrayEquals(expected.getNewMatrix(), matrix, "Diverged at step " + step);
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild counters after external changes")
+    void testRecount() {
+        for (int j = 0; j < COLUMNS; j++) {
+            matrix[ROWS - 1][j] = 1;
+        }
+        assertEquals(0, engine.clearFullRows(matrix), "Direct writes are invisible until recount");
+
+        engine.recount(matrix);
+        assertEquals(1, engine.clearFullRows(matrix));
+    }
+
+    // Gets the shared rotation data of a brick type
+    private static PieceTable.Rotation rotation(BrickType type, int index) {
+        return PieceTable.forType(type).getRotation(index);
+    }
+}